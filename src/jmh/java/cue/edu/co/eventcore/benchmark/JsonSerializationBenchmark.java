@@ -0,0 +1,111 @@
+package cue.edu.co.eventcore.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.infrastructure.json.JsonCodecs;
+import cue.edu.co.eventcore.infrastructure.json.LocalDateTimeJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the hot response DTOs: the former standalone cache mapper (reflection,
+ * JavaTimeModule, per-call type lookup) against the shared tuned mapper through JsonCodecs
+ * Both produce the same JSON text, so the scores compare like for like
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"event", "participant", "attendance"})
+    private String dto;
+
+    private ObjectMapper baseline;
+    private ObjectWriter tunedWriter;
+    private ObjectReader tunedReader;
+    private Object value;
+    private Class<?> type;
+    private byte[] json;
+
+    @Setup
+    public void setUp() throws Exception {
+        baseline = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // Mirrors the Spring Boot mapper: well-known modules first, then the JacksonConfig modules
+        ObjectMapper tuned = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .addModule(new BlackbirdModule())
+                .addModule(new LocalDateTimeJsonModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        JsonCodecs codecs = new JsonCodecs(tuned);
+
+        LocalDateTime now = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+        value = switch (dto) {
+            case "event" -> EventResponseDto.builder()
+                    .id(42L).name("Spring Conference").description("Two days of talks and workshops")
+                    .location("Main Auditorium").startDate(now.plusDays(30)).endDate(now.plusDays(31))
+                    .capacity(500).currentAttendees(320).availableSpots(180).status(EventStatus.ACTIVE)
+                    .createdAt(now).updatedAt(now).build();
+            case "participant" -> ParticipantResponseDto.builder()
+                    .id(7L).firstName("Ana").lastName("Gomez").email("ana.gomez@example.com")
+                    .phone("+573001234567").documentNumber("1094000000").status(ParticipantStatus.ACTIVE)
+                    .createdAt(now).updatedAt(now).build();
+            case "attendance" -> AttendanceResponseDto.builder()
+                    .id(1001L).eventId(42L).participantId(7L).status(AttendanceStatus.CHECKED_IN)
+                    .registrationDate(now.minusDays(3)).checkInDate(now).notes("Front row")
+                    .createdAt(now.minusDays(3)).updatedAt(now).build();
+            default -> throw new IllegalArgumentException(dto);
+        };
+        type = value.getClass();
+        tunedWriter = codecs.writer(type);
+        tunedReader = codecs.reader(type);
+        json = baseline.writeValueAsBytes(value);
+
+        if (!new String(json).equals(new String(tunedWriter.writeValueAsBytes(value)))) {
+            throw new IllegalStateException("Tuned output differs from the baseline for " + dto);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeBaseline() throws Exception {
+        return baseline.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] writeTuned() throws Exception {
+        return tunedWriter.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object readBaseline() throws Exception {
+        return baseline.readValue(json, type);
+    }
+
+    @Benchmark
+    public Object readTuned() throws Exception {
+        return tunedReader.readValue(json);
+    }
+}
@@ -1,25 +1,44 @@
 package cue.edu.co.eventcore.api.controllers;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import cue.edu.co.eventcore.api.interceptors.RateLimited;
+import cue.edu.co.eventcore.api.support.ConditionalResponder;
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceHistoryDto;
 import cue.edu.co.eventcore.application.dtos.attendance.AttendanceRequestDto;
 import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.application.dtos.attendance.ParticipantSetDto;
+import cue.edu.co.eventcore.application.dtos.attendance.RegistrationTicketDto;
+import cue.edu.co.eventcore.application.dtos.attendance.WaitlistPositionDto;
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
 import cue.edu.co.eventcore.application.dtos.statistics.EventStatisticsDto;
 import cue.edu.co.eventcore.application.mappers.AttendanceDtoMapper;
 import cue.edu.co.eventcore.application.mappers.StatisticsDtoMapper;
+import cue.edu.co.eventcore.application.queries.AttendanceQueryService;
 import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import cue.edu.co.eventcore.domain.services.AttendanceService;
 import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.ratelimit.RateLimiter;
+import cue.edu.co.eventcore.infrastructure.registrationqueue.RegistrationQueueService;
+import cue.edu.co.eventcore.infrastructure.roster.RosterService;
+import cue.edu.co.eventcore.infrastructure.waitingroom.WaitingRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * REST Controller for Attendance management
@@ -32,29 +51,52 @@ import java.util.stream.Collectors;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final AttendanceQueryService attendanceQueryService;
     private final AttendanceDtoMapper attendanceDtoMapper;
     private final StatisticsDtoMapper statisticsDtoMapper;
     private final CacheService cacheService;
+    private final ConditionalResponder conditionalResponder;
+    private final RateLimiter rateLimiter;
+    private final WaitingRoomService waitingRoomService;
+    private final RosterService rosterService;
+    private final RegistrationQueueService registrationQueueService;
+    private final ResourceVersionRepository resourceVersionRepository;
+
+    private static final TypeReference<PageResponseDto<AttendanceHistoryDto>> HISTORY_PAGE =
+            new TypeReference<>() {
+            };
 
     @PostMapping
-    @Operation(summary = "Register participant to event")
-    public ResponseEntity<AttendanceResponseDto> registerAttendance(
+    @Operation(summary = "Register participant to event",
+            description = "Answers 202 Accepted with a ticket when the event queues its registrations")
+    @RateLimited("attendance-register")
+    public ResponseEntity<?> registerAttendance(
             @Valid @RequestBody AttendanceRequestDto requestDto) {
 
         log.info("Registering attendance for event {} and participant {}",
                 requestDto.getEventId(), requestDto.getParticipantId());
 
+        // Queued events absorb spikes in Redis, so the per-event database budget does not apply
+        if (registrationQueueService.isEnabled(requestDto.getEventId())) {
+            waitingRoomService.requireAdmission(requestDto.getEventId(), requestDto.getParticipantId());
+            RegistrationTicketDto ticket = registrationQueueService.enqueue(
+                    requestDto.getEventId(), requestDto.getParticipantId());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/attendances/tickets/" + ticket.getTicketId()))
+                    .body(ticket);
+        }
+
+        // Shared per-event budget, so one hot event cannot starve the connection pool
+        rateLimiter.acquire("attendance-register-event", "event:" + requestDto.getEventId());
+        waitingRoomService.requireAdmission(requestDto.getEventId(), requestDto.getParticipantId());
+
         Attendance attendance = attendanceService.registerAttendance(
                 requestDto.getEventId(),
                 requestDto.getParticipantId()
         );
 
         AttendanceResponseDto responseDto = attendanceDtoMapper.toResponseDto(attendance);
-
-        // Invalidate caches
-        cacheService.delete(CacheService.eventKey(requestDto.getEventId()));
-        cacheService.delete(CacheService.eventStatsKey(requestDto.getEventId()));
-        cacheService.delete(CacheService.eventAvailabilityKey(requestDto.getEventId()));
+        rosterService.record(attendance);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
@@ -64,12 +106,15 @@ public class AttendanceController {
     public ResponseEntity<AttendanceResponseDto> checkInAttendance(@PathVariable Long id) {
         log.info("Checking in attendance with id: {}", id);
 
+        // Event-day roster answers from memory; its flush job invalidates the statistics
+        Optional<Attendance> rostered = rosterService.checkIn(id);
+        if (rostered.isPresent()) {
+            return ResponseEntity.ok(attendanceDtoMapper.toResponseDto(rostered.get()));
+        }
+
         Attendance attendance = attendanceService.checkInAttendance(id);
         AttendanceResponseDto responseDto = attendanceDtoMapper.toResponseDto(attendance);
 
-        // Invalidate event statistics cache
-        cacheService.delete(CacheService.eventStatsKey(attendance.getEventId()));
-
         return ResponseEntity.ok(responseDto);
     }
 
@@ -80,24 +125,32 @@ public class AttendanceController {
 
         Attendance attendance = attendanceService.cancelAttendance(id);
         AttendanceResponseDto responseDto = attendanceDtoMapper.toResponseDto(attendance);
-
-        // Invalidate caches
-        cacheService.delete(CacheService.eventKey(attendance.getEventId()));
-        cacheService.delete(CacheService.eventStatsKey(attendance.getEventId()));
-        cacheService.delete(CacheService.eventAvailabilityKey(attendance.getEventId()));
+        rosterService.record(attendance);
 
         return ResponseEntity.ok(responseDto);
     }
 
+    @GetMapping("/tickets/{ticketId}")
+    @Operation(summary = "Get the outcome of a queued registration")
+    public ResponseEntity<RegistrationTicketDto> getRegistrationTicket(@PathVariable String ticketId) {
+        return ResponseEntity.ok(registrationQueueService.getTicket(ticketId));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get attendance by ID")
     public ResponseEntity<AttendanceResponseDto> getAttendanceById(@PathVariable Long id) {
         log.info("Getting attendance by id: {}", id);
 
-        Attendance attendance = attendanceService.getAttendanceById(id);
-        AttendanceResponseDto responseDto = attendanceDtoMapper.toResponseDto(attendance);
+        return ResponseEntity.ok(attendanceQueryService.getAttendanceById(id));
+    }
 
-        return ResponseEntity.ok(responseDto);
+    @GetMapping("/{id}/waitlist-position")
+    @Operation(summary = "Get waitlist position of an attendance")
+    public ResponseEntity<WaitlistPositionDto> getWaitlistPosition(@PathVariable Long id) {
+        return ResponseEntity.ok(WaitlistPositionDto.builder()
+                .attendanceId(id)
+                .position(attendanceService.getWaitlistPosition(id))
+                .build());
     }
 
     @GetMapping("/event/{eventId}")
@@ -105,12 +158,7 @@ public class AttendanceController {
     public ResponseEntity<List<AttendanceResponseDto>> getAttendancesByEvent(@PathVariable Long eventId) {
         log.info("Getting attendances for event: {}", eventId);
 
-        List<Attendance> attendances = attendanceService.getAttendancesByEvent(eventId);
-        List<AttendanceResponseDto> responseDtos = attendances.stream()
-                .map(attendanceDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responseDtos);
+        return ResponseEntity.ok(attendanceQueryService.getAttendancesByEvent(eventId));
     }
 
     @GetMapping("/participant/{participantId}")
@@ -120,22 +168,96 @@ public class AttendanceController {
 
         log.info("Getting attendances for participant: {}", participantId);
 
-        List<Attendance> attendances = attendanceService.getAttendancesByParticipant(participantId);
-        List<AttendanceResponseDto> responseDtos = attendances.stream()
-                .map(attendanceDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
+        return ResponseEntity.ok(attendanceQueryService.getAttendancesByParticipant(participantId));
+    }
 
-        return ResponseEntity.ok(responseDtos);
+    @GetMapping("/participant/{participantId}/history")
+    @Operation(summary = "Get the attendance history of a participant with event summaries")
+    public ResponseEntity<PageResponseDto<AttendanceHistoryDto>> getParticipantHistory(
+            @PathVariable Long participantId,
+            @RequestParam(required = false) AttendanceStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.info("Getting attendance history for participant: {}", participantId);
+
+        if (page < 0 || size < 1 || size > 100) {
+            throw new BusinessRuleException("Page must be at least 0 and size between 1 and 100");
+        }
+
+        // Event renames and status changes reach every history through the summaries version,
+        // which registrations and cancellations leave alone
+        OptionalLong eventsVersion = resourceVersionRepository.getVersion(ResourceVersionRepository.EVENT_SUMMARIES);
+        String statusToken = status != null ? status.name() : "ALL";
+        return conditionalResponder.respond(ResourceVersionRepository.participantAttendances(participantId), ifNoneMatch,
+                () -> loadParticipantHistory(participantId, status, page, size, eventsVersion),
+                versionToken(eventsVersion), statusToken, page, size);
+    }
+
+    @GetMapping("/participants/common")
+    @Operation(summary = "Get participants attending all given events")
+    public ResponseEntity<ParticipantSetDto> getParticipantsAttendingAll(@RequestParam List<Long> eventIds) {
+        log.info("Getting participants attending events: {}", eventIds);
+
+        return ResponseEntity.ok(toParticipantSet(attendanceService.getParticipantsAttendingAll(eventIds)));
+    }
+
+    @GetMapping("/event/{eventId}/not-checked-in")
+    @Operation(summary = "Get participants registered to an event who have not checked in")
+    public ResponseEntity<ParticipantSetDto> getParticipantsNotCheckedIn(@PathVariable Long eventId) {
+        log.info("Getting participants not checked in for event: {}", eventId);
+
+        return ResponseEntity.ok(toParticipantSet(attendanceService.getParticipantsNotCheckedIn(eventId)));
     }
 
     @GetMapping("/event/{eventId}/statistics")
     @Operation(summary = "Get event statistics")
-    public ResponseEntity<EventStatisticsDto> getEventStatistics(@PathVariable Long eventId) {
+    public ResponseEntity<EventStatisticsDto> getEventStatistics(
+            @PathVariable Long eventId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         log.info("Getting statistics for event: {}", eventId);
 
+        return conditionalResponder.respond(ResourceVersionRepository.eventStatistics(eventId), ifNoneMatch,
+                () -> loadEventStatistics(eventId));
+    }
+
+    private PageResponseDto<AttendanceHistoryDto> loadParticipantHistory(Long participantId, AttendanceStatus status,
+                                                                        int page, int size, OptionalLong eventsVersion) {
+        OptionalLong participantVersion = resourceVersionRepository.getVersion(
+                ResourceVersionRepository.participantAttendances(participantId));
+        if (participantVersion.isEmpty() || eventsVersion.isEmpty()) {
+            // Without versions a cached page could not be told apart from a stale one
+            return attendanceQueryService.getParticipantHistory(participantId, status, page, size);
+        }
+        String key = CacheService.participantHistoryKey(participantId, String.join(":",
+                versionToken(participantVersion), versionToken(eventsVersion), status != null ? status.name() : "ALL",
+                String.valueOf(page), String.valueOf(size)));
+
+        return cacheService.getAs(key, HISTORY_PAGE)
+                .orElseGet(() -> {
+                    PageResponseDto<AttendanceHistoryDto> history =
+                            attendanceQueryService.getParticipantHistory(participantId, status, page, size);
+                    cacheService.put(key, history, Duration.ofMinutes(10));
+                    return history;
+                });
+    }
+
+    private static String versionToken(OptionalLong version) {
+        return version.isPresent() ? Long.toHexString(version.getAsLong()) : "none";
+    }
+
+    private ParticipantSetDto toParticipantSet(List<Long> participantIds) {
+        return ParticipantSetDto.builder()
+                .count(participantIds.size())
+                .participantIds(participantIds)
+                .build();
+    }
+
+    private EventStatisticsDto loadEventStatistics(Long eventId) {
         // Try to get from cache first
         return cacheService.get(CacheService.eventStatsKey(eventId), EventStatisticsDto.class)
-                .map(ResponseEntity::ok)
                 .orElseGet(() -> {
                     AttendanceService.EventStatistics statistics = attendanceService.getEventStatistics(eventId);
                     EventStatisticsDto responseDto = statisticsDtoMapper.toDto(statistics);
@@ -143,7 +265,7 @@ public class AttendanceController {
                     // Store in cache with shorter TTL (5 minutes) since statistics change frequently
                     cacheService.put(CacheService.eventStatsKey(eventId), responseDto, Duration.ofMinutes(5));
 
-                    return ResponseEntity.ok(responseDto);
+                    return responseDto;
                 });
     }
 }
@@ -1,23 +1,48 @@
 package cue.edu.co.eventcore.api.controllers;
 
+import cue.edu.co.eventcore.api.support.CachedJsonResponder;
+import cue.edu.co.eventcore.api.support.ConditionalResponder;
+import cue.edu.co.eventcore.api.support.ETags;
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.application.dtos.common.ListView;
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucket;
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucketDto;
+import cue.edu.co.eventcore.application.dtos.event.CalendarPageDto;
 import cue.edu.co.eventcore.application.dtos.event.EventRequestDto;
 import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.application.dtos.event.EventViewDto;
 import cue.edu.co.eventcore.application.mappers.EventDtoMapper;
+import cue.edu.co.eventcore.application.queries.EventQueryService;
+import cue.edu.co.eventcore.application.queries.EventViewQueryService;
 import cue.edu.co.eventcore.domain.entities.Event;
 import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import cue.edu.co.eventcore.domain.services.EventService;
 import cue.edu.co.eventcore.infrastructure.cache.CacheService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Event management
@@ -30,8 +55,17 @@ import java.util.stream.Collectors;
 public class EventController {
 
     private final EventService eventService;
+    private final EventQueryService eventQueryService;
+    private final EventViewQueryService eventViewQueryService;
     private final EventDtoMapper eventDtoMapper;
-    private final CacheService cacheService;
+    private final CachedJsonResponder cachedJsonResponder;
+    private final ConditionalResponder conditionalResponder;
+
+    private static final int MAX_CALENDAR_LIMIT = 200;
+    private static final int MAX_BATCH_IDS = 500;
+    private static final Duration MAX_CALENDAR_RANGE = Duration.ofDays(366);
+    private static final String SPARSE_DESCRIPTION = "fields selects a comma-separated subset of event fields "
+            + "(id is always included) and view=SUMMARY a compact preset; unselected columns are not queried";
 
     @PostMapping
     @Operation(summary = "Create a new event")
@@ -42,68 +76,152 @@ public class EventController {
         Event createdEvent = eventService.createEvent(event);
         EventResponseDto responseDto = eventDtoMapper.toResponseDto(createdEvent);
 
-        // Invalidate upcoming events cache
-        cacheService.delete(CacheService.upcomingEventsKey());
-
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
-    @GetMapping("/{id}")
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get event by ID")
-    public ResponseEntity<EventResponseDto> getEventById(@PathVariable Long id) {
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = EventResponseDto.class)))
+    public ResponseEntity<byte[]> getEventById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         log.info("Getting event by id: {}", id);
 
-        // Try to get from cache first
-        return cacheService.get(CacheService.eventKey(id), EventResponseDto.class)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> {
-                    Event event = eventService.getEventById(id);
-                    EventResponseDto responseDto = eventDtoMapper.toResponseDto(event);
+        // Serve the cached response bytes, serializing only on a miss
+        return cachedJsonResponder.respond(CacheService.eventKey(id), acceptEncoding, ifNoneMatch,
+                () -> eventQueryService.getEventById(id),
+                event -> ETags.of("event", event.getId(), ETags.version(event.getUpdatedAt())));
+    }
+
+    @GetMapping("/{id}/view")
+    @Operation(summary = "Get the event detail page: event, live attendance counts and remaining spots")
+    public ResponseEntity<EventViewDto> getEventView(@PathVariable Long id) {
+        log.info("Getting view of event: {}", id);
 
-                    // Store in cache
-                    cacheService.put(CacheService.eventKey(id), responseDto);
+        return ResponseEntity.ok(eventViewQueryService.getEventView(id));
+    }
 
-                    return ResponseEntity.ok(responseDto);
-                });
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several events by ID", description = "Unknown IDs are skipped; results keep the request order")
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponseDto.class))))
+    public ResponseEntity<byte[]> getEventsByIds(
+            @RequestParam List<Long> ids,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Getting {} events by id", ids.size());
+
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            throw new BusinessRuleException("Between 1 and " + MAX_BATCH_IDS + " ids are required");
+        }
+
+        // One multi-key cache read, one query for the misses and one pipelined back-fill
+        return cachedJsonResponder.respondBatch(ids, acceptEncoding, CacheService::eventKey,
+                misses -> eventService.getEventsByIds(misses).stream().map(eventDtoMapper::toResponseDto).toList(),
+                EventResponseDto::getId,
+                event -> ETags.of("event", event.getId(), ETags.version(event.getUpdatedAt())));
     }
 
     @GetMapping
-    @Operation(summary = "Get all events")
-    public ResponseEntity<List<EventResponseDto>> getAllEvents() {
-        log.info("Getting all events");
+    @Operation(summary = "Get all events", description = SPARSE_DESCRIPTION)
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponseDto.class))))
+    public ResponseEntity<List<?>> getAllEvents(
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "FULL") ListView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        List<Event> events = eventService.getAllEvents();
-        List<EventResponseDto> responseDtos = events.stream()
-                .map(eventDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
+        log.info("Getting all events");
 
-        return ResponseEntity.ok(responseDtos);
+        FieldSelection selection = eventQueryService.selectFields(fields, view);
+        Supplier<List<?>> loader = selection.isFull()
+                ? eventQueryService::getAllEvents
+                : () -> eventQueryService.getAllEvents(selection);
+        return conditionalResponder.respond(ResourceVersionRepository.EVENTS, ifNoneMatch,
+                loader, "all", selection);
     }
 
     @GetMapping("/upcoming")
-    @Operation(summary = "Get upcoming events")
-    public ResponseEntity<List<EventResponseDto>> getUpcomingEvents() {
-        log.info("Getting upcoming events");
+    @Operation(summary = "Get upcoming events", description = SPARSE_DESCRIPTION)
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponseDto.class))))
+    public ResponseEntity<List<?>> getUpcomingEvents(
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "FULL") ListView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        List<Event> events = eventService.getUpcomingEvents();
-        List<EventResponseDto> responseDtos = events.stream()
-                .map(eventDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
+        log.info("Getting upcoming events");
 
-        return ResponseEntity.ok(responseDtos);
+        FieldSelection selection = eventQueryService.selectFields(fields, view);
+        Supplier<List<?>> loader = selection.isFull()
+                ? eventQueryService::getUpcomingEvents
+                : () -> eventQueryService.getUpcomingEvents(selection);
+        // Events drop out of this list as they start, so the tag also rolls over every minute
+        long minute = Instant.now().truncatedTo(ChronoUnit.MINUTES).getEpochSecond() / 60;
+        return conditionalResponder.respond(ResourceVersionRepository.EVENTS, ifNoneMatch,
+                loader, "upcoming", Long.toHexString(minute), selection);
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get events by status")
-    public ResponseEntity<List<EventResponseDto>> getEventsByStatus(@PathVariable EventStatus status) {
+    @Operation(summary = "Get events by status", description = SPARSE_DESCRIPTION)
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = EventResponseDto.class))))
+    public ResponseEntity<List<?>> getEventsByStatus(
+            @PathVariable EventStatus status,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "FULL") ListView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
         log.info("Getting events by status: {}", status);
 
-        List<Event> events = eventService.getEventsByStatus(status);
-        List<EventResponseDto> responseDtos = events.stream()
-                .map(eventDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
+        FieldSelection selection = eventQueryService.selectFields(fields, view);
+        Supplier<List<?>> loader = selection.isFull()
+                ? () -> eventQueryService.getEventsByStatus(status)
+                : () -> eventQueryService.getEventsByStatus(status, selection);
+        return conditionalResponder.respond(ResourceVersionRepository.EVENTS, ifNoneMatch,
+                loader, status, selection);
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get events starting within a date range, in keyset-paged start order")
+    public ResponseEntity<CalendarPageDto> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.info("Getting calendar from {} to {} (status {}, limit {})", from, to, status, limit);
+
+        validateCalendarRange(from, to);
+        if (limit < 1 || limit > MAX_CALENDAR_LIMIT) {
+            throw new BusinessRuleException("Limit must be between 1 and " + MAX_CALENDAR_LIMIT);
+        }
+
+        return conditionalResponder.respond(ResourceVersionRepository.EVENTS, ifNoneMatch,
+                () -> eventQueryService.getCalendarPage(from, to, status, limit, cursor),
+                "calendar", from, to, Objects.toString(status, "any"), limit, Objects.toString(cursor, "first"));
+    }
+
+    @GetMapping("/calendar/summary")
+    @Operation(summary = "Count events starting within a date range, per day or ISO week")
+    public ResponseEntity<List<CalendarBucketDto>> getCalendarSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) EventStatus status,
+            @RequestParam(defaultValue = "DAY") CalendarBucket bucket,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        log.info("Getting calendar summary from {} to {} by {} (status {})", from, to, bucket, status);
+
+        validateCalendarRange(from, to);
 
-        return ResponseEntity.ok(responseDtos);
+        return conditionalResponder.respond(ResourceVersionRepository.EVENTS, ifNoneMatch,
+                () -> eventQueryService.getCalendarSummary(from, to, status, bucket),
+                "calendar-summary", from, to, Objects.toString(status, "any"), bucket);
     }
 
     @PutMapping("/{id}")
@@ -118,11 +236,6 @@ public class EventController {
         Event updatedEvent = eventService.updateEvent(id, event);
         EventResponseDto responseDto = eventDtoMapper.toResponseDto(updatedEvent);
 
-        // Invalidate cache
-        cacheService.delete(CacheService.eventKey(id));
-        cacheService.delete(CacheService.upcomingEventsKey());
-        cacheService.delete(CacheService.eventStatsKey(id));
-
         return ResponseEntity.ok(responseDto);
     }
 
@@ -134,10 +247,6 @@ public class EventController {
         Event cancelledEvent = eventService.cancelEvent(id);
         EventResponseDto responseDto = eventDtoMapper.toResponseDto(cancelledEvent);
 
-        // Invalidate cache
-        cacheService.delete(CacheService.eventKey(id));
-        cacheService.delete(CacheService.upcomingEventsKey());
-
         return ResponseEntity.ok(responseDto);
     }
 
@@ -148,11 +257,15 @@ public class EventController {
 
         eventService.deleteEvent(id);
 
-        // Invalidate cache
-        cacheService.delete(CacheService.eventKey(id));
-        cacheService.delete(CacheService.upcomingEventsKey());
-        cacheService.delete(CacheService.eventStatsKey(id));
-
         return ResponseEntity.noContent().build();
     }
+
+    private static void validateCalendarRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BusinessRuleException("Calendar range start must be before its end");
+        }
+        if (Duration.between(from, to).compareTo(MAX_CALENDAR_RANGE) > 0) {
+            throw new BusinessRuleException("Calendar range must not exceed " + MAX_CALENDAR_RANGE.toDays() + " days");
+        }
+    }
 }
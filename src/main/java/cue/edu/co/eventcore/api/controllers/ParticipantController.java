@@ -1,23 +1,48 @@
 package cue.edu.co.eventcore.api.controllers;
 
+import cue.edu.co.eventcore.api.interceptors.RateLimited;
+import cue.edu.co.eventcore.api.support.CachedJsonResponder;
+import cue.edu.co.eventcore.api.support.ConditionalResponder;
+import cue.edu.co.eventcore.api.support.ETags;
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.application.dtos.common.ListView;
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureJobDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureRequestDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantImportResultDto;
 import cue.edu.co.eventcore.application.dtos.participant.ParticipantRequestDto;
 import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
 import cue.edu.co.eventcore.application.mappers.ParticipantDtoMapper;
+import cue.edu.co.eventcore.application.queries.ParticipantQueryService;
 import cue.edu.co.eventcore.domain.entities.Participant;
 import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import cue.edu.co.eventcore.domain.services.ParticipantService;
 import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.erasure.ParticipantErasureService;
+import cue.edu.co.eventcore.infrastructure.importing.ImportFormat;
+import cue.edu.co.eventcore.infrastructure.importing.ParticipantImportService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
 /**
  * REST Controller for Participant management
@@ -30,8 +55,17 @@ import java.util.stream.Collectors;
 public class ParticipantController {
 
     private final ParticipantService participantService;
+    private final ParticipantQueryService participantQueryService;
     private final ParticipantDtoMapper participantDtoMapper;
     private final CacheService cacheService;
+    private final CachedJsonResponder cachedJsonResponder;
+    private final ConditionalResponder conditionalResponder;
+    private final ParticipantImportService participantImportService;
+    private final ParticipantErasureService participantErasureService;
+
+    private static final int MAX_BATCH_IDS = 500;
+    private static final String SPARSE_DESCRIPTION = "fields selects a comma-separated subset of participant fields "
+            + "(id is always included) and view=SUMMARY a compact preset; unselected columns are not queried";
 
     @PostMapping
     @Operation(summary = "Create a new participant")
@@ -47,62 +81,119 @@ public class ParticipantController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
-    @GetMapping("/{id}")
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Bulk import participants from CSV or NDJSON")
+    public ResponseEntity<ParticipantImportResultDto> importParticipants(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        log.info("Importing participants from {} stream", format);
+
+        // Read straight from the request stream so the payload is never held in memory
+        ParticipantImportResultDto result = participantImportService.importParticipants(request.getInputStream(), format);
+
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search participants by name, email or document number")
+    public ResponseEntity<PageResponseDto<ParticipantResponseDto>> searchParticipants(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (q.isBlank()) {
+            throw new BusinessRuleException("Search query must not be blank");
+        }
+        if (page < 0 || size < 1 || size > 100) {
+            throw new BusinessRuleException("Page must be at least 0 and size between 1 and 100");
+        }
+
+        return ResponseEntity.ok(participantQueryService.searchParticipants(q, page, size));
+    }
+
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get participant by ID")
-    public ResponseEntity<ParticipantResponseDto> getParticipantById(@PathVariable Long id) {
-        log.info("Getting participant by id: {}", id);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ParticipantResponseDto.class)))
+    public ResponseEntity<byte[]> getParticipantById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        // Try to get from cache first
-        return cacheService.get(CacheService.participantKey(id), ParticipantResponseDto.class)
-                .map(ResponseEntity::ok)
-                .orElseGet(() -> {
-                    Participant participant = participantService.getParticipantById(id);
-                    ParticipantResponseDto responseDto = participantDtoMapper.toResponseDto(participant);
+        log.info("Getting participant by id: {}", id);
 
-                    // Store in cache
-                    cacheService.put(CacheService.participantKey(id), responseDto);
+        // Serve the cached response bytes, serializing only on a miss
+        return cachedJsonResponder.respond(CacheService.participantKey(id), acceptEncoding, ifNoneMatch,
+                () -> participantQueryService.getParticipantById(id),
+                participant -> ETags.of("participant", participant.getId(), ETags.version(participant.getUpdatedAt())));
+    }
 
-                    return ResponseEntity.ok(responseDto);
-                });
+    @GetMapping(params = "ids", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get several participants by ID", description = "Unknown IDs are skipped; results keep the request order")
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipantResponseDto.class))))
+    public ResponseEntity<byte[]> getParticipantsByIds(
+            @RequestParam List<Long> ids,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+        log.info("Getting {} participants by id", ids.size());
+
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_IDS) {
+            throw new BusinessRuleException("Between 1 and " + MAX_BATCH_IDS + " ids are required");
+        }
+
+        // One multi-key cache read, one query for the misses and one pipelined back-fill
+        return cachedJsonResponder.respondBatch(ids, acceptEncoding, CacheService::participantKey,
+                misses -> participantService.getParticipantsByIds(misses).stream()
+                        .map(participantDtoMapper::toResponseDto).toList(),
+                ParticipantResponseDto::getId,
+                participant -> ETags.of("participant", participant.getId(), ETags.version(participant.getUpdatedAt())));
     }
 
     @GetMapping
-    @Operation(summary = "Get all participants")
-    public ResponseEntity<List<ParticipantResponseDto>> getAllParticipants() {
-        log.info("Getting all participants");
+    @Operation(summary = "Get all participants", description = SPARSE_DESCRIPTION)
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipantResponseDto.class))))
+    public ResponseEntity<List<?>> getAllParticipants(
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "FULL") ListView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
-        List<Participant> participants = participantService.getAllParticipants();
-        List<ParticipantResponseDto> responseDtos = participants.stream()
-                .map(participantDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
+        log.info("Getting all participants");
 
-        return ResponseEntity.ok(responseDtos);
+        FieldSelection selection = participantQueryService.selectFields(fields, view);
+        Supplier<List<?>> loader = selection.isFull()
+                ? participantQueryService::getAllParticipants
+                : () -> participantQueryService.getAllParticipants(selection);
+        return conditionalResponder.respond(ResourceVersionRepository.PARTICIPANTS, ifNoneMatch,
+                loader, "all", selection);
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get participants by status")
-    public ResponseEntity<List<ParticipantResponseDto>> getParticipantsByStatus(
-            @PathVariable ParticipantStatus status) {
+    @Operation(summary = "Get participants by status", description = SPARSE_DESCRIPTION)
+    @ApiResponse(responseCode = "200",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ParticipantResponseDto.class))))
+    public ResponseEntity<List<?>> getParticipantsByStatus(
+            @PathVariable ParticipantStatus status,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "FULL") ListView view,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         log.info("Getting participants by status: {}", status);
 
-        List<Participant> participants = participantService.getParticipantsByStatus(status);
-        List<ParticipantResponseDto> responseDtos = participants.stream()
-                .map(participantDtoMapper::toResponseDto)
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(responseDtos);
+        FieldSelection selection = participantQueryService.selectFields(fields, view);
+        Supplier<List<?>> loader = selection.isFull()
+                ? () -> participantQueryService.getParticipantsByStatus(status)
+                : () -> participantQueryService.getParticipantsByStatus(status, selection);
+        return conditionalResponder.respond(ResourceVersionRepository.PARTICIPANTS, ifNoneMatch,
+                loader, status, selection);
     }
 
     @GetMapping("/email/{email}")
     @Operation(summary = "Get participant by email")
+    @RateLimited("participant-lookup")
     public ResponseEntity<ParticipantResponseDto> getParticipantByEmail(@PathVariable String email) {
         log.info("Getting participant by email: {}", email);
 
-        Participant participant = participantService.getParticipantByEmail(email);
-        ParticipantResponseDto responseDto = participantDtoMapper.toResponseDto(participant);
-
-        return ResponseEntity.ok(responseDto);
+        return ResponseEntity.ok(participantQueryService.getParticipantByEmail(email));
     }
 
     @PutMapping("/{id}")
@@ -123,6 +214,28 @@ public class ParticipantController {
         return ResponseEntity.ok(responseDto);
     }
 
+    @PostMapping("/erasures")
+    @Operation(summary = "Start a bulk erasure; participants with attendance history are anonymized instead of deleted")
+    public ResponseEntity<ParticipantErasureJobDto> startErasure(
+            @Valid @RequestBody ParticipantErasureRequestDto requestDto) {
+
+        log.info("Starting participant erasure job");
+
+        ParticipantErasureJobDto job = participantErasureService.submit(requestDto);
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/participants/erasures/" + job.getJobId()))
+                .body(job);
+    }
+
+    @GetMapping("/erasures/{jobId}")
+    @Operation(summary = "Get the progress of a bulk erasure")
+    public ResponseEntity<ParticipantErasureJobDto> getErasure(@PathVariable String jobId) {
+        log.info("Getting participant erasure job: {}", jobId);
+
+        return ResponseEntity.ok(participantErasureService.getJob(jobId));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a participant")
     public ResponseEntity<Void> deleteParticipant(@PathVariable Long id) {
@@ -0,0 +1,51 @@
+package cue.edu.co.eventcore.api.controllers;
+
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.services.EventService;
+import cue.edu.co.eventcore.infrastructure.registrationqueue.RegistrationQueueService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for queued registration of flash-sale events
+ */
+@RestController
+@RequestMapping("/events/{eventId}/registration-queue")
+@RequiredArgsConstructor
+@Tag(name = "Registration Queue", description = "Queued registration endpoints for flash-sale events")
+@Slf4j
+public class RegistrationQueueController {
+
+    private final RegistrationQueueService registrationQueueService;
+    private final EventService eventService;
+
+    @PutMapping
+    @Operation(summary = "Queue registrations for an event")
+    public ResponseEntity<Void> enableRegistrationQueue(@PathVariable Long eventId) {
+        log.info("Enabling queued registration for event {}", eventId);
+
+        // Fails with 404 for unknown events
+        Event event = eventService.getEventById(eventId);
+        if (!event.isActive()) {
+            throw new BusinessRuleException("Event is not active");
+        }
+        registrationQueueService.enable(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Return an event to direct registration")
+    public ResponseEntity<Void> disableRegistrationQueue(@PathVariable Long eventId) {
+        log.info("Disabling queued registration for event {}", eventId);
+
+        registrationQueueService.disable(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,47 @@
+package cue.edu.co.eventcore.api.controllers;
+
+import cue.edu.co.eventcore.application.dtos.roster.RosterStatusDto;
+import cue.edu.co.eventcore.infrastructure.roster.RosterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for event-day check-in rosters
+ */
+@RestController
+@RequestMapping("/events/{eventId}/roster")
+@RequiredArgsConstructor
+@Tag(name = "Roster", description = "Event-day check-in roster endpoints")
+@Slf4j
+public class RosterController {
+
+    private final RosterService rosterService;
+
+    @PutMapping
+    @Operation(summary = "Load the check-in roster of an event")
+    public ResponseEntity<RosterStatusDto> loadRoster(@PathVariable Long eventId) {
+        log.info("Loading check-in roster for event {}", eventId);
+
+        return ResponseEntity.ok(rosterService.load(eventId));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the check-in roster status of an event")
+    public ResponseEntity<RosterStatusDto> getRosterStatus(@PathVariable Long eventId) {
+        return ResponseEntity.ok(rosterService.getStatus(eventId));
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Flush and unload the check-in roster of an event")
+    public ResponseEntity<Void> unloadRoster(@PathVariable Long eventId) {
+        log.info("Unloading check-in roster for event {}", eventId);
+
+        rosterService.unload(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,71 @@
+package cue.edu.co.eventcore.api.controllers;
+
+import cue.edu.co.eventcore.application.dtos.waitingroom.WaitingRoomJoinRequestDto;
+import cue.edu.co.eventcore.application.dtos.waitingroom.WaitingRoomSettingsDto;
+import cue.edu.co.eventcore.application.dtos.waitingroom.WaitingRoomStatusDto;
+import cue.edu.co.eventcore.domain.services.EventService;
+import cue.edu.co.eventcore.infrastructure.waitingroom.WaitingRoomService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for event waiting rooms
+ */
+@RestController
+@RequestMapping("/events/{eventId}/waiting-room")
+@RequiredArgsConstructor
+@Tag(name = "Waiting Room", description = "Virtual waiting room endpoints for high-demand events")
+@Slf4j
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+    private final EventService eventService;
+
+    @PutMapping
+    @Operation(summary = "Enable the waiting room for an event")
+    public ResponseEntity<Void> enableWaitingRoom(
+            @PathVariable Long eventId,
+            @Valid @RequestBody WaitingRoomSettingsDto settingsDto) {
+
+        log.info("Enabling waiting room for event {}", eventId);
+
+        // Fails with 404 for unknown events
+        eventService.getEventById(eventId);
+        waitingRoomService.enable(eventId, settingsDto.getAdmissionsPerSecond(), settingsDto.getAdmissionWindowSeconds());
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Disable the waiting room for an event")
+    public ResponseEntity<Void> disableWaitingRoom(@PathVariable Long eventId) {
+        log.info("Disabling waiting room for event {}", eventId);
+
+        waitingRoomService.disable(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/entries")
+    @Operation(summary = "Join the waiting room of an event")
+    public ResponseEntity<WaitingRoomStatusDto> joinWaitingRoom(
+            @PathVariable Long eventId,
+            @Valid @RequestBody WaitingRoomJoinRequestDto requestDto) {
+
+        return ResponseEntity.ok(waitingRoomService.join(eventId, requestDto.getParticipantId()));
+    }
+
+    @GetMapping("/entries/{participantId}")
+    @Operation(summary = "Get the waiting room position of a participant")
+    public ResponseEntity<WaitingRoomStatusDto> getWaitingRoomStatus(
+            @PathVariable Long eventId,
+            @PathVariable Long participantId) {
+
+        return ResponseEntity.ok(waitingRoomService.getStatus(eventId, participantId));
+    }
+}
@@ -0,0 +1,314 @@
+package cue.edu.co.eventcore.api.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.api.exceptions.ErrorResponse;
+import cue.edu.co.eventcore.api.support.ClientIdentity;
+import cue.edu.co.eventcore.infrastructure.cache.IdempotencyStore;
+import cue.edu.co.eventcore.infrastructure.cache.IdempotencyStore.IdempotentRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Honors the Idempotency-Key header on write endpoints
+ * The first response for a key is stored in Redis and replayed for retries;
+ * a duplicate arriving while the first request is still running waits for its outcome.
+ * Keys are scoped to the client, bodies are buffered up to max-body-size, streaming uploads
+ * are not covered, and the request runs without the guarantee when Redis is unavailable
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // Bulk uploads are read straight from the request stream and must not be buffered
+    private static final Set<String> STREAMING_TYPES = Set.of("text/csv", "application/x-ndjson");
+    private static final int MAX_KEY_LENGTH = 255;
+    // Response headers that carry part of the outcome, e.g. where a created resource or a registration ticket lives
+    private static final List<String> REPLAYED_HEADERS = List.of(
+            HttpHeaders.LOCATION, HttpHeaders.CONTENT_LOCATION, HttpHeaders.ETAG, HttpHeaders.CONTENT_ENCODING);
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${eventcore.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${eventcore.idempotency.lock-ttl:PT30S}")
+    private Duration lockTtl;
+
+    @Value("${eventcore.idempotency.wait-timeout:PT10S}")
+    private Duration waitTimeout;
+
+    @Value("${eventcore.idempotency.max-body-size:1MB}")
+    private DataSize maxBodySize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !WRITE_METHODS.contains(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || isStreaming(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to 255 characters");
+            return;
+        }
+
+        BufferedBodyRequest bufferedRequest = BufferedBodyRequest.read(request, maxBodySize.toBytes());
+        if (bufferedRequest == null) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Requests with an Idempotency-Key are limited to " + maxBodySize.toBytes() + " bytes");
+            return;
+        }
+        String storeKey = "idempotency:" + ClientIdentity.of(request) + ":" + request.getMethod() + ":"
+                + request.getRequestURI() + ":" + idempotencyKey;
+        String fingerprint = DigestUtils.md5DigestAsHex(bufferedRequest.body);
+
+        // Retries of a finished request cost a single GET
+        Optional<IdempotentRecord> existing;
+        boolean claimed;
+        try {
+            existing = idempotencyStore.get(storeKey);
+            claimed = existing.isEmpty() && idempotencyStore.tryClaim(storeKey, fingerprint, lockTtl);
+        } catch (DataAccessException e) {
+            // Failing open: a lost replay is better than refusing every write while Redis is down
+            log.warn("Idempotency store unavailable, running request without replay protection: {}", e.getMessage());
+            chain.doFilter(bufferedRequest, response);
+            return;
+        }
+        if (claimed) {
+            execute(bufferedRequest, response, chain, storeKey, fingerprint);
+            return;
+        }
+
+        Optional<IdempotentRecord> record = existing.filter(IdempotentRecord::isCompleted);
+        if (record.isEmpty()) {
+            record = awaitCompletion(storeKey);
+        }
+
+        if (record.isEmpty()) {
+            writeError(request, response, HttpStatus.CONFLICT,
+                    "A request with this Idempotency-Key is still in progress");
+        } else if (!fingerprint.equals(record.get().getFingerprint())) {
+            writeError(request, response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    "Idempotency-Key was already used with a different request payload");
+        } else {
+            replay(record.get(), response);
+        }
+    }
+
+    private void execute(BufferedBodyRequest request, HttpServletResponse response, FilterChain chain,
+                         String storeKey, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            chain.doFilter(request, responseWrapper);
+
+            if (isFinalOutcome(responseWrapper.getStatus())) {
+                stored = complete(storeKey, IdempotentRecord.builder()
+                        .completed(true)
+                        .fingerprint(fingerprint)
+                        .status(responseWrapper.getStatus())
+                        .contentType(responseWrapper.getContentType())
+                        .headers(replayedHeaders(responseWrapper))
+                        .body(responseWrapper.getContentAsByteArray())
+                        .build());
+            }
+        } finally {
+            if (!stored) {
+                release(storeKey);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    // The request already ran; a store failure must not turn its response into an error
+    private boolean complete(String storeKey, IdempotentRecord record) {
+        try {
+            idempotencyStore.complete(storeKey, record, ttl);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not store idempotent response for {}: {}", storeKey, e.getMessage());
+            return false;
+        }
+    }
+
+    // An unreleased claim still expires after lock-ttl
+    private void release(String storeKey) {
+        try {
+            idempotencyStore.release(storeKey);
+        } catch (DataAccessException e) {
+            log.warn("Could not release idempotency claim {}: {}", storeKey, e.getMessage());
+        }
+    }
+
+    private static boolean isStreaming(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("multipart/") || STREAMING_TYPES.stream().anyMatch(type::startsWith);
+    }
+
+    /**
+     * Server errors and rate limit rejections are not final outcomes, the client must be able to retry them
+     */
+    private boolean isFinalOutcome(int status) {
+        return status < HttpStatus.INTERNAL_SERVER_ERROR.value() && status != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private Optional<IdempotentRecord> awaitCompletion(String storeKey) throws IOException {
+        try {
+            return idempotencyStore.awaitCompletion(storeKey, waitTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for idempotent request", e);
+        } catch (DataAccessException e) {
+            // Without the store the outcome of the first request is unknown; report it as still running
+            log.warn("Idempotency store unavailable while waiting for {}: {}", storeKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private void replay(IdempotentRecord record, HttpServletResponse response) throws IOException {
+        log.debug("Replaying idempotent response with status {}", record.getStatus());
+        response.setStatus(record.getStatus());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.getHeaders() != null) {
+            record.getHeaders().forEach(response::setHeader);
+        }
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        if (record.getBody() != null) {
+            response.setContentLength(record.getBody().length);
+            response.getOutputStream().write(record.getBody());
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(status.value())
+                .error(status.getReasonPhrase())
+                .message(message)
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Request wrapper that reads the body up front, so it can be fingerprinted and still be consumed downstream
+     */
+    private static final class BufferedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Buffer the body of a request
+         * @return the wrapped request, or null if the body is larger than maxBytes
+         */
+        static BufferedBodyRequest read(HttpServletRequest request, long maxBytes) throws IOException {
+            if (request.getContentLengthLong() > maxBytes) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes((int) Math.min(maxBytes + 1, Integer.MAX_VALUE - 8));
+            return body.length > maxBytes ? null : new BufferedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package cue.edu.co.eventcore.api.interceptors;
+
+import cue.edu.co.eventcore.api.support.ClientIdentity;
+import cue.edu.co.eventcore.infrastructure.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Enforces per-client rate limits on controller methods annotated with RateLimited
+ * Clients are keyed by ClientIdentity, never by headers they could set themselves.
+ * Rejections surface as RateLimitExceededException and are answered with 429 by the exception handler
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+            if (rateLimited != null) {
+                rateLimiter.acquire(rateLimited.value(), "client:" + ClientIdentity.of(request));
+            }
+        }
+        return true;
+    }
+}
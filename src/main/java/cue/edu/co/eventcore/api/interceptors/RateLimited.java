@@ -0,0 +1,22 @@
+package cue.edu.co.eventcore.api.interceptors;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Applies the named rate limit route to a controller method, keyed by client identity
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    /**
+     * Route name as configured under eventcore.rate-limit.routes
+     * @return the route name
+     */
+    String value();
+}
@@ -0,0 +1,199 @@
+package cue.edu.co.eventcore.api.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import cue.edu.co.eventcore.infrastructure.cache.ContentEncoding;
+import cue.edu.co.eventcore.infrastructure.cache.ResponseCacheService;
+import cue.edu.co.eventcore.infrastructure.json.JsonCodecs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves JSON responses from the response byte cache
+ * On a hit the stored bytes are written as-is with the matching Content-Encoding;
+ * on a miss the body is serialized once with the shared MVC mapper, compressed and cached.
+ * Conditional requests are answered with 304 from the cached entity tag alone
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CachedJsonResponder {
+
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+
+    private final ResponseCacheService responseCacheService;
+    private final JsonCodecs jsonCodecs;
+
+    @Value("${eventcore.response-cache.gzip-min-bytes:512}")
+    private int gzipMinBytes;
+
+    /**
+     * Respond with the cached body for a key, loading and caching it on a miss
+     * @param key the cache key
+     * @param acceptEncoding the Accept-Encoding request header, may be null
+     * @param ifNoneMatch the If-None-Match request header, may be null
+     * @param loader supplies the response body on a cache miss
+     * @param etagOf derives the entity tag from a freshly loaded body
+     * @return the response entity carrying the encoded JSON bytes, or 304 if the client copy is current
+     */
+    public <T> ResponseEntity<byte[]> respond(String key, String acceptEncoding, String ifNoneMatch,
+                                              Supplier<T> loader, Function<? super T, String> etagOf) {
+        ContentEncoding preferred = ContentEncoding.negotiate(acceptEncoding);
+
+        if (ifNoneMatch != null) {
+            Optional<String> cachedETag = responseCacheService.getETag(key);
+            if (cachedETag.isPresent() && ETags.matches(ifNoneMatch, cachedETag.get())) {
+                return notModified(cachedETag.get(), preferred);
+            }
+        }
+
+        return responseCacheService.get(key, preferred)
+                .map(cached -> build(cached.getBody(), cached.getEncoding(), cached.getEtag()))
+                .orElseGet(() -> {
+                    T body = loader.get();
+                    String etag = etagOf.apply(body);
+                    Map<ContentEncoding, byte[]> variants = encode(body);
+                    responseCacheService.put(key, variants, etag, DEFAULT_TTL);
+
+                    ContentEncoding served = variants.containsKey(preferred) ? preferred : ContentEncoding.IDENTITY;
+                    if (ETags.matches(ifNoneMatch, etag)) {
+                        return notModified(etag, served);
+                    }
+                    return build(variants.get(served), served, etag);
+                });
+    }
+
+    /**
+     * Respond with a JSON array of cached bodies, loading and caching all misses in one batch
+     * Cached elements are spliced into the array as stored, so hits are never deserialized
+     * @param ids the requested IDs; duplicates are collapsed and unknown IDs are skipped
+     * @param acceptEncoding the Accept-Encoding request header, may be null
+     * @param keyOf the cache key of an ID, the same one its single-element endpoint uses
+     * @param loader loads the missing elements with one query
+     * @param idOf the ID of a loaded element
+     * @param etagOf derives the entity tag cached with a loaded element
+     * @return the response entity carrying the JSON array in request order
+     */
+    public <T> ResponseEntity<byte[]> respondBatch(Collection<Long> ids, String acceptEncoding,
+                                                   Function<Long, String> keyOf,
+                                                   Function<Collection<Long>, List<T>> loader,
+                                                   Function<? super T, Long> idOf,
+                                                   Function<? super T, String> etagOf) {
+        List<Long> unique = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<String> keys = unique.stream().map(keyOf).toList();
+        Map<String, byte[]> cached = responseCacheService.getIdentityBodies(keys);
+
+        Map<Long, byte[]> bodies = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < unique.size(); i++) {
+            byte[] body = cached.get(keys.get(i));
+            if (body != null) {
+                bodies.put(unique.get(i), body);
+            } else {
+                misses.add(unique.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<ResponseCacheService.Entry> entries = new ArrayList<>(misses.size());
+            for (T element : loader.apply(misses)) {
+                Long id = idOf.apply(element);
+                Map<ContentEncoding, byte[]> variants = encode(element);
+                bodies.put(id, variants.get(ContentEncoding.IDENTITY));
+                entries.add(new ResponseCacheService.Entry(keyOf.apply(id), variants, etagOf.apply(element)));
+            }
+            // Back-fill the single-element cache so later lookups of either kind hit
+            responseCacheService.putAll(entries, DEFAULT_TTL);
+        }
+
+        ByteArrayOutputStream array = new ByteArrayOutputStream(64 * unique.size() + 2);
+        array.write('[');
+        boolean first = true;
+        for (Long id : unique) {
+            byte[] body = bodies.get(id);
+            if (body == null) {
+                continue;
+            }
+            if (!first) {
+                array.write(',');
+            }
+            array.writeBytes(body);
+            first = false;
+        }
+        array.write(']');
+
+        byte[] json = array.toByteArray();
+        if (ContentEncoding.negotiate(acceptEncoding) == ContentEncoding.GZIP && json.length >= gzipMinBytes) {
+            return build(gzip(json), ContentEncoding.GZIP, null);
+        }
+        return build(json, ContentEncoding.IDENTITY, null);
+    }
+
+    private Map<ContentEncoding, byte[]> encode(Object body) {
+        Map<ContentEncoding, byte[]> variants = new EnumMap<>(ContentEncoding.class);
+        try {
+            byte[] json = jsonCodecs.writer(body.getClass()).writeValueAsBytes(body);
+            variants.put(ContentEncoding.IDENTITY, json);
+
+            // Small bodies are not worth compressing, only the identity variant is stored
+            if (json.length >= gzipMinBytes) {
+                variants.put(ContentEncoding.GZIP, gzip(json));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing response body", e);
+        }
+        return variants;
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error compressing response body", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private ResponseEntity<byte[]> build(byte[] body, ContentEncoding encoding, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (encoding != ContentEncoding.IDENTITY) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+        }
+        if (etag != null) {
+            builder.eTag(ETags.forEncoding(etag, encoding));
+        }
+        return builder.body(body);
+    }
+
+    private ResponseEntity<byte[]> notModified(String etag, ContentEncoding encoding) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .eTag(ETags.forEncoding(etag, encoding))
+                .build();
+    }
+}
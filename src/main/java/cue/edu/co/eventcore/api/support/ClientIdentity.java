@@ -0,0 +1,30 @@
+package cue.edu.co.eventcore.api.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.security.Principal;
+
+/**
+ * Identifies the client behind a request for per-client state such as rate limits and idempotency keys
+ * Only values the client cannot choose are used: the authenticated principal, else the remote address.
+ * Behind a proxy the remote address comes from server.forward-headers-strategy, which trusts
+ * X-Forwarded-For only from internal proxies; the raw headers are never read here
+ */
+public final class ClientIdentity {
+
+    private ClientIdentity() {
+    }
+
+    /**
+     * Resolve the identity of the client that sent a request
+     * @param request the HTTP request
+     * @return "user:" plus the principal name, or "ip:" plus the remote address
+     */
+    public static String of(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null && principal.getName() != null) {
+            return "user:" + principal.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,49 @@
+package cue.edu.co.eventcore.api.support;
+
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GETs on endpoints validated by a resource version
+ * The entity tag comes from a single version lookup, so a matching
+ * If-None-Match is answered with 304 before any query or serialization runs.
+ * Without a version (store unavailable) the full response is sent without an entity tag
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalResponder {
+
+    private final ResourceVersionRepository resourceVersionRepository;
+
+    /**
+     * Respond with the loaded body tagged with the resource version, or 304 if the client copy is current
+     * @param resource the resource name whose version validates the response
+     * @param ifNoneMatch the If-None-Match request header, may be null
+     * @param loader supplies the response body when it has to be sent
+     * @param qualifiers extra parts that distinguish representations sharing the resource version
+     * @return the response entity
+     */
+    public <T> ResponseEntity<T> respond(String resource, String ifNoneMatch, Supplier<T> loader, Object... qualifiers) {
+        OptionalLong version = resourceVersionRepository.getVersion(resource);
+        if (version.isEmpty()) {
+            return ResponseEntity.ok(loader.get());
+        }
+
+        Object[] parts = new Object[qualifiers.length + 2];
+        parts[0] = resource.replace(':', '-');
+        parts[1] = Long.toHexString(version.getAsLong());
+        System.arraycopy(qualifiers, 0, parts, 2, qualifiers.length);
+        String etag = ETags.of(parts);
+
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(loader.get());
+    }
+}
@@ -0,0 +1,92 @@
+package cue.edu.co.eventcore.api.support;
+
+import cue.edu.co.eventcore.infrastructure.cache.ContentEncoding;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.StringJoiner;
+
+/**
+ * Helpers to build and compare strong entity tags
+ * Encoded variants of the same representation get a coding suffix, as required for strong validators
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Build a quoted entity tag from its parts
+     * @param parts the parts identifying the representation version
+     * @return the quoted entity tag
+     */
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner("-", "\"", "\"");
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * Compact version token for a last-modified timestamp
+     * The nanoseconds are zero-padded to a fixed width so distinct timestamps never render alike
+     * @param updatedAt the last modification timestamp, may be null
+     * @return the version token
+     */
+    public static String version(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return "0";
+        }
+        return Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)) + String.format("%08x", updatedAt.getNano());
+    }
+
+    /**
+     * Entity tag of an encoded variant
+     * @param etag the entity tag of the identity representation
+     * @param encoding the content encoding of the variant
+     * @return the entity tag for the variant
+     */
+    public static String forEncoding(String etag, ContentEncoding encoding) {
+        if (encoding == ContentEncoding.IDENTITY) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + "-" + encoding.getToken() + "\"";
+    }
+
+    /**
+     * Evaluate an If-None-Match header against the current entity tag
+     * Uses weak comparison and ignores coding suffixes, as all variants share one version
+     * @param ifNoneMatch the If-None-Match header value, may be null
+     * @param etag the current entity tag of the identity representation
+     * @return true if the client already holds the current representation
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        if ("*".equals(ifNoneMatch.trim())) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            if (etag.equals(stripEncoding(stripWeak(candidate.trim())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String candidate) {
+        return candidate.startsWith("W/") ? candidate.substring(2) : candidate;
+    }
+
+    private static String stripEncoding(String candidate) {
+        for (ContentEncoding encoding : ContentEncoding.values()) {
+            String suffix = "-" + encoding.getToken() + "\"";
+            if (encoding != ContentEncoding.IDENTITY && candidate.endsWith(suffix)) {
+                return candidate.substring(0, candidate.length() - suffix.length()) + "\"";
+            }
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,37 @@
+package cue.edu.co.eventcore.application.dtos.attendance;
+
+import cue.edu.co.eventcore.application.dtos.event.EventSummaryDto;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of a participant attendance history, with its event summary
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceHistoryDto {
+
+    private Long id;
+    private AttendanceStatus status;
+    private LocalDateTime registrationDate;
+    private LocalDateTime checkInDate;
+    private EventSummaryDto event;
+
+    /**
+     * Flat constructor for the joined JPQL projection
+     */
+    public AttendanceHistoryDto(Long id, AttendanceStatus status, LocalDateTime registrationDate,
+                                LocalDateTime checkInDate, Long eventId, String eventName, String eventLocation,
+                                LocalDateTime eventStartDate, LocalDateTime eventEndDate, EventStatus eventStatus) {
+        this(id, status, registrationDate, checkInDate,
+                new EventSummaryDto(eventId, eventName, eventLocation, eventStartDate, eventEndDate, eventStatus));
+    }
+}
@@ -0,0 +1,21 @@
+package cue.edu.co.eventcore.application.dtos.attendance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a set of participant IDs computed over event attendances
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantSetDto {
+
+    private Integer count;
+    private List<Long> participantIds;
+}
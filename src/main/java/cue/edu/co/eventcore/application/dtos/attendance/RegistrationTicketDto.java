@@ -0,0 +1,37 @@
+package cue.edu.co.eventcore.application.dtos.attendance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a queued registration request and its outcome
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistrationTicketDto {
+
+    private String ticketId;
+    private Long eventId;
+    private Long participantId;
+    private State state;
+    private Long attendanceId;
+    private String message;
+    private LocalDateTime requestedAt;
+    private LocalDateTime processedAt;
+
+    /**
+     * Where the queued registration stands
+     */
+    public enum State {
+        PENDING,
+        REGISTERED,
+        WAITLISTED,
+        REJECTED
+    }
+}
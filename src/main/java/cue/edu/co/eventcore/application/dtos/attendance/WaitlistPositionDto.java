@@ -0,0 +1,19 @@
+package cue.edu.co.eventcore.application.dtos.attendance;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the waitlist position of an attendance
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistPositionDto {
+
+    private Long attendanceId;
+    private Long position;
+}
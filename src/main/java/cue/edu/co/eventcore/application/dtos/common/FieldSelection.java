@@ -0,0 +1,28 @@
+package cue.edu.co.eventcore.application.dtos.common;
+
+import java.util.List;
+
+/**
+ * Fields selected for a sparse list response, in canonical order
+ * An empty selection stands for the full representation
+ */
+public record FieldSelection(List<String> fields) {
+
+    public static final FieldSelection FULL = new FieldSelection(List.of());
+
+    public FieldSelection {
+        fields = List.copyOf(fields);
+    }
+
+    public boolean isFull() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * Compact token naming the selection, used to tell representations apart in entity tags
+     */
+    @Override
+    public String toString() {
+        return isFull() ? "full" : String.join(".", fields);
+    }
+}
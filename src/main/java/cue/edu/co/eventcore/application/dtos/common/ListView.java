@@ -0,0 +1,9 @@
+package cue.edu.co.eventcore.application.dtos.common;
+
+/**
+ * Predefined representation of list elements
+ */
+public enum ListView {
+    FULL,
+    SUMMARY
+}
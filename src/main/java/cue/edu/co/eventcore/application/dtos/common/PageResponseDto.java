@@ -0,0 +1,34 @@
+package cue.edu.co.eventcore.application.dtos.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a larger result
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDto<T> {
+
+    private List<T> content;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+
+    public static <T> PageResponseDto<T> of(List<T> content, int page, int size, long totalElements) {
+        return PageResponseDto.<T>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .totalPages(size > 0 ? (int) ((totalElements + size - 1) / size) : 0)
+                .build();
+    }
+}
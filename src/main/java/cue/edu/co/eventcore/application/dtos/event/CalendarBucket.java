@@ -0,0 +1,9 @@
+package cue.edu.co.eventcore.application.dtos.event;
+
+/**
+ * Granularity of calendar summary buckets
+ */
+public enum CalendarBucket {
+    DAY,
+    WEEK
+}
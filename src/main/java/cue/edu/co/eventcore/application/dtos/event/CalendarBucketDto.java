@@ -0,0 +1,21 @@
+package cue.edu.co.eventcore.application.dtos.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for the number of events starting within one calendar bucket
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarBucketDto {
+
+    private LocalDate bucketStart;
+    private Long count;
+}
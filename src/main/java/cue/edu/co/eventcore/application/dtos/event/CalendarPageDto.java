@@ -0,0 +1,22 @@
+package cue.edu.co.eventcore.application.dtos.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of calendar events
+ * nextCursor is null on the last page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarPageDto {
+
+    private List<EventResponseDto> events;
+    private String nextCursor;
+}
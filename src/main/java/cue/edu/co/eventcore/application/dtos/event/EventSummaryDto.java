@@ -0,0 +1,26 @@
+package cue.edu.co.eventcore.application.dtos.event;
+
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the event fields shown next to an attendance
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSummaryDto {
+
+    private Long id;
+    private String name;
+    private String location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private EventStatus status;
+}
@@ -0,0 +1,38 @@
+package cue.edu.co.eventcore.application.dtos.event;
+
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the event detail page: event fields, live attendance counts and remaining spots
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventViewDto {
+
+    private Long id;
+    private String name;
+    private String description;
+    private String location;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Integer capacity;
+    private Integer currentAttendees;
+    private Integer availableSpots;
+    private EventStatus status;
+    private Long totalRegistered;
+    private Long totalCheckedIn;
+    private Long totalCancelled;
+    private Long totalNoShow;
+    private Long totalWaitlisted;
+    private Double occupancyPercentage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
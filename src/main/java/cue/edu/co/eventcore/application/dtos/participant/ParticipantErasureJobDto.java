@@ -0,0 +1,36 @@
+package cue.edu.co.eventcore.application.dtos.participant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress of a bulk participant erasure job
+ * Participants with attendance history are anonymized, the rest are deleted
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantErasureJobDto {
+
+    private String jobId;
+    private State state;
+    private Long total;
+    private Long processed;
+    private Long deleted;
+    private Long anonymized;
+    private LocalDateTime submittedAt;
+    private LocalDateTime updatedAt;
+    private String error;
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
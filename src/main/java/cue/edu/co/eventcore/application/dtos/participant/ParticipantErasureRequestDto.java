@@ -0,0 +1,30 @@
+package cue.edu.co.eventcore.application.dtos.participant;
+
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a bulk participant erasure request
+ * Selects participants either by explicit IDs or by a status and/or creation date filter
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantErasureRequestDto {
+
+    @Size(max = 100000, message = "At most 100000 participant IDs per request")
+    private List<@NotNull Long> participantIds;
+
+    private ParticipantStatus status;
+
+    private LocalDateTime createdBefore;
+}
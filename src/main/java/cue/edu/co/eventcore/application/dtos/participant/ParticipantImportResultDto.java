@@ -0,0 +1,37 @@
+package cue.edu.co.eventcore.application.dtos.participant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a bulk participant import
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParticipantImportResultDto {
+
+    private Long received;
+    private Long imported;
+    private Long invalid;
+    private Long duplicates;
+    private List<RowError> errors;
+
+    /**
+     * A rejected input row; only the first rows are listed, the totals count all of them
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long line;
+        private String reason;
+        private String message;
+    }
+}
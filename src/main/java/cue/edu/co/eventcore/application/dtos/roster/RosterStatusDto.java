@@ -0,0 +1,20 @@
+package cue.edu.co.eventcore.application.dtos.roster;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the check-in roster of an event
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RosterStatusDto {
+
+    private Long eventId;
+    private Integer entries;
+    private Integer pendingCheckIns;
+}
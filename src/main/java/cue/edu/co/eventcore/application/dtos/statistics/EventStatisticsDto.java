@@ -20,6 +20,7 @@ public class EventStatisticsDto {
     private Long totalCheckedIn;
     private Long totalCancelled;
     private Long totalNoShow;
+    private Long totalWaitlisted;
     private Integer availableSpots;
     private Double occupancyPercentage;
 }
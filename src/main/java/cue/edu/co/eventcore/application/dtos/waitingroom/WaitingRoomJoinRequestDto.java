@@ -0,0 +1,20 @@
+package cue.edu.co.eventcore.application.dtos.waitingroom;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for joining the waiting room of an event
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomJoinRequestDto {
+
+    @NotNull(message = "Participant ID is required")
+    private Long participantId;
+}
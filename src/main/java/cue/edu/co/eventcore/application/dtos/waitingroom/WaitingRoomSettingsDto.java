@@ -0,0 +1,29 @@
+package cue.edu.co.eventcore.application.dtos.waitingroom;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for enabling the waiting room of an event
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomSettingsDto {
+
+    @NotNull(message = "Admissions per second is required")
+    @Min(value = 1, message = "Admissions per second must be at least 1")
+    @Max(value = 10000, message = "Admissions per second must not exceed 10,000")
+    private Integer admissionsPerSecond;
+
+    @NotNull(message = "Admission window is required")
+    @Min(value = 30, message = "Admission window must be at least 30 seconds")
+    @Max(value = 3600, message = "Admission window must not exceed 3,600 seconds")
+    private Integer admissionWindowSeconds;
+}
@@ -0,0 +1,34 @@
+package cue.edu.co.eventcore.application.dtos.waitingroom;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the waiting room position of a participant
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitingRoomStatusDto {
+
+    private Long eventId;
+    private Long participantId;
+    private State state;
+    private Long position;
+    private Long estimatedWaitSeconds;
+    private LocalDateTime admittedUntil;
+
+    /**
+     * Where the participant stands in the waiting room
+     */
+    public enum State {
+        QUEUED,
+        ADMITTED,
+        NOT_QUEUED
+    }
+}
@@ -2,7 +2,10 @@ package cue.edu.co.eventcore.application.mappers;
 
 import cue.edu.co.eventcore.application.dtos.event.EventRequestDto;
 import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.application.dtos.event.EventViewDto;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
 import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.EventView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -46,4 +49,35 @@ public class EventDtoMapper {
                 .updatedAt(entity.getUpdatedAt())
                 .build();
     }
+
+    public EventViewDto toViewDto(EventView view) {
+        if (view == null) {
+            return null;
+        }
+
+        Event event = view.getEvent();
+        long registered = view.count(AttendanceStatus.REGISTERED);
+        int capacity = event.getCapacity() != null ? event.getCapacity() : 0;
+
+        return EventViewDto.builder()
+                .id(event.getId())
+                .name(event.getName())
+                .description(event.getDescription())
+                .location(event.getLocation())
+                .startDate(event.getStartDate())
+                .endDate(event.getEndDate())
+                .capacity(event.getCapacity())
+                .currentAttendees(event.getCurrentAttendees())
+                .availableSpots(event.getRemainingCapacity())
+                .status(event.getStatus())
+                .totalRegistered(registered)
+                .totalCheckedIn(view.count(AttendanceStatus.CHECKED_IN))
+                .totalCancelled(view.count(AttendanceStatus.CANCELLED))
+                .totalNoShow(view.count(AttendanceStatus.NO_SHOW))
+                .totalWaitlisted(view.count(AttendanceStatus.WAITLISTED))
+                .occupancyPercentage(capacity == 0 ? 0.0 : (registered * 100.0) / capacity)
+                .createdAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
 }
@@ -22,6 +22,7 @@ public class StatisticsDtoMapper {
                 .totalCheckedIn(statistics.getTotalCheckedIn())
                 .totalCancelled(statistics.getTotalCancelled())
                 .totalNoShow(statistics.getTotalNoShow())
+                .totalWaitlisted(statistics.getTotalWaitlisted())
                 .availableSpots(statistics.getAvailableSpots())
                 .occupancyPercentage(statistics.getOccupancyPercentage())
                 .build();
@@ -0,0 +1,96 @@
+package cue.edu.co.eventcore.application.queries;
+
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceHistoryDto;
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceKeyJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.EventJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.ParticipantJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Read-side query service for Attendances
+ * Projects rows straight into response DTOs, skipping the entity and domain mapping steps
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AttendanceQueryService {
+
+    private final AttendanceJpaRepository attendanceJpaRepository;
+    private final AttendanceKeyJpaRepository attendanceKeyJpaRepository;
+    private final EventJpaRepository eventJpaRepository;
+    private final ParticipantJpaRepository participantJpaRepository;
+
+    /**
+     * Get attendance by ID
+     * @param id the attendance ID
+     * @return the attendance response
+     */
+    public AttendanceResponseDto getAttendanceById(Long id) {
+        return attendanceKeyJpaRepository.findEventIdById(id)
+                .flatMap(eventId -> attendanceJpaRepository.findResponseByEventIdAndId(eventId, id))
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance", id));
+    }
+
+    /**
+     * Get all attendances for an event
+     * @param eventId the event ID
+     * @return list of attendance responses
+     */
+    public List<AttendanceResponseDto> getAttendancesByEvent(Long eventId) {
+        if (!eventJpaRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", eventId);
+        }
+        return attendanceJpaRepository.findResponsesByEventId(eventId);
+    }
+
+    /**
+     * Get all attendances for a participant
+     * @param participantId the participant ID
+     * @return list of attendance responses
+     */
+    public List<AttendanceResponseDto> getAttendancesByParticipant(Long participantId) {
+        if (!participantJpaRepository.existsById(participantId)) {
+            throw new ResourceNotFoundException("Participant", participantId);
+        }
+        List<Long> eventIds = attendanceKeyJpaRepository.findEventIdsByParticipantId(participantId);
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return attendanceJpaRepository.findResponsesByParticipantId(eventIds, participantId);
+    }
+
+    /**
+     * Get one page of a participant attendance history, each entry with its event summary
+     * @param participantId the participant ID
+     * @param status optional status filter
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return one page of history entries, newest events first
+     */
+    public PageResponseDto<AttendanceHistoryDto> getParticipantHistory(Long participantId, AttendanceStatus status,
+                                                                      int page, int size) {
+        if (!participantJpaRepository.existsById(participantId)) {
+            throw new ResourceNotFoundException("Participant", participantId);
+        }
+        List<Long> eventIds = attendanceKeyJpaRepository.findEventIdsByParticipantId(participantId);
+        if (eventIds.isEmpty()) {
+            return PageResponseDto.of(List.of(), page, size, 0);
+        }
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<AttendanceHistoryDto> result = status == null
+                ? attendanceJpaRepository.findHistoryByParticipantId(eventIds, participantId, pageable)
+                : attendanceJpaRepository.findHistoryByParticipantIdAndStatus(eventIds, participantId, status, pageable);
+        return PageResponseDto.of(result.getContent(), page, size, result.getTotalElements());
+    }
+}
@@ -0,0 +1,208 @@
+package cue.edu.co.eventcore.application.queries;
+
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.application.dtos.common.ListView;
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucket;
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucketDto;
+import cue.edu.co.eventcore.application.dtos.event.CalendarPageDto;
+import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.EventJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.projection.SparseProjection;
+import cue.edu.co.eventcore.infrastructure.persistence.projection.SparseProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-side query service for Events
+ * Projects rows straight into response DTOs, skipping the entity and domain mapping steps
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EventQueryService {
+
+    private final EventJpaRepository eventJpaRepository;
+    private final SparseProjectionRepository sparseProjectionRepository;
+
+    /**
+     * Get event by ID
+     * @param id the event ID
+     * @return the event response
+     */
+    public EventResponseDto getEventById(Long id) {
+        return eventJpaRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", id));
+    }
+
+    /**
+     * Get all events
+     * @return list of all event responses
+     */
+    public List<EventResponseDto> getAllEvents() {
+        return eventJpaRepository.findAllResponses();
+    }
+
+    /**
+     * Get upcoming events
+     * @return list of upcoming event responses
+     */
+    public List<EventResponseDto> getUpcomingEvents() {
+        return eventJpaRepository.findUpcomingResponses(LocalDateTime.now());
+    }
+
+    /**
+     * Get events by status
+     * @param status the event status
+     * @return list of event responses with the given status
+     */
+    public List<EventResponseDto> getEventsByStatus(EventStatus status) {
+        return eventJpaRepository.findResponsesByStatus(status);
+    }
+
+    /**
+     * Resolve the requested event fields or view
+     * @param fields comma-separated event fields, may be null
+     * @param view the predefined representation
+     * @return the selection, FULL for the complete response DTO
+     */
+    public FieldSelection selectFields(String fields, ListView view) {
+        return SparseProjection.EVENT.resolve(fields, view);
+    }
+
+    /**
+     * Get all events, fetching only the selected fields
+     * @param selection the selected fields, not FULL
+     * @return one map per event holding exactly the selected fields
+     */
+    public List<Map<String, Object>> getAllEvents(FieldSelection selection) {
+        return sparseProjectionRepository.findEvents(selection);
+    }
+
+    /**
+     * Get upcoming events, fetching only the selected fields
+     * @param selection the selected fields, not FULL
+     * @return one map per event holding exactly the selected fields
+     */
+    public List<Map<String, Object>> getUpcomingEvents(FieldSelection selection) {
+        return sparseProjectionRepository.findUpcomingEvents(selection, LocalDateTime.now());
+    }
+
+    /**
+     * Get events by status, fetching only the selected fields
+     * @param status the event status
+     * @param selection the selected fields, not FULL
+     * @return one map per event holding exactly the selected fields
+     */
+    public List<Map<String, Object>> getEventsByStatus(EventStatus status, FieldSelection selection) {
+        return sparseProjectionRepository.findEventsByStatus(selection, status);
+    }
+
+    /**
+     * Get one page of events starting within [from, to), ordered by start date
+     * Pages are keyset-based, so deep pages cost the same as the first one
+     * @param from inclusive range start
+     * @param to exclusive range end
+     * @param status optional status filter
+     * @param limit maximum events per page
+     * @param cursor opaque cursor returned by the previous page, or null
+     * @return the page and the cursor of the next one
+     */
+    public CalendarPageDto getCalendarPage(LocalDateTime from, LocalDateTime to, EventStatus status,
+                                           int limit, String cursor) {
+        // Before the first page, (from, 0) sorts ahead of every event starting at or after from
+        LocalDateTime afterStart = from;
+        long afterId = 0L;
+        if (cursor != null) {
+            CalendarCursor decoded = CalendarCursor.decode(cursor);
+            if (decoded.startDate().isBefore(from)) {
+                throw new BusinessRuleException("Cursor does not belong to the requested range");
+            }
+            afterStart = decoded.startDate();
+            afterId = decoded.id();
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        PageRequest pageable = PageRequest.ofSize(limit + 1);
+        List<EventResponseDto> rows = status == null
+                ? eventJpaRepository.findCalendarPage(afterStart, afterId, to, pageable)
+                : eventJpaRepository.findCalendarPageByStatus(afterStart, afterId, to, status, pageable);
+
+        if (rows.size() <= limit) {
+            return new CalendarPageDto(rows, null);
+        }
+        List<EventResponseDto> events = rows.subList(0, limit);
+        EventResponseDto last = events.get(limit - 1);
+        return new CalendarPageDto(new ArrayList<>(events),
+                new CalendarCursor(last.getStartDate(), last.getId()).encode());
+    }
+
+    /**
+     * Count events starting within [from, to), grouped by day or ISO week
+     * @param from inclusive range start
+     * @param to exclusive range end
+     * @param status optional status filter
+     * @param bucket bucket granularity
+     * @return non-empty buckets in ascending order
+     */
+    public List<CalendarBucketDto> getCalendarSummary(LocalDateTime from, LocalDateTime to, EventStatus status,
+                                                      CalendarBucket bucket) {
+        List<CalendarBucketDto> days = status == null
+                ? eventJpaRepository.countByStartDay(from, to)
+                : eventJpaRepository.countByStartDayAndStatus(from, to, status);
+        if (bucket == CalendarBucket.DAY) {
+            return days;
+        }
+
+        // Weeks fold the already ordered day buckets, so they stay ordered too
+        Map<LocalDate, Long> weeks = new LinkedHashMap<>();
+        for (CalendarBucketDto day : days) {
+            LocalDate monday = day.getBucketStart().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            weeks.merge(monday, day.getCount(), Long::sum);
+        }
+        return weeks.entrySet().stream()
+                .map(week -> new CalendarBucketDto(week.getKey(), week.getValue()))
+                .toList();
+    }
+
+    /**
+     * Position of the last event on a calendar page, serialized as base64url("startDate|id")
+     */
+    private record CalendarCursor(LocalDateTime startDate, long id) {
+
+        String encode() {
+            String raw = startDate + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static CalendarCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Missing separator");
+                }
+                return new CalendarCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new BusinessRuleException("Invalid calendar cursor");
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package cue.edu.co.eventcore.application.queries;
+
+import cue.edu.co.eventcore.application.dtos.event.EventViewDto;
+import cue.edu.co.eventcore.application.mappers.EventDtoMapper;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.EventView;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceStatusCount;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.EventJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.mappers.EventMapper;
+import cue.edu.co.eventcore.infrastructure.persistence.models.EventJpaEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Read-side query service for the denormalized event page view
+ * Views are served from Redis; a missing one is rebuilt from the database with two queries
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class EventViewQueryService {
+
+    private final EventViewRepository eventViewRepository;
+    private final EventJpaRepository eventJpaRepository;
+    private final AttendanceJpaRepository attendanceJpaRepository;
+    private final EventMapper eventMapper;
+    private final EventDtoMapper eventDtoMapper;
+
+    @Value("${eventcore.event-view.rebuild-chunk-size:200}")
+    private int rebuildChunkSize;
+
+    /**
+     * Get the detail page view of an event
+     * @param id the event ID
+     * @return the event with its live attendance counts
+     */
+    public EventViewDto getEventView(Long id) {
+        EventView view = eventViewRepository.findById(id).orElseGet(() -> {
+            // Taken before the database read, so an update committed in between keeps the rebuilt view out
+            long generation = eventViewRepository.generations(List.of(id)).getOrDefault(id, 0L);
+            EventJpaEntity event = eventJpaRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event", id));
+            EventView rebuilt = project(List.of(event)).get(0);
+            eventViewRepository.replaceIfUnchanged(rebuilt, generation);
+            return rebuilt;
+        });
+        return eventDtoMapper.toViewDto(view);
+    }
+
+    /**
+     * Rebuild the views of every active event that has not ended, one chunk at a time
+     * Replacing each view from the database repairs any drift left by missed incremental updates;
+     * a view that changes during its rebuild is skipped and repaired by a later pass
+     * @param keepGoing checked between chunks; returning false stops the run early
+     * @return number of views rebuilt
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildOpenEvents(BooleanSupplier keepGoing) {
+        LocalDateTime now = LocalDateTime.now();
+        PageRequest chunk = PageRequest.ofSize(rebuildChunkSize);
+        int rebuilt = 0;
+        long afterId = 0L;
+        List<EventJpaEntity> events;
+        do {
+            events = eventJpaRepository.findOpenAfter(afterId, now, chunk);
+            if (events.isEmpty()) {
+                break;
+            }
+            // Generations are read before the counts; the version check covers event fields read just before them
+            Map<Long, Long> generations = eventViewRepository.generations(events.stream().map(EventJpaEntity::getId).toList());
+            for (EventView view : project(events)) {
+                eventViewRepository.replaceIfUnchanged(view, generations.getOrDefault(view.getEvent().getId(), 0L));
+            }
+            rebuilt += events.size();
+            afterId = events.get(events.size() - 1).getId();
+        } while (events.size() == rebuildChunkSize && keepGoing.getAsBoolean());
+
+        if (rebuilt > 0) {
+            log.debug("Rebuilt {} event views", rebuilt);
+        }
+        return rebuilt;
+    }
+
+    // Counts for the whole chunk come from one grouped query
+    private List<EventView> project(List<EventJpaEntity> events) {
+        Map<Long, Map<AttendanceStatus, Long>> counts = new HashMap<>();
+        for (EventJpaEntity event : events) {
+            Map<AttendanceStatus, Long> eventCounts = new EnumMap<>(AttendanceStatus.class);
+            for (AttendanceStatus status : AttendanceStatus.values()) {
+                eventCounts.put(status, 0L);
+            }
+            counts.put(event.getId(), eventCounts);
+        }
+        for (AttendanceStatusCount row : attendanceJpaRepository.countByEventIdsGroupByStatus(counts.keySet())) {
+            counts.get(row.eventId()).put(row.status(), row.count());
+        }
+
+        List<EventView> views = new ArrayList<>(events.size());
+        for (EventJpaEntity event : events) {
+            views.add(new EventView(eventMapper.toDomain(event), counts.get(event.getId())));
+        }
+        return views;
+    }
+}
@@ -0,0 +1,133 @@
+package cue.edu.co.eventcore.application.queries;
+
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.application.dtos.common.ListView;
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.ParticipantJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.projection.SparseProjection;
+import cue.edu.co.eventcore.infrastructure.persistence.projection.SparseProjectionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Read-side query service for Participants
+ * Projects rows straight into response DTOs, skipping the entity and domain mapping steps
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ParticipantQueryService {
+
+    private final ParticipantJpaRepository participantJpaRepository;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final SparseProjectionRepository sparseProjectionRepository;
+
+    /**
+     * Get participant by ID
+     * @param id the participant ID
+     * @return the participant response
+     */
+    public ParticipantResponseDto getParticipantById(Long id) {
+        return participantJpaRepository.findResponseById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant", id));
+    }
+
+    /**
+     * Get participant by email
+     * @param email the participant email
+     * @return the participant response
+     */
+    public ParticipantResponseDto getParticipantByEmail(String email) {
+        return participantJpaRepository.findResponseByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant", email));
+    }
+
+    /**
+     * Get all participants
+     * @return list of all participant responses
+     */
+    public List<ParticipantResponseDto> getAllParticipants() {
+        return participantJpaRepository.findAllResponses();
+    }
+
+    /**
+     * Get participants by status
+     * @param status the participant status
+     * @return list of participant responses with the given status
+     */
+    public List<ParticipantResponseDto> getParticipantsByStatus(ParticipantStatus status) {
+        return participantJpaRepository.findResponsesByStatus(status);
+    }
+
+    /**
+     * Resolve the requested participant fields or view
+     * @param fields comma-separated participant fields, may be null
+     * @param view the predefined representation
+     * @return the selection, FULL for the complete response DTO
+     */
+    public FieldSelection selectFields(String fields, ListView view) {
+        return SparseProjection.PARTICIPANT.resolve(fields, view);
+    }
+
+    /**
+     * Get all participants, fetching only the selected fields
+     * @param selection the selected fields, not FULL
+     * @return one map per participant holding exactly the selected fields
+     */
+    public List<Map<String, Object>> getAllParticipants(FieldSelection selection) {
+        return sparseProjectionRepository.findParticipants(selection);
+    }
+
+    /**
+     * Get participants by status, fetching only the selected fields
+     * @param status the participant status
+     * @param selection the selected fields, not FULL
+     * @return one map per participant holding exactly the selected fields
+     */
+    public List<Map<String, Object>> getParticipantsByStatus(ParticipantStatus status, FieldSelection selection) {
+        return sparseProjectionRepository.findParticipantsByStatus(selection, status);
+    }
+
+    /**
+     * Search participants by name, email or document number, best matches first
+     * @param query the free-text query
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return one page of matching participant responses
+     */
+    public PageResponseDto<ParticipantResponseDto> searchParticipants(String query, int page, int size) {
+        Optional<ParticipantSearchIndex.Hits> hits = participantSearchIndex.search(query, page * size, size);
+        if (hits.isEmpty()) {
+            Page<ParticipantResponseDto> result = participantJpaRepository.searchResponsesByPrefix(
+                    query.trim().toLowerCase(Locale.ROOT) + "%", PageRequest.of(page, size));
+            return PageResponseDto.of(result.getContent(), page, size, result.getTotalElements());
+        }
+
+        List<Long> ids = hits.get().getParticipantIds();
+        Map<Long, ParticipantResponseDto> byId = ids.isEmpty() ? Map.of()
+                : participantJpaRepository.findResponsesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ParticipantResponseDto::getId, Function.identity()));
+
+        // Keep the index ranking; rows deleted since indexing are dropped
+        List<ParticipantResponseDto> content = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return PageResponseDto.of(content, page, size, hits.get().getTotal());
+    }
+}
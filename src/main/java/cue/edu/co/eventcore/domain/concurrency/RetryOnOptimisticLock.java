@@ -0,0 +1,23 @@
+package cue.edu.co.eventcore.domain.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional service method to be re-run when its commit loses an optimistic lock race
+ * The retry wraps the whole transaction, so every attempt reads fresh state
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnOptimisticLock {
+
+    /**
+     * Operation name used to tag retry metrics
+     * @return the operation name, defaults to the method name
+     */
+    String value() default "";
+}
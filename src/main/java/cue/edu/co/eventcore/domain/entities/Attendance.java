@@ -26,6 +26,7 @@ public class Attendance {
     private String notes;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Business logic: Check if participant is registered
@@ -51,6 +52,21 @@ public class Attendance {
         return AttendanceStatus.CANCELLED.equals(status);
     }
 
+    /**
+     * Business logic: Check if attendance is waiting for a freed spot
+     * @return true if attendance is on the waitlist
+     */
+    public boolean isWaitlisted() {
+        return AttendanceStatus.WAITLISTED.equals(status);
+    }
+
+    /**
+     * Business logic: Promote a waitlisted attendance to a confirmed registration
+     */
+    public void promote() {
+        this.status = AttendanceStatus.REGISTERED;
+    }
+
     /**
      * Business logic: Perform check-in
      */
@@ -5,6 +5,7 @@ package cue.edu.co.eventcore.domain.entities;
  */
 public enum AttendanceStatus {
     REGISTERED,
+    WAITLISTED,
     CHECKED_IN,
     CANCELLED,
     NO_SHOW
@@ -28,6 +28,7 @@ public class Event {
     private EventStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Business logic: Check if event has available spots
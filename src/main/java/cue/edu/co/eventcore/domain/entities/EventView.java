@@ -0,0 +1,48 @@
+package cue.edu.co.eventcore.domain.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Denormalized read model of an event page: the event with its live attendance counts
+ * This is a pure domain object with no framework dependencies
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventView {
+
+    private Event event;
+    private Map<AttendanceStatus, Long> attendanceCounts;
+
+    /**
+     * View of a newly created event, which has no attendances yet
+     * @param event the event
+     * @return the view with every count at zero
+     */
+    public static EventView of(Event event) {
+        Map<AttendanceStatus, Long> counts = new EnumMap<>(AttendanceStatus.class);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            counts.put(status, 0L);
+        }
+        return new EventView(event, counts);
+    }
+
+    /**
+     * Get the number of attendances in a status
+     * @param status the attendance status
+     * @return the count, zero if none
+     */
+    public long count(AttendanceStatus status) {
+        if (attendanceCounts == null) {
+            return 0L;
+        }
+        return attendanceCounts.getOrDefault(status, 0L);
+    }
+}
@@ -26,6 +26,7 @@ public class Participant {
     private ParticipantStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     /**
      * Business logic: Get full name
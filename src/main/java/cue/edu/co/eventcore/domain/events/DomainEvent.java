@@ -0,0 +1,94 @@
+package cue.edu.co.eventcore.domain.events;
+
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.Participant;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Something that happened to an aggregate, recorded in the same transaction as the change
+ * Payloads carry identifiers and state only, never participant personal data
+ */
+@Value
+@Builder
+public class DomainEvent {
+
+    DomainEventType type;
+    String aggregateType;
+    Long aggregateId;
+    Map<String, Object> payload;
+    LocalDateTime occurredAt;
+
+    /**
+     * Build an event about an Event aggregate
+     * @param type the event type
+     * @param event the event after the change
+     * @return the domain event
+     */
+    public static DomainEvent of(DomainEventType type, Event event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("eventId", event.getId());
+        payload.put("status", event.getStatus());
+        payload.put("capacity", event.getCapacity());
+        payload.put("currentAttendees", event.getCurrentAttendees());
+        payload.put("startDate", event.getStartDate());
+        return build(type, "Event", event.getId(), payload);
+    }
+
+    /**
+     * Build an event about a Participant aggregate
+     * @param type the event type
+     * @param participant the participant after the change
+     * @return the domain event
+     */
+    public static DomainEvent of(DomainEventType type, Participant participant) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("participantId", participant.getId());
+        payload.put("status", participant.getStatus());
+        return build(type, "Participant", participant.getId(), payload);
+    }
+
+    /**
+     * Build an event about an Attendance aggregate
+     * @param type the event type
+     * @param attendance the attendance after the change
+     * @return the domain event
+     */
+    public static DomainEvent of(DomainEventType type, Attendance attendance) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("attendanceId", attendance.getId());
+        payload.put("eventId", attendance.getEventId());
+        payload.put("participantId", attendance.getParticipantId());
+        payload.put("status", attendance.getStatus());
+        return build(type, "Attendance", attendance.getId(), payload);
+    }
+
+    /**
+     * Build an event about an aggregate that no longer exists
+     * @param type the event type
+     * @param aggregateType the aggregate type
+     * @param aggregateId the aggregate ID
+     * @return the domain event
+     */
+    public static DomainEvent deleted(DomainEventType type, String aggregateType, Long aggregateId) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", aggregateId);
+        return build(type, aggregateType, aggregateId, payload);
+    }
+
+    private static DomainEvent build(DomainEventType type, String aggregateType, Long aggregateId,
+                                     Map<String, Object> payload) {
+        return DomainEvent.builder()
+                .type(type)
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .payload(payload)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
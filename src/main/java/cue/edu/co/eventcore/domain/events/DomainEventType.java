@@ -0,0 +1,19 @@
+package cue.edu.co.eventcore.domain.events;
+
+/**
+ * Enum representing the kinds of domain events written to the outbox
+ */
+public enum DomainEventType {
+    EVENT_CREATED,
+    EVENT_UPDATED,
+    EVENT_CANCELLED,
+    EVENT_DELETED,
+    PARTICIPANT_CREATED,
+    PARTICIPANT_UPDATED,
+    PARTICIPANT_DELETED,
+    ATTENDANCE_REGISTERED,
+    ATTENDANCE_WAITLISTED,
+    ATTENDANCE_PROMOTED,
+    ATTENDANCE_CHECKED_IN,
+    ATTENDANCE_CANCELLED
+}
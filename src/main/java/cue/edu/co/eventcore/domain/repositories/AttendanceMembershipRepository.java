@@ -0,0 +1,49 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import cue.edu.co.eventcore.domain.entities.Attendance;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for per-event attendance membership
+ * Answers membership and set questions over participants of events without
+ * querying the attendances table; the table and its unique index stay authoritative
+ */
+public interface AttendanceMembershipRepository {
+
+    /**
+     * Check if a participant holds any attendance for an event
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @return true if an attendance exists, whatever its status
+     */
+    boolean contains(Long eventId, Long participantId);
+
+    /**
+     * Record the current status of an attendance once the surrounding transaction commits
+     * @param attendance the persisted attendance
+     */
+    void record(Attendance attendance);
+
+    /**
+     * Forget the membership of an event once the surrounding transaction commits,
+     * for bulk status changes that bypass {@link #record(Attendance)}
+     * @param eventId the event ID
+     */
+    void evict(Long eventId);
+
+    /**
+     * Find participants attending every one of the given events
+     * @param eventIds the event IDs
+     * @return sorted participant IDs registered or checked in to all events
+     */
+    List<Long> findAttendingAll(Collection<Long> eventIds);
+
+    /**
+     * Find participants registered to an event who have not checked in
+     * @param eventId the event ID
+     * @return sorted participant IDs
+     */
+    List<Long> findNotCheckedIn(Long eventId);
+}
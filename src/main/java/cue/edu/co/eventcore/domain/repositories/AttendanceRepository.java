@@ -57,6 +57,20 @@ public interface AttendanceRepository {
      */
     List<Attendance> findByEventIdAndStatus(Long eventId, AttendanceStatus status);
 
+    /**
+     * Find the oldest waitlisted attendance of an event
+     * @param eventId the event ID
+     * @return an Optional containing the head of the waitlist if any
+     */
+    Optional<Attendance> findWaitlistHead(Long eventId);
+
+    /**
+     * Count waitlisted attendances queued ahead of the given one
+     * @param attendance the waitlisted attendance
+     * @return number of attendances ahead in the waitlist
+     */
+    long countWaitlistedAhead(Attendance attendance);
+
     /**
      * Check if an attendance exists by event ID and participant ID
      * @param eventId the event ID
@@ -65,6 +79,13 @@ public interface AttendanceRepository {
      */
     boolean existsByEventIdAndParticipantId(Long eventId, Long participantId);
 
+    /**
+     * Check if a participant holds any attendance
+     * @param participantId the participant ID
+     * @return true if at least one attendance exists
+     */
+    boolean existsByParticipantId(Long participantId);
+
     /**
      * Count attendances for an event
      * @param eventId the event ID
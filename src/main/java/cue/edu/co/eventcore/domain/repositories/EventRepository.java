@@ -4,6 +4,7 @@ import cue.edu.co.eventcore.domain.entities.Event;
 import cue.edu.co.eventcore.domain.entities.EventStatus;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,13 @@ public interface EventRepository {
      */
     List<Event> findAll();
 
+    /**
+     * Find events by ID in one query
+     * @param ids the event IDs
+     * @return the events found, in no particular order; unknown IDs are skipped
+     */
+    List<Event> findAllById(Collection<Long> ids);
+
     /**
      * Find events by status
      * @param status the event status
@@ -0,0 +1,68 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.EventView;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Repository interface for the denormalized event page read model
+ * Writes are applied once the surrounding transaction commits; the events and attendances
+ * tables stay authoritative and a missing view is rebuilt from them
+ */
+public interface EventViewRepository {
+
+    /**
+     * Find the view of an event
+     * @param eventId the event ID
+     * @return an Optional containing the view if it is stored
+     */
+    Optional<EventView> findById(Long eventId);
+
+    /**
+     * Store a complete view, replacing any previous one
+     * @param view the view
+     */
+    void save(EventView view);
+
+    /**
+     * Get the change generations of views, bumped by every incremental update and eviction,
+     * whether or not the view is stored
+     * @param eventIds the event IDs
+     * @return the generation per event ID, 0 for events never changed
+     */
+    Map<Long, Long> generations(Collection<Long> eventIds);
+
+    /**
+     * Store a view rebuilt from the database, unless it changed since the generation was read
+     * A change committed while the view was being rebuilt is not in the rebuilt data and would be lost
+     * under it, so the view is left to the next read or rebuild pass instead
+     * @param view the view, built from data read after the generation
+     * @param generation the generation read before the database
+     */
+    void replaceIfUnchanged(EventView view, long generation);
+
+    /**
+     * Refresh the event fields of a stored view, keeping its counts
+     * Older event versions than the stored one are ignored
+     * @param event the saved event
+     */
+    void updateEvent(Event event);
+
+    /**
+     * Move one attendance between counts of a stored view
+     * @param eventId the event ID
+     * @param from the previous status, or null for a new attendance
+     * @param to the new status
+     */
+    void countTransition(Long eventId, AttendanceStatus from, AttendanceStatus to);
+
+    /**
+     * Drop the view of an event, for deletions and bulk changes that bypass the incremental updates
+     * @param eventId the event ID
+     */
+    void evict(Long eventId);
+}
@@ -0,0 +1,27 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+
+import java.util.Collection;
+
+/**
+ * Repository interface for the transactional outbox
+ * Events are stored in the same transaction as the change that caused them,
+ * so they are published if and only if that change commits
+ */
+public interface OutboxRepository {
+
+    /**
+     * Append a domain event to the outbox within the current transaction
+     * @param event the domain event
+     */
+    void append(DomainEvent event);
+
+    /**
+     * Append several domain events to the outbox within the current transaction
+     * @param events the domain events
+     */
+    default void appendAll(Collection<DomainEvent> events) {
+        events.forEach(this::append);
+    }
+}
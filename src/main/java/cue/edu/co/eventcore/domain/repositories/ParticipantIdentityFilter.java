@@ -0,0 +1,34 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+
+import java.util.function.Predicate;
+
+/**
+ * Probabilistic pre-check for participant email and document number uniqueness
+ * A negative answer is definitive; anything else is confirmed through the given lookup
+ */
+public interface ParticipantIdentityFilter {
+
+    /**
+     * Check if an email is taken, consulting the lookup only when the filter cannot rule it out
+     * @param email the email to check
+     * @param lookup the authoritative existence check
+     * @return true if the email is taken
+     */
+    boolean emailExists(String email, Predicate<String> lookup);
+
+    /**
+     * Check if a document number is taken, consulting the lookup only when the filter cannot rule it out
+     * @param documentNumber the document number to check
+     * @param lookup the authoritative existence check
+     * @return true if the document number is taken
+     */
+    boolean documentNumberExists(String documentNumber, Predicate<String> lookup);
+
+    /**
+     * Register the email and document number of a saved participant
+     * @param participant the saved participant
+     */
+    void add(Participant participant);
+}
@@ -3,6 +3,7 @@ package cue.edu.co.eventcore.domain.repositories;
 import cue.edu.co.eventcore.domain.entities.Participant;
 import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,13 @@ public interface ParticipantRepository {
      */
     List<Participant> findAll();
 
+    /**
+     * Find participants by ID in one query
+     * @param ids the participant IDs
+     * @return the participants found, in no particular order; unknown IDs are skipped
+     */
+    List<Participant> findAllById(Collection<Long> ids);
+
     /**
      * Find participants by status
      * @param status the participant status
@@ -0,0 +1,54 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Full-text style lookup of participants by name, email and document number
+ */
+public interface ParticipantSearchIndex {
+
+    /**
+     * Add or refresh a participant once the surrounding transaction commits
+     * @param participant the saved participant
+     */
+    void index(Participant participant);
+
+    /**
+     * Add or refresh several participants once the surrounding transaction commits
+     * @param participants the saved participants
+     */
+    default void indexAll(Collection<Participant> participants) {
+        participants.forEach(this::index);
+    }
+
+    /**
+     * Remove a participant once the surrounding transaction commits
+     * @param participantId the participant ID
+     */
+    void remove(Long participantId);
+
+    /**
+     * Search participants with prefix and fuzzy matching, best matches first
+     * @param query the free-text query
+     * @param offset number of hits to skip
+     * @param limit maximum number of hits to return
+     * @return the ranked hits, or empty if the index is not available
+     */
+    Optional<Hits> search(String query, int offset, int limit);
+
+    /**
+     * One page of ranked participant IDs and the total number of matches
+     */
+    @Getter
+    @AllArgsConstructor
+    class Hits {
+        private final List<Long> participantIds;
+        private final long total;
+    }
+}
@@ -0,0 +1,60 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import java.util.OptionalLong;
+
+/**
+ * Repository interface for resource versions
+ * Holds a monotonically increasing version per resource or collection,
+ * bumped by the write side and used by readers to validate cached representations
+ */
+public interface ResourceVersionRepository {
+
+    /**
+     * Resource name for the events collection (all event list endpoints)
+     */
+    String EVENTS = "events";
+
+    /**
+     * Resource name for the participants collection (all participant list endpoints)
+     */
+    String PARTICIPANTS = "participants";
+
+    /**
+     * Resource name for the event summaries embedded in attendance histories
+     * Bumped only when a summary field (name, dates, location, status) changes, never by registrations
+     */
+    String EVENT_SUMMARIES = "events:summaries";
+
+    /**
+     * Resource name for the statistics of one event
+     * @param eventId the event ID
+     * @return the resource name
+     */
+    static String eventStatistics(Long eventId) {
+        return "event:stats:" + eventId;
+    }
+
+    /**
+     * Resource name for the attendances of one participant
+     * @param participantId the participant ID
+     * @return the resource name
+     */
+    static String participantAttendances(Long participantId) {
+        return "participant:attendances:" + participantId;
+    }
+
+    /**
+     * Get the current version of a resource
+     * @param resource the resource name
+     * @return the current version, or empty when the version store is unavailable
+     */
+    OptionalLong getVersion(String resource);
+
+    /**
+     * Increment the version of a resource
+     * When called inside a transaction the increment is applied after commit,
+     * so readers never pair a new version with uncommitted data
+     * @param resource the resource name
+     */
+    void increment(String resource);
+}
@@ -0,0 +1,35 @@
+package cue.edu.co.eventcore.domain.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for the per-event waitlist ordering
+ * The attendances table stays the source of truth; this ordering only answers
+ * position lookups without scanning the queue in the database
+ */
+public interface WaitlistRepository {
+
+    /**
+     * Append a waitlisted attendance to the queue of its event
+     * @param eventId the event ID
+     * @param attendanceId the attendance ID
+     * @param registrationDate the registration date, which orders the queue
+     */
+    void enqueue(Long eventId, Long attendanceId, LocalDateTime registrationDate);
+
+    /**
+     * Remove an attendance from the queue of its event
+     * @param eventId the event ID
+     * @param attendanceId the attendance ID
+     */
+    void remove(Long eventId, Long attendanceId);
+
+    /**
+     * Find the 1-based position of an attendance in the queue of its event
+     * @param eventId the event ID
+     * @param attendanceId the attendance ID
+     * @return an Optional containing the position if the attendance is queued
+     */
+    Optional<Long> findPosition(Long eventId, Long attendanceId);
+}
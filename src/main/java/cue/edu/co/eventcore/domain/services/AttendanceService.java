@@ -1,21 +1,30 @@
 package cue.edu.co.eventcore.domain.services;
 
+import cue.edu.co.eventcore.domain.concurrency.RetryOnOptimisticLock;
 import cue.edu.co.eventcore.domain.entities.Attendance;
 import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
 import cue.edu.co.eventcore.domain.entities.Event;
 import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
 import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
 import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
 import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
 import cue.edu.co.eventcore.domain.repositories.ParticipantRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.domain.repositories.WaitlistRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Domain service for Attendance business logic
@@ -29,13 +38,20 @@ public class AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final EventRepository eventRepository;
     private final ParticipantRepository participantRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final AttendanceMembershipRepository attendanceMembershipRepository;
+    private final OutboxRepository outboxRepository;
+    private final EventViewRepository eventViewRepository;
 
     /**
      * Register a participant to an event
+     * When the event is full the participant is queued on its waitlist instead
      * @param eventId the event ID
      * @param participantId the participant ID
-     * @return the created attendance
+     * @return the created attendance, REGISTERED or WAITLISTED
      */
+    @RetryOnOptimisticLock("attendance.register")
     public Attendance registerAttendance(Long eventId, Long participantId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", eventId));
@@ -45,20 +61,36 @@ public class AttendanceService {
 
         validateAttendanceRegistration(event, participant, eventId, participantId);
 
+        boolean waitlisted = !event.hasAvailableSpots();
+
         Attendance attendance = Attendance.builder()
                 .eventId(eventId)
                 .participantId(participantId)
-                .status(AttendanceStatus.REGISTERED)
+                .status(waitlisted ? AttendanceStatus.WAITLISTED : AttendanceStatus.REGISTERED)
                 .registrationDate(LocalDateTime.now())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
         attendance = attendanceRepository.save(attendance);
+        attendanceMembershipRepository.record(attendance);
+        outboxRepository.append(DomainEvent.of(
+                waitlisted ? DomainEventType.ATTENDANCE_WAITLISTED : DomainEventType.ATTENDANCE_REGISTERED, attendance));
+        eventViewRepository.countTransition(eventId, null, attendance.getStatus());
+        resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(participantId));
+
+        if (waitlisted) {
+            waitlistRepository.enqueue(eventId, attendance.getId(), attendance.getRegistrationDate());
+            resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(eventId));
+            return attendance;
+        }
 
         // Update event attendee count
         event.incrementAttendees();
-        eventRepository.save(event);
+        eventViewRepository.updateEvent(eventRepository.save(event));
+
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(eventId));
 
         return attendance;
     }
@@ -80,17 +112,31 @@ public class AttendanceService {
             throw new BusinessRuleException("Cannot check in a cancelled attendance");
         }
 
+        if (attendance.isWaitlisted()) {
+            throw new BusinessRuleException("Cannot check in a waitlisted attendance");
+        }
+
+        AttendanceStatus previousStatus = attendance.getStatus();
         attendance.checkIn();
         attendance.setUpdatedAt(LocalDateTime.now());
 
-        return attendanceRepository.save(attendance);
+        Attendance checkedIn = attendanceRepository.save(attendance);
+        attendanceMembershipRepository.record(checkedIn);
+        outboxRepository.append(DomainEvent.of(DomainEventType.ATTENDANCE_CHECKED_IN, checkedIn));
+        eventViewRepository.countTransition(checkedIn.getEventId(), previousStatus, checkedIn.getStatus());
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(attendance.getEventId()));
+        resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(checkedIn.getParticipantId()));
+
+        return checkedIn;
     }
 
     /**
      * Cancel an attendance
+     * A freed spot goes to the head of the event waitlist within the same transaction
      * @param attendanceId the attendance ID
      * @return the cancelled attendance
      */
+    @RetryOnOptimisticLock("attendance.cancel")
     public Attendance cancelAttendance(Long attendanceId) {
         Attendance attendance = attendanceRepository.findById(attendanceId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attendance", attendanceId));
@@ -99,22 +145,88 @@ public class AttendanceService {
             throw new BusinessRuleException("Attendance is already cancelled");
         }
 
+        if (attendance.isWaitlisted()) {
+            return leaveWaitlist(attendance);
+        }
+
         Attendance finalAttendance = attendance;
         Event event = eventRepository.findById(attendance.getEventId())
                 .orElseThrow(() -> new ResourceNotFoundException("Event", finalAttendance.getEventId()));
 
+        AttendanceStatus previousStatus = attendance.getStatus();
         attendance.cancel();
         attendance.setUpdatedAt(LocalDateTime.now());
 
         attendance = attendanceRepository.save(attendance);
+        attendanceMembershipRepository.record(attendance);
+        outboxRepository.append(DomainEvent.of(DomainEventType.ATTENDANCE_CANCELLED, attendance));
+        eventViewRepository.countTransition(event.getId(), previousStatus, attendance.getStatus());
+        resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(attendance.getParticipantId()));
+
+        // Hand the spot to the waitlist head; the attendee count only drops when nobody is waiting
+        Optional<Attendance> head = attendanceRepository.findWaitlistHead(event.getId());
+        if (head.isPresent() && event.isActive() && !event.hasEnded()) {
+            promote(event, head.get());
+        } else {
+            event.decrementAttendees();
+            eventViewRepository.updateEvent(eventRepository.save(event));
+        }
 
-        // Update event attendee count
-        event.decrementAttendees();
-        eventRepository.save(event);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(event.getId()));
 
         return attendance;
     }
 
+    /**
+     * Promote waitlisted attendances, oldest first, into the free spots of an event
+     * Runs in the caller's transaction; the caller saves the event with its new attendee count
+     * @param event the event whose capacity was raised
+     * @return the number of promoted attendances
+     */
+    public int promoteWaitlisted(Event event) {
+        int promoted = 0;
+        while (event.hasAvailableSpots() && event.isActive() && !event.hasEnded()) {
+            Optional<Attendance> head = attendanceRepository.findWaitlistHead(event.getId());
+            if (head.isEmpty()) {
+                break;
+            }
+            promote(event, head.get());
+            event.incrementAttendees();
+            promoted++;
+        }
+        return promoted;
+    }
+
+    private void promote(Event event, Attendance head) {
+        head.promote();
+        head.setUpdatedAt(LocalDateTime.now());
+        Attendance promoted = attendanceRepository.save(head);
+        attendanceMembershipRepository.record(promoted);
+        outboxRepository.append(DomainEvent.of(DomainEventType.ATTENDANCE_PROMOTED, promoted));
+        eventViewRepository.countTransition(event.getId(), AttendanceStatus.WAITLISTED, promoted.getStatus());
+        resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(promoted.getParticipantId()));
+        waitlistRepository.remove(event.getId(), promoted.getId());
+    }
+
+    /**
+     * Get the 1-based waitlist position of an attendance
+     * @param attendanceId the attendance ID
+     * @return the position in the event waitlist
+     */
+    @Transactional(readOnly = true)
+    public long getWaitlistPosition(Long attendanceId) {
+        Attendance attendance = attendanceRepository.findById(attendanceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attendance", attendanceId));
+
+        if (!attendance.isWaitlisted()) {
+            throw new BusinessRuleException("Attendance is not on the waitlist");
+        }
+
+        return waitlistRepository.findPosition(attendance.getEventId(), attendanceId)
+                .orElseGet(() -> attendanceRepository.countWaitlistedAhead(attendance) + 1);
+    }
+
     /**
      * Get attendance by ID
      * @param id the attendance ID
@@ -152,6 +264,34 @@ public class AttendanceService {
         return attendanceRepository.findByParticipantId(participantId);
     }
 
+    /**
+     * Get participants registered or checked in to every given event
+     * @param eventIds the event IDs
+     * @return sorted participant IDs
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getParticipantsAttendingAll(List<Long> eventIds) {
+        for (Long eventId : eventIds) {
+            if (!eventRepository.existsById(eventId)) {
+                throw new ResourceNotFoundException("Event", eventId);
+            }
+        }
+        return attendanceMembershipRepository.findAttendingAll(eventIds);
+    }
+
+    /**
+     * Get participants registered to an event who have not checked in yet
+     * @param eventId the event ID
+     * @return sorted participant IDs
+     */
+    @Transactional(readOnly = true)
+    public List<Long> getParticipantsNotCheckedIn(Long eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event", eventId);
+        }
+        return attendanceMembershipRepository.findNotCheckedIn(eventId);
+    }
+
     /**
      * Get event statistics
      * @param eventId the event ID
@@ -167,6 +307,7 @@ public class AttendanceService {
         long totalCheckedIn = attendanceRepository.countByEventIdAndStatus(eventId, AttendanceStatus.CHECKED_IN);
         long totalCancelled = attendanceRepository.countByEventIdAndStatus(eventId, AttendanceStatus.CANCELLED);
         long totalNoShow = attendanceRepository.countByEventIdAndStatus(eventId, AttendanceStatus.NO_SHOW);
+        long totalWaitlisted = attendanceRepository.countByEventIdAndStatus(eventId, AttendanceStatus.WAITLISTED);
 
         Event event = eventRepository.findById(eventId).orElseThrow();
 
@@ -177,6 +318,7 @@ public class AttendanceService {
                 .totalCheckedIn(totalCheckedIn)
                 .totalCancelled(totalCancelled)
                 .totalNoShow(totalNoShow)
+                .totalWaitlisted(totalWaitlisted)
                 .availableSpots(event.getRemainingCapacity())
                 .occupancyPercentage(calculateOccupancyPercentage(event.getCapacity(), totalRegistered))
                 .build();
@@ -201,15 +343,28 @@ public class AttendanceService {
             throw new BusinessRuleException("Cannot register to an event that has already ended");
         }
 
-        // Check for duplicate registration
-        if (attendanceRepository.existsByEventIdAndParticipantId(eventId, participantId)) {
+        // Check for duplicate registration; the unique index still guards concurrent registrations
+        if (attendanceMembershipRepository.contains(eventId, participantId)) {
             throw new DuplicateResourceException("Attendance for this event and participant already exists");
         }
+    }
 
-        // Check event capacity
-        if (!event.hasAvailableSpots()) {
-            throw new BusinessRuleException("Event has reached maximum capacity");
-        }
+    /**
+     * Cancel a waitlisted attendance, which never held a spot
+     */
+    private Attendance leaveWaitlist(Attendance attendance) {
+        attendance.cancel();
+        attendance.setUpdatedAt(LocalDateTime.now());
+
+        Attendance cancelled = attendanceRepository.save(attendance);
+        attendanceMembershipRepository.record(cancelled);
+        outboxRepository.append(DomainEvent.of(DomainEventType.ATTENDANCE_CANCELLED, cancelled));
+        eventViewRepository.countTransition(cancelled.getEventId(), AttendanceStatus.WAITLISTED, cancelled.getStatus());
+        waitlistRepository.remove(attendance.getEventId(), attendance.getId());
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(attendance.getEventId()));
+        resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(cancelled.getParticipantId()));
+
+        return cancelled;
     }
 
     /**
@@ -234,6 +389,7 @@ public class AttendanceService {
         private Long totalCheckedIn;
         private Long totalCancelled;
         private Long totalNoShow;
+        private Long totalWaitlisted;
         private Integer availableSpots;
         private Double occupancyPercentage;
     }
@@ -1,17 +1,26 @@
 package cue.edu.co.eventcore.domain.services;
 
+import cue.edu.co.eventcore.domain.concurrency.RetryOnOptimisticLock;
 import cue.edu.co.eventcore.domain.entities.Event;
 import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.entities.EventView;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
 import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
 import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Domain service for Event business logic
@@ -24,6 +33,10 @@ public class EventService {
 
     private final EventRepository eventRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final OutboxRepository outboxRepository;
+    private final EventViewRepository eventViewRepository;
+    private final AttendanceService attendanceService;
 
     /**
      * Create a new event
@@ -39,7 +52,12 @@ public class EventService {
         event.setCreatedAt(LocalDateTime.now());
         event.setUpdatedAt(LocalDateTime.now());
 
-        return eventRepository.save(event);
+        Event createdEvent = eventRepository.save(event);
+        outboxRepository.append(DomainEvent.of(DomainEventType.EVENT_CREATED, createdEvent));
+        eventViewRepository.save(EventView.of(createdEvent));
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+
+        return createdEvent;
     }
 
     /**
@@ -48,12 +66,17 @@ public class EventService {
      * @param updatedEvent the updated event data
      * @return the updated event
      */
+    @RetryOnOptimisticLock("event.update")
     public Event updateEvent(Long id, Event updatedEvent) {
         Event existingEvent = eventRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Event", id));
 
         validateEventDates(updatedEvent);
         validateEventCapacityUpdate(existingEvent, updatedEvent);
+        boolean summaryChanged = !Objects.equals(existingEvent.getName(), updatedEvent.getName())
+                || !Objects.equals(existingEvent.getLocation(), updatedEvent.getLocation())
+                || !Objects.equals(existingEvent.getStartDate(), updatedEvent.getStartDate())
+                || !Objects.equals(existingEvent.getEndDate(), updatedEvent.getEndDate());
 
         existingEvent.setName(updatedEvent.getName());
         existingEvent.setDescription(updatedEvent.getDescription());
@@ -63,7 +86,19 @@ public class EventService {
         existingEvent.setCapacity(updatedEvent.getCapacity());
         existingEvent.setUpdatedAt(LocalDateTime.now());
 
-        return eventRepository.save(existingEvent);
+        // Spots added by a capacity increase go to the waitlist in the same transaction
+        attendanceService.promoteWaitlisted(existingEvent);
+
+        Event savedEvent = eventRepository.save(existingEvent);
+        outboxRepository.append(DomainEvent.of(DomainEventType.EVENT_UPDATED, savedEvent));
+        eventViewRepository.updateEvent(savedEvent);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(id));
+        if (summaryChanged) {
+            resourceVersionRepository.increment(ResourceVersionRepository.EVENT_SUMMARIES);
+        }
+
+        return savedEvent;
     }
 
     /**
@@ -77,6 +112,16 @@ public class EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event", id));
     }
 
+    /**
+     * Get several events by ID in one query
+     * @param ids the event IDs
+     * @return the events found; unknown IDs are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<Event> getEventsByIds(Collection<Long> ids) {
+        return eventRepository.findAllById(ids);
+    }
+
     /**
      * Get all events
      * @return list of all events
@@ -121,7 +166,13 @@ public class EventService {
         event.setStatus(EventStatus.CANCELLED);
         event.setUpdatedAt(LocalDateTime.now());
 
-        return eventRepository.save(event);
+        Event cancelledEvent = eventRepository.save(event);
+        outboxRepository.append(DomainEvent.of(DomainEventType.EVENT_CANCELLED, cancelledEvent));
+        eventViewRepository.updateEvent(cancelledEvent);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENT_SUMMARIES);
+
+        return cancelledEvent;
     }
 
     /**
@@ -139,6 +190,10 @@ public class EventService {
         }
 
         eventRepository.deleteById(id);
+        outboxRepository.append(DomainEvent.deleted(DomainEventType.EVENT_DELETED, "Event", id));
+        eventViewRepository.evict(id);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(id));
     }
 
     /**
@@ -2,16 +2,23 @@ package cue.edu.co.eventcore.domain.services;
 
 import cue.edu.co.eventcore.domain.entities.Participant;
 import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
 import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
 import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
 import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ParticipantIdentityFilter;
 import cue.edu.co.eventcore.domain.repositories.ParticipantRepository;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -25,6 +32,10 @@ public class ParticipantService {
 
     private final ParticipantRepository participantRepository;
     private final AttendanceRepository attendanceRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final ParticipantIdentityFilter participantIdentityFilter;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final OutboxRepository outboxRepository;
 
     /**
      * Create a new participant
@@ -39,7 +50,13 @@ public class ParticipantService {
         participant.setCreatedAt(LocalDateTime.now());
         participant.setUpdatedAt(LocalDateTime.now());
 
-        return participantRepository.save(participant);
+        Participant createdParticipant = participantRepository.save(participant);
+        participantIdentityFilter.add(createdParticipant);
+        participantSearchIndex.index(createdParticipant);
+        outboxRepository.append(DomainEvent.of(DomainEventType.PARTICIPANT_CREATED, createdParticipant));
+        resourceVersionRepository.increment(ResourceVersionRepository.PARTICIPANTS);
+
+        return createdParticipant;
     }
 
     /**
@@ -69,7 +86,13 @@ public class ParticipantService {
         existingParticipant.setDocumentNumber(updatedParticipant.getDocumentNumber());
         existingParticipant.setUpdatedAt(LocalDateTime.now());
 
-        return participantRepository.save(existingParticipant);
+        Participant savedParticipant = participantRepository.save(existingParticipant);
+        participantIdentityFilter.add(savedParticipant);
+        participantSearchIndex.index(savedParticipant);
+        outboxRepository.append(DomainEvent.of(DomainEventType.PARTICIPANT_UPDATED, savedParticipant));
+        resourceVersionRepository.increment(ResourceVersionRepository.PARTICIPANTS);
+
+        return savedParticipant;
     }
 
     /**
@@ -83,6 +106,16 @@ public class ParticipantService {
                 .orElseThrow(() -> new ResourceNotFoundException("Participant", id));
     }
 
+    /**
+     * Get several participants by ID in one query
+     * @param ids the participant IDs
+     * @return the participants found; unknown IDs are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<Participant> getParticipantsByIds(Collection<Long> ids) {
+        return participantRepository.findAllById(ids);
+    }
+
     /**
      * Get participant by email
      * @param email the participant email
@@ -122,28 +155,30 @@ public class ParticipantService {
             throw new ResourceNotFoundException("Participant", id);
         }
 
-        long attendanceCount = attendanceRepository.findByParticipantId(id).size();
-        if (attendanceCount > 0) {
+        if (attendanceRepository.existsByParticipantId(id)) {
             throw new BusinessRuleException("Cannot delete a participant with registered attendances");
         }
 
         participantRepository.deleteById(id);
+        participantSearchIndex.remove(id);
+        outboxRepository.append(DomainEvent.deleted(DomainEventType.PARTICIPANT_DELETED, "Participant", id));
+        resourceVersionRepository.increment(ResourceVersionRepository.PARTICIPANTS);
     }
 
     /**
-     * Validate unique email
+     * Validate unique email; the unique index remains the final guard
      */
     private void validateUniqueEmail(String email) {
-        if (participantRepository.existsByEmail(email)) {
+        if (participantIdentityFilter.emailExists(email, participantRepository::existsByEmail)) {
             throw new DuplicateResourceException("Participant", email);
         }
     }
 
     /**
-     * Validate unique document number
+     * Validate unique document number; the unique index remains the final guard
      */
     private void validateUniqueDocumentNumber(String documentNumber) {
-        if (participantRepository.existsByDocumentNumber(documentNumber)) {
+        if (participantIdentityFilter.documentNumberExists(documentNumber, participantRepository::existsByDocumentNumber)) {
             throw new DuplicateResourceException("Participant with document number", documentNumber);
         }
     }
@@ -1,19 +1,21 @@
 package cue.edu.co.eventcore.infrastructure.cache;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.core.type.TypeReference;
+import cue.edu.co.eventcore.infrastructure.json.JsonCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
  * Service for caching operations using Redis
  * Provides methods to store and retrieve cached data
+ * Values are (de)serialized with the shared MVC mapper through per-type readers and writers
  */
 @Service
 @RequiredArgsConstructor
@@ -21,7 +23,7 @@ import java.util.Optional;
 public class CacheService {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final JsonCodecs jsonCodecs;
 
     private static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
 
@@ -33,7 +35,7 @@ public class CacheService {
      */
     public <T> void put(String key, T value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
+            String jsonValue = jsonCodecs.writer(value.getClass()).writeValueAsString(value);
             redisTemplate.opsForValue().set(key, jsonValue, ttl);
             log.debug("Cached value with key: {}", key);
         } catch (JsonProcessingException e) {
@@ -63,7 +65,29 @@ public class CacheService {
                 log.debug("Cache miss for key: {}", key);
                 return Optional.empty();
             }
-            T value = objectMapper.readValue(jsonValue, clazz);
+            T value = jsonCodecs.reader(clazz).readValue(jsonValue);
+            log.debug("Cache hit for key: {}", key);
+            return Optional.of(value);
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializing value for cache key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get a value of a generic type from cache
+     * @param key the cache key
+     * @param type the full type of the cached value, e.g. a page of DTOs
+     * @return Optional containing the value if found
+     */
+    public <T> Optional<T> getAs(String key, TypeReference<T> type) {
+        try {
+            String jsonValue = redisTemplate.opsForValue().get(key);
+            if (jsonValue == null) {
+                log.debug("Cache miss for key: {}", key);
+                return Optional.empty();
+            }
+            T value = jsonCodecs.reader(type).readValue(jsonValue);
             log.debug("Cache hit for key: {}", key);
             return Optional.of(value);
         } catch (JsonProcessingException e) {
@@ -81,6 +105,18 @@ public class CacheService {
         log.debug("Deleted cache key: {}", key);
     }
 
+    /**
+     * Delete several values from cache in one round trip
+     * @param keys the cache keys
+     */
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        redisTemplate.delete(keys);
+        log.debug("Deleted {} cache keys", keys.size());
+    }
+
     /**
      * Delete all keys matching a pattern
      * @param pattern the key pattern (e.g., "event:*")
@@ -124,6 +160,14 @@ public class CacheService {
         return "participant:" + participantId;
     }
 
+    /**
+     * Generate cache key for one page of a participant attendance history
+     * The key embeds the versions it was built from, so a change simply moves readers to a new key
+     */
+    public static String participantHistoryKey(Long participantId, String variant) {
+        return "participant:history:" + participantId + ":" + variant;
+    }
+
     /**
      * Generate cache key for event availability check
      */
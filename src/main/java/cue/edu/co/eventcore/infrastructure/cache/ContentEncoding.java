@@ -0,0 +1,57 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import java.util.Locale;
+
+/**
+ * Content codings stored as variants of a cached response body
+ */
+public enum ContentEncoding {
+    IDENTITY("identity"),
+    GZIP("gzip");
+
+    private final String token;
+
+    ContentEncoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Get the token used in the Content-Encoding header and as the cache hash field
+     * @return the encoding token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Pick the best stored encoding the client accepts
+     * @param acceptEncoding the Accept-Encoding header value, may be null
+     * @return GZIP if the client accepts it, IDENTITY otherwise
+     */
+    public static ContentEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (GZIP.token.equals(tokens[0].trim()) && !isRejected(tokens)) {
+                return GZIP;
+            }
+        }
+        return IDENTITY;
+    }
+
+    private static boolean isRejected(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import cue.edu.co.eventcore.infrastructure.json.JsonCodecs;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis-backed store for idempotent write requests
+ * A key is first claimed with an in-progress marker (SET NX) and later replaced
+ * by the final response, which replays are served from until the key expires
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyStore {
+
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JsonCodecs jsonCodecs;
+
+    /**
+     * Get the record stored for a key
+     * @param key the idempotency cache key
+     * @return Optional containing the record if the key is known
+     */
+    public Optional<IdempotentRecord> get(String key) {
+        String json = redisTemplate.opsForValue().get(key);
+        if (json == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(jsonCodecs.reader(IdempotentRecord.class).<IdempotentRecord>readValue(json));
+        } catch (JsonProcessingException e) {
+            log.error("Error deserializing idempotency record for key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Claim a key for a request about to be executed
+     * @param key the idempotency cache key
+     * @param fingerprint fingerprint of the request payload
+     * @param lockTtl how long the claim survives if the owner never completes it
+     * @return true if this caller owns the key and must execute the request
+     */
+    public boolean tryClaim(String key, String fingerprint, Duration lockTtl) {
+        IdempotentRecord marker = IdempotentRecord.builder()
+                .completed(false)
+                .fingerprint(fingerprint)
+                .build();
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(key, write(marker), lockTtl);
+        return claimed != null && claimed;
+    }
+
+    /**
+     * Store the final response of a claimed key
+     * @param key the idempotency cache key
+     * @param record the completed record
+     * @param ttl how long replays are served
+     */
+    public void complete(String key, IdempotentRecord record, Duration ttl) {
+        redisTemplate.opsForValue().set(key, write(record), ttl);
+        log.debug("Stored idempotent response for key: {}", key);
+    }
+
+    /**
+     * Release a claimed key without storing a response, so the client may retry
+     * @param key the idempotency cache key
+     */
+    public void release(String key) {
+        redisTemplate.delete(key);
+    }
+
+    /**
+     * Wait for a concurrent owner to complete a key
+     * @param key the idempotency cache key
+     * @param timeout maximum time to wait
+     * @return the completed record, or empty if still in progress (or released) when the wait ends
+     */
+    public Optional<IdempotentRecord> awaitCompletion(String key, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<IdempotentRecord> record = get(key);
+            if (record.isEmpty() || record.get().isCompleted()) {
+                return record;
+            }
+            Thread.sleep(POLL_INTERVAL.toMillis());
+        }
+        return Optional.empty();
+    }
+
+    private String write(IdempotentRecord record) {
+        try {
+            return jsonCodecs.writer(IdempotentRecord.class).writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing idempotency record", e);
+        }
+    }
+
+    /**
+     * Stored state of an idempotent request
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class IdempotentRecord {
+        private boolean completed;
+        private String fingerprint;
+        private int status;
+        private String contentType;
+        private Map<String, String> headers;
+        private byte[] body;
+    }
+}
@@ -0,0 +1,274 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.entities.EventView;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.infrastructure.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis implementation of EventViewRepository
+ * Each view is one hash holding the event fields and a count field per attendance status,
+ * so a page render is a single HGETALL and write-side changes are field-level updates
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisEventViewRepository implements EventViewRepository {
+
+    private static final String KEY_PREFIX = "event-view:";
+    private static final String COUNT_PREFIX = "count:";
+
+    // Replaces the whole hash so fields of a previous version never linger
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 2))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // Replaces the view with one rebuilt from the database only if no update or eviction ran since its
+    // generation was read, and never with an older event version than the stored one
+    private static final RedisScript<Long> REPLACE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>("""
+            local generation = tonumber(redis.call('GET', KEYS[2])) or 0
+            if generation ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            local stored = tonumber(redis.call('HGET', KEYS[1], 'version'))
+            if stored and stored > tonumber(ARGV[3]) then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('HSET', KEYS[1], unpack(ARGV, 4))
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // Incremental updates only touch complete views; a missing one is rebuilt from the database on read.
+    // Commits of concurrent transactions may arrive out of order, so an older event version never wins.
+    // The generation is bumped even without a view, so a rebuild racing with this update does not overwrite it
+    private static final RedisScript<Long> UPDATE_EVENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local stored = tonumber(redis.call('HGET', KEYS[1], 'version'))
+            if stored and stored > tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'version', ARGV[2], unpack(ARGV, 3))
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> COUNT_TRANSITION_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if ARGV[2] ~= '' then
+                redis.call('HINCRBY', KEYS[1], ARGV[2], -1)
+            end
+            redis.call('HINCRBY', KEYS[1], ARGV[3], 1)
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${eventcore.event-view.ttl:P1D}")
+    private Duration ttl;
+
+    @Override
+    public Optional<EventView> findById(Long eventId) {
+        try {
+            Map<Object, Object> hash = redisTemplate.opsForHash().entries(key(eventId));
+            if (hash == null || hash.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(toView(eventId, hash));
+        } catch (Exception e) {
+            log.error("Error reading view of event {}", eventId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(EventView view) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.addAll(viewFields(view));
+        AfterCommit.run("replace event view", () -> redisTemplate.execute(REPLACE_SCRIPT, List.of(key(view.getEvent().getId())), args.toArray()));
+    }
+
+    @Override
+    public Map<Long, Long> generations(Collection<Long> eventIds) {
+        List<Long> ids = new ArrayList<>(eventIds);
+        Map<Long, Long> generations = new HashMap<>();
+        if (ids.isEmpty()) {
+            return generations;
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(RedisEventViewRepository::generationKey).toList());
+        for (int i = 0; i < ids.size(); i++) {
+            String value = values != null ? values.get(i) : null;
+            generations.put(ids.get(i), value != null ? Long.parseLong(value) : 0L);
+        }
+        return generations;
+    }
+
+    @Override
+    public void replaceIfUnchanged(EventView view, long generation) {
+        Long eventId = view.getEvent().getId();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(generation));
+        args.add(String.valueOf(version(view.getEvent())));
+        args.addAll(viewFields(view));
+        AfterCommit.run("replace rebuilt event view", () -> {
+            Long replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED_SCRIPT, List.of(key(eventId), generationKey(eventId)), args.toArray());
+            if (replaced == null || replaced == 0) {
+                log.debug("View of event {} changed while it was rebuilt, left for the next pass", eventId);
+            }
+        });
+    }
+
+    @Override
+    public void updateEvent(Event event) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttl.toMillis()));
+        args.add(String.valueOf(version(event)));
+        eventFields(event).forEach((field, value) -> {
+            if (!"version".equals(field)) {
+                args.add(field);
+                args.add(value);
+            }
+        });
+        AfterCommit.run("update event view", () -> redisTemplate.execute(UPDATE_EVENT_SCRIPT,
+                List.of(key(event.getId()), generationKey(event.getId())), args.toArray()));
+    }
+
+    @Override
+    public void countTransition(Long eventId, AttendanceStatus from, AttendanceStatus to) {
+        String fromField = from != null ? COUNT_PREFIX + from.name() : "";
+        AfterCommit.run("count event view transition", () -> redisTemplate.execute(COUNT_TRANSITION_SCRIPT,
+                List.of(key(eventId), generationKey(eventId)), String.valueOf(ttl.toMillis()), fromField, COUNT_PREFIX + to.name()));
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        AfterCommit.run("evict event view", () -> redisTemplate.execute(EVICT_SCRIPT,
+                List.of(key(eventId), generationKey(eventId)), String.valueOf(ttl.toMillis())));
+    }
+
+    // Event fields and counts as alternating hash field names and values
+    private static List<String> viewFields(EventView view) {
+        List<String> fields = new ArrayList<>();
+        eventFields(view.getEvent()).forEach((field, value) -> {
+            fields.add(field);
+            fields.add(value);
+        });
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            fields.add(COUNT_PREFIX + status.name());
+            fields.add(String.valueOf(view.count(status)));
+        }
+        return fields;
+    }
+
+    private static long version(Event event) {
+        return event.getVersion() != null ? event.getVersion() : 0L;
+    }
+
+    // Nullable text columns are stored as empty strings, since a hash field cannot hold null
+    private static Map<String, String> eventFields(Event event) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", text(event.getName()));
+        fields.put("description", text(event.getDescription()));
+        fields.put("location", text(event.getLocation()));
+        fields.put("startDate", text(event.getStartDate()));
+        fields.put("endDate", text(event.getEndDate()));
+        fields.put("capacity", text(event.getCapacity()));
+        fields.put("currentAttendees", text(event.getCurrentAttendees()));
+        fields.put("status", text(event.getStatus()));
+        fields.put("createdAt", text(event.getCreatedAt()));
+        fields.put("updatedAt", text(event.getUpdatedAt()));
+        fields.put("version", text(event.getVersion()));
+        return fields;
+    }
+
+    private static EventView toView(Long eventId, Map<Object, Object> hash) {
+        Event event = Event.builder()
+                .id(eventId)
+                .name(string(hash, "name"))
+                .description(string(hash, "description"))
+                .location(string(hash, "location"))
+                .startDate(dateTime(hash, "startDate"))
+                .endDate(dateTime(hash, "endDate"))
+                .capacity(integer(hash, "capacity"))
+                .currentAttendees(integer(hash, "currentAttendees"))
+                .status(string(hash, "status") != null ? EventStatus.valueOf(string(hash, "status")) : null)
+                .createdAt(dateTime(hash, "createdAt"))
+                .updatedAt(dateTime(hash, "updatedAt"))
+                .version(string(hash, "version") != null ? Long.valueOf(string(hash, "version")) : null)
+                .build();
+
+        Map<AttendanceStatus, Long> counts = new EnumMap<>(AttendanceStatus.class);
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            String count = string(hash, COUNT_PREFIX + status.name());
+            counts.put(status, count != null ? Long.parseLong(count) : 0L);
+        }
+        return new EventView(event, counts);
+    }
+
+    private static String text(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private static String string(Map<Object, Object> hash, String field) {
+        Object value = hash.get(field);
+        return value == null || ((String) value).isEmpty() ? null : (String) value;
+    }
+
+    private static Integer integer(Map<Object, Object> hash, String field) {
+        String value = string(hash, field);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    private static LocalDateTime dateTime(Map<Object, Object> hash, String field) {
+        String value = string(hash, field);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+
+    private static String key(Long eventId) {
+        return KEY_PREFIX + eventId;
+    }
+
+    private static String generationKey(Long eventId) {
+        return KEY_PREFIX + eventId + ":generation";
+    }
+}
@@ -0,0 +1,99 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis-backed leader lock for cluster-wide singleton jobs
+ * A node holds the lock under a random token until it releases it or the TTL lapses,
+ * so a crashed leader is replaced after at most one TTL
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RedisLeaderLock {
+
+    private static final String KEY_PREFIX = "leader:";
+
+    // Renew and release only touch the key while it still carries this holder's token
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Try to become leader for a job
+     * @param name the job name
+     * @param ttl how long the lock survives without renewal
+     * @return the lease if this node is now leader, empty if another node is
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.debug("Leader lock {} is held by another node", name);
+            return Optional.empty();
+        }
+        return Optional.of(new Lease(key, token, ttl));
+    }
+
+    /**
+     * Check whether any node currently holds a lock
+     * @param name the job name
+     * @return true if the lock is held and has not lapsed
+     */
+    public boolean isHeld(String name) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + name));
+    }
+
+    /**
+     * Held leader lock; close it to hand leadership over before the TTL lapses
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final String key;
+        private final String token;
+        private final Duration ttl;
+
+        private Lease(String key, String token, Duration ttl) {
+            this.key = key;
+            this.token = token;
+            this.ttl = ttl;
+        }
+
+        /**
+         * Extend the lock by another TTL
+         * @return false if the lock lapsed and another node may have taken over
+         */
+        public boolean renew() {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed > 0;
+        }
+
+        @Override
+        public void close() {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+        }
+    }
+}
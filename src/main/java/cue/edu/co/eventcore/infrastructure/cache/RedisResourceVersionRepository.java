@@ -0,0 +1,64 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.infrastructure.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Redis implementation of ResourceVersionRepository
+ * Versions are plain counters; a missing or expired counter is seeded from the clock
+ * so a lost key never hands out a version that was already used before.
+ * Redis failures degrade instead of failing the request: reads report no version
+ * (conditional GETs then send the full response untagged) and increments are logged
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisResourceVersionRepository implements ResourceVersionRepository {
+
+    private static final String KEY_PREFIX = "version:";
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public OptionalLong getVersion(String resource) {
+        String key = KEY_PREFIX + resource;
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null) {
+                return OptionalLong.of(Long.parseLong(value));
+            }
+
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed()), VERSION_TTL);
+            String seeded = redisTemplate.opsForValue().get(key);
+            return seeded != null ? OptionalLong.of(Long.parseLong(seeded)) : OptionalLong.empty();
+        } catch (Exception e) {
+            log.error("Error reading version of resource: {}", resource, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    @Override
+    public void increment(String resource) {
+        // Inside afterCommit a failure must not turn the committed write into an error response
+        AfterCommit.run("increment version of " + resource, () -> doIncrement(resource));
+    }
+
+    private void doIncrement(String resource) {
+        String key = KEY_PREFIX + resource;
+        redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(seed()), VERSION_TTL);
+        redisTemplate.opsForValue().increment(key);
+        log.debug("Incremented version for resource: {}", resource);
+    }
+
+    private long seed() {
+        return System.currentTimeMillis() * 1000;
+    }
+}
@@ -0,0 +1,56 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import cue.edu.co.eventcore.domain.repositories.WaitlistRepository;
+import cue.edu.co.eventcore.infrastructure.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Redis implementation of WaitlistRepository
+ * Each event queue is a sorted set of attendance IDs scored by registration time,
+ * written only after the database transaction commits. The database queue stays
+ * authoritative; positions fall back to a count query when Redis missed a write
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RedisWaitlistRepository implements WaitlistRepository {
+
+    private static final String KEY_PREFIX = "waitlist:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public void enqueue(Long eventId, Long attendanceId, LocalDateTime registrationDate) {
+        double score = registrationDate.toInstant(ZoneOffset.UTC).toEpochMilli();
+        AfterCommit.run("enqueue waitlisted attendance " + attendanceId,
+                () -> redisTemplate.opsForZSet().add(key(eventId), String.valueOf(attendanceId), score));
+    }
+
+    @Override
+    public void remove(Long eventId, Long attendanceId) {
+        AfterCommit.run("dequeue waitlisted attendance " + attendanceId,
+                () -> redisTemplate.opsForZSet().remove(key(eventId), String.valueOf(attendanceId)));
+    }
+
+    @Override
+    public Optional<Long> findPosition(Long eventId, Long attendanceId) {
+        try {
+            Long rank = redisTemplate.opsForZSet().rank(key(eventId), String.valueOf(attendanceId));
+            return Optional.ofNullable(rank).map(r -> r + 1);
+        } catch (Exception e) {
+            log.error("Error reading waitlist position for attendance {}", attendanceId, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String key(Long eventId) {
+        return KEY_PREFIX + eventId;
+    }
+}
@@ -0,0 +1,187 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service for caching final HTTP response bodies in Redis
+ * Each cache key holds a hash with one field per content encoding plus the entity tag,
+ * so the bytes can be written to the client as-is and a single DEL on the key evicts every variant
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResponseCacheService {
+
+    private static final String ETAG_FIELD = "etag";
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    /**
+     * Get the cached body for the preferred encoding, falling back to the identity variant
+     * @param key the cache key
+     * @param preferred the encoding negotiated with the client
+     * @return Optional containing the cached body if found
+     */
+    public Optional<CachedBody> get(String key, ContentEncoding preferred) {
+        try {
+            List<byte[]> fields = binaryRedisTemplate.<String, byte[]>opsForHash()
+                    .multiGet(key, List.of(ETAG_FIELD, preferred.getToken(), ContentEncoding.IDENTITY.getToken()));
+            String etag = fields.get(0) != null ? new String(fields.get(0), StandardCharsets.UTF_8) : null;
+
+            if (fields.get(1) != null) {
+                log.debug("Response cache hit for key: {} ({})", key, preferred.getToken());
+                return Optional.of(new CachedBody(fields.get(1), preferred, etag));
+            }
+            if (fields.get(2) != null) {
+                log.debug("Response cache hit for key: {} (identity)", key);
+                return Optional.of(new CachedBody(fields.get(2), ContentEncoding.IDENTITY, etag));
+            }
+            log.debug("Response cache miss for key: {}", key);
+            return Optional.empty();
+        } catch (DataAccessException e) {
+            log.error("Error reading response cache key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the identity bodies of many cached responses in one pipelined round trip
+     * @param keys the cache keys
+     * @return the cached bodies by key; missing keys are absent
+     */
+    public Map<String, byte[]> getIdentityBodies(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        byte[] field = ContentEncoding.IDENTITY.getToken().getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> bodies = binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.hashCommands().hGet(key.getBytes(StandardCharsets.UTF_8), field);
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+
+            Map<String, byte[]> hits = new HashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                if (bodies.get(i) instanceof byte[] body) {
+                    hits.put(keys.get(i), body);
+                }
+            }
+            log.debug("Response cache batch hit {} of {} keys", hits.size(), keys.size());
+            return hits;
+        } catch (DataAccessException e) {
+            log.error("Error reading {} response cache keys", keys.size(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * Get only the entity tag of a cached response, without transferring any body bytes
+     * @param key the cache key
+     * @return Optional containing the entity tag if cached
+     */
+    public Optional<String> getETag(String key) {
+        try {
+            byte[] etag = binaryRedisTemplate.<String, byte[]>opsForHash().get(key, ETAG_FIELD);
+            return Optional.ofNullable(etag).map(value -> new String(value, StandardCharsets.UTF_8));
+        } catch (DataAccessException e) {
+            log.error("Error reading entity tag for cache key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Store every encoded variant of a response body in one pipelined round trip
+     * @param key the cache key
+     * @param variants body bytes per content encoding
+     * @param etag the entity tag of the response, may be null
+     * @param ttl time to live
+     */
+    public void put(String key, Map<ContentEncoding, byte[]> variants, String etag, Duration ttl) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        Map<byte[], byte[]> fields = new HashMap<>();
+        variants.forEach((encoding, body) -> fields.put(encoding.getToken().getBytes(StandardCharsets.UTF_8), body));
+        if (etag != null) {
+            fields.put(ETAG_FIELD.getBytes(StandardCharsets.UTF_8), etag.getBytes(StandardCharsets.UTF_8));
+        }
+
+        try {
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                writeVariants(connection, rawKey, fields, ttl);
+                return null;
+            });
+            log.debug("Cached {} response variants with key: {}", variants.size(), key);
+        } catch (DataAccessException e) {
+            log.error("Error writing response cache key: {}", key, e);
+        }
+    }
+
+    /**
+     * Store the variants of many responses in one pipelined round trip
+     * @param entries the responses to store
+     * @param ttl time to live
+     */
+    public void putAll(Collection<Entry> entries, Duration ttl) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            binaryRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Entry entry : entries) {
+                    Map<byte[], byte[]> fields = new HashMap<>();
+                    entry.variants().forEach((encoding, body) ->
+                            fields.put(encoding.getToken().getBytes(StandardCharsets.UTF_8), body));
+                    if (entry.etag() != null) {
+                        fields.put(ETAG_FIELD.getBytes(StandardCharsets.UTF_8), entry.etag().getBytes(StandardCharsets.UTF_8));
+                    }
+                    writeVariants(connection, entry.key().getBytes(StandardCharsets.UTF_8), fields, ttl);
+                }
+                return null;
+            });
+            log.debug("Cached {} responses in one batch", entries.size());
+        } catch (DataAccessException e) {
+            log.error("Error writing {} response cache keys", entries.size(), e);
+        }
+    }
+
+    private void writeVariants(RedisConnection connection, byte[] rawKey, Map<byte[], byte[]> fields, Duration ttl) {
+        // Drop whatever was stored under the key before (possibly another type) so stale variants never survive
+        connection.keyCommands().del(rawKey);
+        connection.hashCommands().hMSet(rawKey, fields);
+        connection.keyCommands().pExpire(rawKey, ttl.toMillis());
+    }
+
+    /**
+     * Response to cache: its key, body bytes per content encoding and entity tag
+     */
+    public record Entry(String key, Map<ContentEncoding, byte[]> variants, String etag) {
+    }
+
+    /**
+     * Cached response body together with the encoding it was stored in
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class CachedBody {
+        private final byte[] body;
+        private final ContentEncoding encoding;
+        private final String etag;
+    }
+}
@@ -0,0 +1,80 @@
+package cue.edu.co.eventcore.infrastructure.concurrency;
+
+import cue.edu.co.eventcore.domain.concurrency.RetryOnOptimisticLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries methods annotated with RetryOnOptimisticLock using bounded, jittered exponential backoff
+ * Ordered ahead of the transaction interceptor so each attempt runs in a new transaction
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+@Slf4j
+public class OptimisticLockRetryAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${eventcore.retry.optimistic-lock.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${eventcore.retry.optimistic-lock.base-backoff-ms:10}")
+    private long baseBackoffMs;
+
+    @Value("${eventcore.retry.optimistic-lock.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    @Around("@annotation(retryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnOptimisticLock retryOnOptimisticLock) throws Throwable {
+        String operation = retryOnOptimisticLock.value().isEmpty()
+                ? joinPoint.getSignature().getName()
+                : retryOnOptimisticLock.value();
+
+        counter("eventcore.optimistic_lock.calls", operation).increment();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    counter("eventcore.optimistic_lock.exhausted", operation).increment();
+                    log.warn("Optimistic lock conflict on {} not resolved after {} attempts", operation, attempt);
+                    throw e;
+                }
+
+                counter("eventcore.optimistic_lock.retries", operation).increment();
+                long backoff = backoff(attempt);
+                log.debug("Optimistic lock conflict on {}, retrying in {} ms (attempt {})", operation, backoff, attempt);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    /**
+     * Full jitter: a random delay up to the capped exponential bound, which spreads
+     * competing writers apart instead of having them collide again in lockstep
+     */
+    private long backoff(int attempt) {
+        long bound = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+}
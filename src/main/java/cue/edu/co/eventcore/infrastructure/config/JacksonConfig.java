@@ -0,0 +1,32 @@
+package cue.edu.co.eventcore.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import cue.edu.co.eventcore.infrastructure.json.LocalDateTimeJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the shared Jackson ObjectMapper
+ * Spring Boot installs every Module bean into the single mapper used by MVC, the caches and
+ * the idempotency store, after its well-known modules, so these take precedence
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Property access through generated lambdas instead of reflection
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * LocalDateTime codec that skips the intermediate Strings of the JavaTimeModule one
+     */
+    @Bean
+    public Module localDateTimeJsonModule() {
+        return new LocalDateTimeJsonModule();
+    }
+}
@@ -0,0 +1,29 @@
+package cue.edu.co.eventcore.infrastructure.erasure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumes erasure jobs left behind by a node that stopped, at startup and periodically after that
+ * A job is abandoned once its lease lapses; every node may pick it up, the lease keeps it on one
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.participant-erasure.recovery-enabled", havingValue = "true", matchIfMissing = true)
+public class ParticipantErasureRecoveryJob {
+
+    private final ParticipantErasureService participantErasureService;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${eventcore.participant-erasure.recovery-interval-ms:60000}")
+    public void resume() {
+        try {
+            participantErasureService.resumeAbandoned();
+        } catch (Exception e) {
+            log.error("Error resuming participant erasure jobs", e);
+        }
+    }
+}
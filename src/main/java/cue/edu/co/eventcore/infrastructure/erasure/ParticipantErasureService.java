@@ -0,0 +1,378 @@
+package cue.edu.co.eventcore.infrastructure.erasure;
+
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureJobDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureRequestDto;
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service for bulk participant erasure
+ * Jobs run in the background in keyset-ordered chunks; each chunk anonymizes the participants
+ * that have attendance history and deletes the rest with two set-based statements in one transaction.
+ * Progress, the selection and the keyset cursor are kept in Redis, so any node can report a job and,
+ * if the node running it goes away, resume it from the last finished chunk
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantErasureService {
+
+    private static final String KEY_PREFIX = "erasure:";
+    // Jobs that are queued or running; the recovery pass resumes those nobody holds the lease of
+    private static final String ACTIVE_JOBS_KEY = "erasure-jobs:active";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(7);
+
+    // Attendance rows reference participants, so those participants keep their row but lose every identifying field
+    private static final String ANONYMIZE = "UPDATE participants SET first_name = 'Erased', last_name = 'Participant', "
+            + "email = CONCAT('erased-', id, '@invalid.local'), phone = NULL, document_number = CONCAT('ERASED-', id), "
+            + "status = 'INACTIVE', updated_at = :now, version = version + 1 "
+            + "WHERE id IN (:ids) AND EXISTS (SELECT 1 FROM attendance_keys k WHERE k.participant_id = participants.id)";
+
+    private static final String DELETE = "DELETE FROM participants "
+            + "WHERE id IN (:ids) AND NOT EXISTS (SELECT 1 FROM attendance_keys k WHERE k.participant_id = participants.id)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheService cacheService;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final RedisLeaderLock leaderLock;
+
+    // One job at a time per node keeps erasure from competing with request traffic for connections
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    // Jobs waiting in or running on this node's executor, so recovery does not queue them twice
+    private final Set<String> localJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${eventcore.participant-erasure.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${eventcore.participant-erasure.lease-ttl:PT2M}")
+    private Duration leaseTtl;
+
+    /**
+     * Queue an erasure job
+     * @param request explicit participant IDs or a filter, not both
+     * @return the queued job
+     */
+    public ParticipantErasureJobDto submit(ParticipantErasureRequestDto request) {
+        Selection selection = Selection.of(request);
+        String jobId = UUID.randomUUID().toString();
+        String now = LocalDateTime.now().toString();
+
+        String key = KEY_PREFIX + jobId;
+        Map<String, String> fields = new HashMap<>(selection.fields());
+        fields.putAll(Map.of(
+                "state", ParticipantErasureJobDto.State.QUEUED.name(),
+                "total", String.valueOf(selection.count(jdbcTemplate)),
+                "processed", "0",
+                "deleted", "0",
+                "anonymized", "0",
+                "afterId", "0",
+                "submittedAt", now,
+                "updatedAt", now));
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, PROGRESS_TTL);
+        redisTemplate.opsForSet().add(ACTIVE_JOBS_KEY, jobId);
+
+        schedule(jobId);
+        log.info("Queued participant erasure job {}", jobId);
+        return getJob(jobId);
+    }
+
+    /**
+     * Queue the active jobs that no node holds the lease of on this node, e.g. after the node running
+     * them was restarted; erasing a chunk twice is harmless, so a job resumes from its last cursor
+     * @return number of jobs queued for resumption
+     */
+    public int resumeAbandoned() {
+        Set<String> jobIds = redisTemplate.opsForSet().members(ACTIVE_JOBS_KEY);
+        if (jobIds == null) {
+            return 0;
+        }
+        int resumed = 0;
+        for (String jobId : jobIds) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jobId))) {
+                // Progress expired, nothing left to resume
+                redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+            } else if (!localJobs.contains(jobId) && !leaderLock.isHeld(leaseName(jobId))) {
+                schedule(jobId);
+                resumed++;
+            }
+        }
+        if (resumed > 0) {
+            log.info("Queued {} abandoned participant erasure jobs for resumption", resumed);
+        }
+        return resumed;
+    }
+
+    /**
+     * Get the progress of an erasure job
+     * @param jobId the job ID
+     * @return the job progress
+     */
+    public ParticipantErasureJobDto getJob(String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + jobId);
+        if (fields == null || fields.isEmpty()) {
+            throw new ResourceNotFoundException("Erasure job", jobId);
+        }
+        return ParticipantErasureJobDto.builder()
+                .jobId(jobId)
+                .state(ParticipantErasureJobDto.State.valueOf((String) fields.get("state")))
+                .total(Long.valueOf((String) fields.get("total")))
+                .processed(Long.valueOf((String) fields.get("processed")))
+                .deleted(Long.valueOf((String) fields.get("deleted")))
+                .anonymized(Long.valueOf((String) fields.get("anonymized")))
+                .submittedAt(LocalDateTime.parse((String) fields.get("submittedAt")))
+                .updatedAt(LocalDateTime.parse((String) fields.get("updatedAt")))
+                .error((String) fields.get("error"))
+                .build();
+    }
+
+    /**
+     * Erase one chunk of participants and evict what readers may have cached about them
+     * @param ids the participant IDs
+     * @return the chunk outcome
+     */
+    public ChunkResult eraseChunk(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ChunkResult(0, 0);
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        ChunkResult result = new TransactionTemplate(transactionManager).execute(status -> {
+            // Anonymize first: a participant registering mid-chunk is then kept rather than orphaning its attendance
+            int anonymized = jdbcTemplate.update(ANONYMIZE, params);
+            int deleted = jdbcTemplate.update(DELETE, params);
+            resourceVersionRepository.increment(ResourceVersionRepository.PARTICIPANTS);
+            return new ChunkResult(deleted, anonymized);
+        });
+
+        // Erased emails stay in the Bloom filter; a stale positive only costs one exact database check
+        cacheService.delete(ids.stream().map(CacheService::participantKey).toList());
+        ids.forEach(participantSearchIndex::remove);
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(String jobId) {
+        if (localJobs.add(jobId)) {
+            executor.submit(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    localJobs.remove(jobId);
+                }
+            });
+        }
+    }
+
+    private static String leaseName(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private void run(String jobId) {
+        Optional<RedisLeaderLock.Lease> lease = leaderLock.tryAcquire(leaseName(jobId), leaseTtl);
+        if (lease.isEmpty()) {
+            log.debug("Participant erasure job {} is running on another node", jobId);
+            return;
+        }
+        String key = KEY_PREFIX + jobId;
+        try (RedisLeaderLock.Lease held = lease.get()) {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+            if (fields == null || fields.isEmpty() || isFinished((String) fields.get("state"))) {
+                redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+                return;
+            }
+            Selection selection = Selection.restore(fields);
+            long afterId = Long.parseLong((String) fields.get("afterId"));
+            if (afterId > 0) {
+                log.info("Resuming participant erasure job {} after participant {}", jobId, afterId);
+            }
+            setState(key, ParticipantErasureJobDto.State.RUNNING, null);
+
+            List<Long> chunk;
+            do {
+                chunk = selection.nextChunk(jdbcTemplate, afterId, chunkSize);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                ChunkResult result = eraseChunk(chunk);
+                afterId = chunk.get(chunk.size() - 1);
+
+                // A crash before this write redoes the chunk on resumption, which only recounts it
+                redisTemplate.opsForHash().increment(key, "processed", chunk.size());
+                redisTemplate.opsForHash().increment(key, "deleted", result.deleted());
+                redisTemplate.opsForHash().increment(key, "anonymized", result.anonymized());
+                redisTemplate.opsForHash().putAll(key, Map.of(
+                        "afterId", String.valueOf(afterId),
+                        "updatedAt", LocalDateTime.now().toString()));
+
+                if (!held.renew()) {
+                    log.warn("Lost the lease of participant erasure job {}, leaving it to another node", jobId);
+                    return;
+                }
+            } while (chunk.size() == chunkSize && !Thread.currentThread().isInterrupted());
+
+            if (Thread.currentThread().isInterrupted()) {
+                // Shutting down: the job stays RUNNING and the released lease lets recovery resume it
+                return;
+            }
+            setState(key, ParticipantErasureJobDto.State.COMPLETED, null);
+            redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+            log.info("Participant erasure job {} completed", jobId);
+        } catch (Exception e) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("Participant erasure job {} interrupted, it will be resumed", jobId);
+                return;
+            }
+            // Finished chunks stay committed and erasing twice is harmless, so resubmitting finishes the rest
+            log.error("Participant erasure job {} failed", jobId, e);
+            setState(key, ParticipantErasureJobDto.State.FAILED, e.getMessage());
+            redisTemplate.opsForSet().remove(ACTIVE_JOBS_KEY, jobId);
+        }
+    }
+
+    private static boolean isFinished(String state) {
+        return ParticipantErasureJobDto.State.COMPLETED.name().equals(state)
+                || ParticipantErasureJobDto.State.FAILED.name().equals(state);
+    }
+
+    private void setState(String key, ParticipantErasureJobDto.State state, String error) {
+        redisTemplate.opsForHash().put(key, "state", state.name());
+        redisTemplate.opsForHash().put(key, "updatedAt", LocalDateTime.now().toString());
+        if (error != null) {
+            redisTemplate.opsForHash().put(key, "error", error);
+        }
+    }
+
+    /**
+     * Outcome of one erasure chunk
+     */
+    public record ChunkResult(int deleted, int anonymized) {
+    }
+
+    /**
+     * The participants a job erases, walked in ascending ID order
+     */
+    private record Selection(List<Long> ids, ParticipantStatus status, LocalDateTime createdBefore) {
+
+        static Selection of(ParticipantErasureRequestDto request) {
+            boolean byIds = request.getParticipantIds() != null && !request.getParticipantIds().isEmpty();
+            boolean byFilter = request.getStatus() != null || request.getCreatedBefore() != null;
+            if (byIds == byFilter) {
+                throw new BusinessRuleException("Provide either participantIds or a status/createdBefore filter");
+            }
+            List<Long> ids = byIds ? request.getParticipantIds().stream().distinct().sorted().toList() : null;
+            return new Selection(ids, request.getStatus(), request.getCreatedBefore());
+        }
+
+        /**
+         * Rebuild a selection from the job hash written by fields()
+         */
+        static Selection restore(Map<Object, Object> fields) {
+            String ids = (String) fields.get("selection.ids");
+            String status = (String) fields.get("selection.status");
+            String createdBefore = (String) fields.get("selection.createdBefore");
+            return new Selection(
+                    ids != null ? Arrays.stream(ids.split(",")).map(Long::valueOf).toList() : null,
+                    status != null ? ParticipantStatus.valueOf(status) : null,
+                    createdBefore != null ? LocalDateTime.parse(createdBefore) : null);
+        }
+
+        Map<String, String> fields() {
+            Map<String, String> fields = new HashMap<>();
+            if (ids != null) {
+                fields.put("selection.ids", String.join(",", ids.stream().map(String::valueOf).toList()));
+            }
+            if (status != null) {
+                fields.put("selection.status", status.name());
+            }
+            if (createdBefore != null) {
+                fields.put("selection.createdBefore", createdBefore.toString());
+            }
+            return fields;
+        }
+
+        long count(NamedParameterJdbcTemplate jdbcTemplate) {
+            if (ids != null) {
+                return ids.size();
+            }
+            Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM participants" + where(), params(), Long.class);
+            return count != null ? count : 0;
+        }
+
+        List<Long> nextChunk(NamedParameterJdbcTemplate jdbcTemplate, long afterId, int size) {
+            if (ids != null) {
+                int from = firstAfter(afterId);
+                return ids.subList(from, Math.min(from + size, ids.size()));
+            }
+            String sql = "SELECT id FROM participants" + where() + " AND id > :afterId ORDER BY id LIMIT :limit";
+            return jdbcTemplate.queryForList(sql, params()
+                    .addValue("afterId", afterId)
+                    .addValue("limit", size), Long.class);
+        }
+
+        private int firstAfter(long afterId) {
+            int index = Collections.binarySearch(ids, afterId + 1);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        private String where() {
+            StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+            if (status != null) {
+                where.append(" AND status = :status");
+            }
+            if (createdBefore != null) {
+                where.append(" AND created_at < :createdBefore");
+            }
+            return where.toString();
+        }
+
+        private MapSqlParameterSource params() {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            if (status != null) {
+                params.addValue("status", status.name());
+            }
+            if (createdBefore != null) {
+                params.addValue("createdBefore", Timestamp.valueOf(createdBefore));
+            }
+            return params;
+        }
+    }
+}
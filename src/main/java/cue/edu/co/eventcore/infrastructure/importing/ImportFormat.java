@@ -0,0 +1,38 @@
+package cue.edu.co.eventcore.infrastructure.importing;
+
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+
+import java.util.Locale;
+
+/**
+ * Supported bulk import payload formats
+ */
+public enum ImportFormat {
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Resolve the format from a request Content-Type
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String normalized = contentType.toLowerCase(Locale.ROOT);
+            for (ImportFormat format : values()) {
+                if (normalized.startsWith(format.mediaType)) {
+                    return format;
+                }
+            }
+        }
+        throw new BusinessRuleException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,140 @@
+package cue.edu.co.eventcore.infrastructure.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantRequestDto;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads participant rows one at a time from a CSV or NDJSON stream
+ * CSV input needs a header row naming the columns; quoted fields follow RFC 4180 within a line
+ */
+class ParticipantImportReader {
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    ParticipantImportReader(BufferedReader reader, ImportFormat format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Read the next non-blank row
+     * @return the row, or null at the end of the stream
+     */
+    Row next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+
+        if (format == ImportFormat.NDJSON) {
+            try {
+                return new Row(lineNumber, objectMapper.readValue(line, ParticipantRequestDto.class), null);
+            } catch (IOException e) {
+                return new Row(lineNumber, null, "Malformed JSON line");
+            }
+        }
+
+        if (columns == null) {
+            columns = header(line);
+            return next();
+        }
+
+        List<String> fields = split(line);
+        if (fields == null) {
+            return new Row(lineNumber, null, "Unterminated quoted field");
+        }
+        return new Row(lineNumber, ParticipantRequestDto.builder()
+                .firstName(field(fields, "firstname"))
+                .lastName(field(fields, "lastname"))
+                .email(field(fields, "email"))
+                .phone(field(fields, "phone"))
+                .documentNumber(field(fields, "documentnumber"))
+                .build(), null);
+    }
+
+    private Map<String, Integer> header(String line) {
+        Map<String, Integer> header = new HashMap<>();
+        List<String> names = split(line);
+        if (names != null) {
+            for (int i = 0; i < names.size(); i++) {
+                // first_name, firstName and "First Name" all map to the same column
+                header.put(names.get(i).replaceAll("[^A-Za-z]", "").toLowerCase(Locale.ROOT), i);
+            }
+        }
+        return header;
+    }
+
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * One input row: either a parsed participant or a parse error
+     */
+    @Getter
+    static class Row {
+        private final long line;
+        private final ParticipantRequestDto participant;
+        private final String parseError;
+
+        Row(long line, ParticipantRequestDto participant, String parseError) {
+            this.line = line;
+            this.participant = participant;
+            this.parseError = parseError;
+        }
+    }
+}
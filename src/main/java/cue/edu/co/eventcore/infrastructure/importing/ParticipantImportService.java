@@ -0,0 +1,379 @@
+package cue.edu.co.eventcore.infrastructure.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantImportResultDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantRequestDto;
+import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ParticipantIdentityFilter;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for bulk participant imports
+ * Rows are parsed and validated one at a time; on PostgreSQL they are streamed with COPY into a
+ * temporary staging table and merged with one set-based insert, elsewhere they are inserted in
+ * JDBC batches. Inserted rows are handed to the identity filter, search index and outbox in
+ * batches as they are written, so memory use does not depend on the size of the input
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipantImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String CREATE_STAGING = "CREATE TEMP TABLE participant_import ("
+            + "line_no BIGINT NOT NULL, first_name VARCHAR(100), last_name VARCHAR(100), email VARCHAR(150), "
+            + "phone VARCHAR(20), document_number VARCHAR(50), duplicate_of VARCHAR(20)) ON COMMIT DROP";
+
+    private static final String COPY_STAGING = "COPY participant_import "
+            + "(line_no, first_name, last_name, email, phone, document_number) FROM STDIN WITH (FORMAT csv)";
+
+    // A row is a duplicate when the value is already stored or used by an earlier line of the same file
+    private static final String FLAG_DUPLICATE_EMAILS = "UPDATE participant_import s SET duplicate_of = 'email' "
+            + "WHERE EXISTS (SELECT 1 FROM participants p WHERE p.email = s.email) "
+            + "OR EXISTS (SELECT 1 FROM participant_import o WHERE o.email = s.email AND o.line_no < s.line_no)";
+
+    private static final String FLAG_DUPLICATE_DOCUMENTS = "UPDATE participant_import s SET duplicate_of = 'document_number' "
+            + "WHERE s.duplicate_of IS NULL AND ("
+            + "EXISTS (SELECT 1 FROM participants p WHERE p.document_number = s.document_number) "
+            + "OR EXISTS (SELECT 1 FROM participant_import o WHERE o.document_number = s.document_number AND o.line_no < s.line_no))";
+
+    // ON CONFLICT absorbs rows committed concurrently by other writers; only inserted rows are returned
+    private static final String MERGE_STAGING = "INSERT INTO participants "
+            + "(first_name, last_name, email, phone, document_number, status, created_at, updated_at, version) "
+            + "SELECT first_name, last_name, email, phone, document_number, 'ACTIVE', now(), now(), 0 "
+            + "FROM participant_import WHERE duplicate_of IS NULL ORDER BY line_no ON CONFLICT DO NOTHING "
+            + "RETURNING id, first_name, last_name, email, document_number";
+
+    private static final String INSERT_IF_ABSENT = "INSERT INTO participants "
+            + "(first_name, last_name, email, phone, document_number, status, created_at, updated_at, version) "
+            + "SELECT CAST(? AS VARCHAR(100)), CAST(? AS VARCHAR(100)), CAST(? AS VARCHAR(150)), CAST(? AS VARCHAR(20)), "
+            + "CAST(? AS VARCHAR(50)), 'ACTIVE', CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP), 0 "
+            + "WHERE NOT EXISTS (SELECT 1 FROM participants WHERE email = ? OR document_number = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ParticipantIdentityFilter participantIdentityFilter;
+    private final ParticipantSearchIndex participantSearchIndex;
+    private final OutboxRepository outboxRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+
+    @Value("${eventcore.participant-import.batch-size:1000}")
+    private int batchSize;
+
+    /**
+     * Import participants from a CSV or NDJSON stream in one transaction
+     * @param input the request body
+     * @param format the payload format
+     * @return counts of imported, invalid and duplicate rows with the first rejected rows
+     */
+    @Transactional
+    public ParticipantImportResultDto importParticipants(InputStream input, ImportFormat format) {
+        Report report = new Report();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ParticipantImportReader rows = new ParticipantImportReader(reader, format, objectMapper);
+            Created created = new Created();
+            ImportSink sink = openSink(report, created);
+
+            ParticipantImportReader.Row row;
+            while ((row = rows.next()) != null) {
+                report.received++;
+                String problem = row.getParseError() != null ? row.getParseError() : validate(row.getParticipant());
+                if (problem != null) {
+                    report.invalid++;
+                    report.error(row.getLine(), "invalid", problem);
+                } else {
+                    sink.write(row.getLine(), row.getParticipant());
+                }
+            }
+            sink.finish();
+            created.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading participant import", e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error importing participants", e);
+        }
+
+        if (report.imported > 0) {
+            resourceVersionRepository.increment(ResourceVersionRepository.PARTICIPANTS);
+        }
+
+        log.info("Participant import: {} received, {} imported, {} invalid, {} duplicates",
+                report.received, report.imported, report.invalid, report.duplicates);
+
+        return ParticipantImportResultDto.builder()
+                .received(report.received)
+                .imported(report.imported)
+                .invalid(report.invalid)
+                .duplicates(report.duplicates)
+                .errors(report.errors)
+                .build();
+    }
+
+    private ImportSink openSink(Report report, Created created) throws SQLException {
+        // Same connection as the surrounding transaction, so the staging table and inserts share it
+        Connection connection = DataSourceUtils.getConnection(jdbcTemplate.getDataSource());
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopySink(connection.unwrap(PGConnection.class), report, created);
+        }
+        return new BatchSink(report, created);
+    }
+
+    private String validate(ParticipantRequestDto participant) {
+        return validator.validate(participant).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .orElse(null);
+    }
+
+    /**
+     * Destination of validated rows
+     */
+    private interface ImportSink {
+        void write(long line, ParticipantRequestDto participant) throws SQLException;
+
+        void finish() throws SQLException;
+    }
+
+    /**
+     * PostgreSQL: COPY into a staging table, flag duplicates and merge in set-based statements
+     */
+    private class CopySink implements ImportSink {
+
+        private final CopyIn copyIn;
+        private final Report report;
+        private final Created created;
+        private long staged;
+
+        CopySink(PGConnection connection, Report report, Created created) throws SQLException {
+            jdbcTemplate.execute(CREATE_STAGING);
+            this.copyIn = connection.getCopyAPI().copyIn(COPY_STAGING);
+            this.report = report;
+            this.created = created;
+        }
+
+        @Override
+        public void write(long line, ParticipantRequestDto participant) throws SQLException {
+            byte[] record = (line + "," + csv(participant.getFirstName()) + "," + csv(participant.getLastName()) + ","
+                    + csv(participant.getEmail()) + "," + csv(participant.getPhone()) + ","
+                    + csv(participant.getDocumentNumber()) + "\n").getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(record, 0, record.length);
+            staged++;
+        }
+
+        @Override
+        public void finish() {
+            try {
+                copyIn.endCopy();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Error streaming participants into staging table", e);
+            }
+
+            jdbcTemplate.execute("CREATE INDEX ON participant_import (email)");
+            jdbcTemplate.execute("CREATE INDEX ON participant_import (document_number)");
+            jdbcTemplate.execute("ANALYZE participant_import");
+
+            long flagged = jdbcTemplate.update(FLAG_DUPLICATE_EMAILS) + jdbcTemplate.update(FLAG_DUPLICATE_DOCUMENTS);
+            jdbcTemplate.query(MERGE_STAGING, row -> {
+                created.add(Participant.builder()
+                        .id(row.getLong(1))
+                        .firstName(row.getString(2))
+                        .lastName(row.getString(3))
+                        .email(row.getString(4))
+                        .documentNumber(row.getString(5))
+                        .status(ParticipantStatus.ACTIVE)
+                        .build());
+            });
+            long imported = created.count;
+
+            report.imported = imported;
+            report.duplicates = flagged + (staged - flagged - imported);
+
+            int remaining = MAX_REPORTED_ERRORS - report.errors.size();
+            if (remaining > 0 && flagged > 0) {
+                jdbcTemplate.query("SELECT line_no, duplicate_of FROM participant_import "
+                                + "WHERE duplicate_of IS NOT NULL ORDER BY line_no LIMIT " + remaining,
+                        row -> {
+                            String column = row.getString(2);
+                            report.error(row.getLong(1), "duplicate", "Participant with " + column + " already exists");
+                        });
+            }
+        }
+
+        private String csv(String value) {
+            if (value == null) {
+                return "";
+            }
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+    }
+
+    /**
+     * Portable fallback: conditional inserts in JDBC batches, duplicates detected by update count
+     */
+    private class BatchSink implements ImportSink {
+
+        private final List<Object[]> batch = new ArrayList<>();
+        private final List<Long> lines = new ArrayList<>();
+        private final List<ParticipantRequestDto> participants = new ArrayList<>();
+        private final Report report;
+        private final Created created;
+
+        BatchSink(Report report, Created created) {
+            this.report = report;
+            this.created = created;
+        }
+
+        @Override
+        public void write(long line, ParticipantRequestDto participant) {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            batch.add(new Object[]{
+                    participant.getFirstName(), participant.getLastName(), participant.getEmail(),
+                    participant.getPhone(), participant.getDocumentNumber(), now, now,
+                    participant.getEmail(), participant.getDocumentNumber()});
+            lines.add(line);
+            participants.add(participant);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void finish() {
+            flush();
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_IF_ABSENT, batch);
+            List<ParticipantRequestDto> inserted = new ArrayList<>();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    report.duplicates++;
+                    report.error(lines.get(i), "duplicate", "Participant with email or document number already exists");
+                } else {
+                    report.imported++;
+                    inserted.add(participants.get(i));
+                }
+            }
+            addCreated(inserted);
+            batch.clear();
+            lines.clear();
+            participants.clear();
+        }
+
+        /**
+         * The conditional insert returns no keys, so the IDs of the inserted rows are read back by email
+         */
+        private void addCreated(List<ParticipantRequestDto> inserted) {
+            if (inserted.isEmpty()) {
+                return;
+            }
+            Map<String, Long> ids = new HashMap<>();
+            jdbcTemplate.query("SELECT id, email FROM participants WHERE email IN ("
+                            + String.join(",", Collections.nCopies(inserted.size(), "?")) + ")",
+                    row -> {
+                        ids.put(row.getString(2), row.getLong(1));
+                    },
+                    inserted.stream().map(ParticipantRequestDto::getEmail).toArray());
+            for (ParticipantRequestDto participant : inserted) {
+                created.add(Participant.builder()
+                        .id(ids.get(participant.getEmail()))
+                        .firstName(participant.getFirstName())
+                        .lastName(participant.getLastName())
+                        .email(participant.getEmail())
+                        .phone(participant.getPhone())
+                        .documentNumber(participant.getDocumentNumber())
+                        .status(ParticipantStatus.ACTIVE)
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Participants inserted by the import, passed on in batches the way ParticipantService passes on
+     * a single one: identity filter right away, search index after commit, outbox in the transaction
+     */
+    private class Created {
+
+        private final List<Participant> pending = new ArrayList<>();
+        private long count;
+
+        void add(Participant participant) {
+            participantIdentityFilter.add(participant);
+            pending.add(participant);
+            count++;
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            participantSearchIndex.indexAll(List.copyOf(pending));
+            outboxRepository.appendAll(pending.stream()
+                    .map(participant -> DomainEvent.of(DomainEventType.PARTICIPANT_CREATED, participant))
+                    .toList());
+            pending.clear();
+        }
+    }
+
+    /**
+     * Running totals of one import
+     */
+    private static class Report {
+        private long received;
+        private long imported;
+        private long invalid;
+        private long duplicates;
+        private final List<ParticipantImportResultDto.RowError> errors = new ArrayList<>();
+
+        void error(long line, String reason, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ParticipantImportResultDto.RowError.builder()
+                        .line(line)
+                        .reason(reason)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.repositories.ParticipantIdentityFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Bloom filter implementation of ParticipantIdentityFilter
+ * Rebuilt at startup by streaming the participants table; until then every check goes to the lookup
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BloomParticipantIdentityFilter implements ParticipantIdentityFilter {
+
+    private static final String EMAIL = "email";
+    private static final String DOCUMENT = "document";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${eventcore.participant-filter.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${eventcore.participant-filter.fpp:0.01}")
+    private double fpp;
+
+    private volatile ScalableBloomFilter emails;
+    private volatile ScalableBloomFilter documents;
+    private volatile boolean ready;
+
+    @PostConstruct
+    public void registerMetrics() {
+        registerGauges(EMAIL, () -> emails);
+        registerGauges(DOCUMENT, () -> documents);
+    }
+
+    /**
+     * Rebuild both filters from the participants table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ScalableBloomFilter newEmails = new ScalableBloomFilter(expectedEntries, fpp);
+        ScalableBloomFilter newDocuments = new ScalableBloomFilter(expectedEntries, fpp);
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement("SELECT email, document_number FROM participants");
+                statement.setFetchSize(1000);
+                return statement;
+            }, row -> {
+                newEmails.add(normalize(row.getString(1)));
+                newDocuments.add(normalize(row.getString(2)));
+            });
+        } catch (Exception e) {
+            log.error("Error building participant identity filter, uniqueness checks will query the database", e);
+            return;
+        }
+
+        // Keys saved while streaming may be missing; a miss only costs a unique-index rejection
+        emails = newEmails;
+        documents = newDocuments;
+        ready = true;
+        log.info("Participant identity filter built with {} entries ({} bytes)",
+                newEmails.size(), newEmails.sizeInBytes() + newDocuments.sizeInBytes());
+    }
+
+    @Override
+    public boolean emailExists(String email, Predicate<String> lookup) {
+        return check(EMAIL, emails, email, lookup);
+    }
+
+    @Override
+    public boolean documentNumberExists(String documentNumber, Predicate<String> lookup) {
+        return check(DOCUMENT, documents, documentNumber, lookup);
+    }
+
+    @Override
+    public void add(Participant participant) {
+        if (!ready) {
+            return;
+        }
+        emails.add(normalize(participant.getEmail()));
+        documents.add(normalize(participant.getDocumentNumber()));
+    }
+
+    private boolean check(String filterName, ScalableBloomFilter filter, String value, Predicate<String> lookup) {
+        if (ready && !filter.mightContain(normalize(value))) {
+            counter(filterName, "skipped").increment();
+            return false;
+        }
+
+        boolean exists = lookup.test(value);
+        if (ready && !exists) {
+            counter(filterName, "false_positive").increment();
+        }
+        return exists;
+    }
+
+    private void registerGauges(String filterName, Supplier<ScalableBloomFilter> filter) {
+        Gauge.builder("eventcore.participant_filter.size_bytes", this, f -> filter.get() != null ? filter.get().sizeInBytes() : 0)
+                .tag("filter", filterName)
+                .register(meterRegistry);
+        Gauge.builder("eventcore.participant_filter.entries", this, f -> filter.get() != null ? filter.get().size() : 0)
+                .tag("filter", filterName)
+                .register(meterRegistry);
+        Gauge.builder("eventcore.participant_filter.expected_fpp", this, f -> filter.get() != null ? filter.get().expectedFpp() : 0)
+                .tag("filter", filterName)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String filterName, String outcome) {
+        return Counter.builder("eventcore.participant_filter.checks")
+                .tag("filter", filterName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
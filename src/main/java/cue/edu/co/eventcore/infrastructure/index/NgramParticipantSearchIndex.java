@@ -0,0 +1,411 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.infrastructure.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory trigram implementation of ParticipantSearchIndex
+ * Every word of first name, last name, email and document number is split into trigrams with a
+ * word-start marker, so short queries match prefixes; each trigram maps to a compressed bitmap of
+ * participant IDs. Queries intersect the bitmaps of their trigrams, fall back to partial overlap
+ * for typos, and rank candidates against the normalized words kept per participant
+ * Each node keeps its own copy and rebuilds it periodically, so changes made on other nodes converge
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NgramParticipantSearchIndex implements ParticipantSearchIndex {
+
+    private static final char WORD_START = '$';
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<Hit> BEST_FIRST =
+            Comparator.comparingDouble((Hit hit) -> -hit.score).thenComparingLong(hit -> hit.id);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Guarded by lock; a rebuild swaps in new maps
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Roaring64NavigableMap> postings = new HashMap<>();
+    private Map<Long, String[]> documents = new HashMap<>();
+    // Writes applied while a rebuild streams the table, replayed onto the new maps; null means removal
+    private Map<Long, String[]> writesDuringRebuild;
+    private volatile boolean ready;
+
+    @Value("${eventcore.participant-search.max-ranked-candidates:5000}")
+    private int maxRankedCandidates;
+
+    @Value("${eventcore.participant-search.min-similarity:0.5}")
+    private double minSimilarity;
+
+    /**
+     * Rebuild the index from the participants table
+     * Writes committed while the table is streamed may be missing from the snapshot, so they are
+     * recorded and replayed onto the new maps before the swap
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, Roaring64NavigableMap> newPostings = new HashMap<>();
+        Map<Long, String[]> newDocuments = new HashMap<>();
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(
+                        "SELECT id, first_name, last_name, email, document_number FROM participants");
+                statement.setFetchSize(1000);
+                return statement;
+            }, row -> {
+                long id = row.getLong(1);
+                String[] words = indexWords(row.getString(2), row.getString(3), row.getString(4), row.getString(5));
+                newDocuments.put(id, words);
+                for (String gram : grams(words)) {
+                    newPostings.computeIfAbsent(gram, g -> new Roaring64NavigableMap()).addLong(id);
+                }
+            });
+        } catch (Exception e) {
+            log.error("Error building participant search index, searches will query the database", e);
+            lock.writeLock().lock();
+            try {
+                writesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        newPostings.values().forEach(Roaring64NavigableMap::runOptimize);
+
+        lock.writeLock().lock();
+        try {
+            writesDuringRebuild.forEach((id, words) -> {
+                unindex(newPostings, newDocuments, id);
+                if (words != null) {
+                    put(newPostings, newDocuments, id, words);
+                }
+            });
+            writesDuringRebuild = null;
+            postings = newPostings;
+            documents = newDocuments;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Participant search index built with {} participants and {} trigrams",
+                newDocuments.size(), newPostings.size());
+    }
+
+    @Override
+    public void index(Participant participant) {
+        String[] words = indexWords(participant.getFirstName(), participant.getLastName(),
+                participant.getEmail(), participant.getDocumentNumber());
+        AfterCommit.run("index participant " + participant.getId(), () -> {
+            lock.writeLock().lock();
+            try {
+                apply(participant.getId(), words);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Index a batch under one write lock and one after-commit callback, for bulk imports
+     */
+    @Override
+    public void indexAll(Collection<Participant> participants) {
+        Map<Long, String[]> batch = new LinkedHashMap<>();
+        for (Participant participant : participants) {
+            batch.put(participant.getId(), indexWords(participant.getFirstName(), participant.getLastName(),
+                    participant.getEmail(), participant.getDocumentNumber()));
+        }
+        AfterCommit.run("index " + batch.size() + " participants", () -> {
+            lock.writeLock().lock();
+            try {
+                batch.forEach(this::apply);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long participantId) {
+        AfterCommit.run("unindex participant " + participantId, () -> {
+            lock.writeLock().lock();
+            try {
+                apply(participantId, null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public Optional<Hits> search(String query, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        String[] terms = words(normalize(query));
+        Set<String> queryGrams = new LinkedHashSet<>();
+        for (String term : terms) {
+            addGrams(term, queryGrams);
+        }
+        if (queryGrams.isEmpty()) {
+            return Optional.of(new Hits(List.of(), 0));
+        }
+
+        lock.readLock().lock();
+        try {
+            Roaring64NavigableMap candidates = matchAll(queryGrams);
+            if (candidates.getLongCardinality() < (long) offset + limit) {
+                candidates.or(matchMost(queryGrams));
+            }
+
+            Ranking ranking = rank(candidates, terms, (int) Math.min(Integer.MAX_VALUE, (long) offset + limit));
+            List<Long> page = ranking.hits.stream()
+                    .skip(offset)
+                    .map(hit -> hit.id)
+                    .toList();
+            return Optional.of(new Hits(page, ranking.total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Participants containing every query trigram; rarest posting first keeps intersections small
+     */
+    private Roaring64NavigableMap matchAll(Set<String> queryGrams) {
+        List<Roaring64NavigableMap> lists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            Roaring64NavigableMap list = postings.get(gram);
+            if (list == null) {
+                return new Roaring64NavigableMap();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingLong(Roaring64NavigableMap::getLongCardinality));
+
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        result.or(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.and(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Participants sharing at least the configured fraction of query trigrams, for misspelled queries
+     */
+    private Roaring64NavigableMap matchMost(Set<String> queryGrams) {
+        int required = Math.max(1, (int) Math.ceil(queryGrams.size() * minSimilarity));
+        Map<Long, Integer> counts = new HashMap<>();
+        for (String gram : queryGrams) {
+            Roaring64NavigableMap list = postings.get(gram);
+            if (list == null || list.getLongCardinality() > maxRankedCandidates) {
+                // Very common trigrams add little signal and would dominate the cost
+                continue;
+            }
+            list.forEach(id -> counts.merge(id, 1, Integer::sum));
+        }
+
+        Roaring64NavigableMap result = new Roaring64NavigableMap();
+        counts.forEach((id, count) -> {
+            if (count >= required) {
+                result.addLong(id);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Score every candidate, keeping only the best offset + limit in a bounded heap
+     */
+    private Ranking rank(Roaring64NavigableMap candidates, String[] terms, int keep) {
+        PriorityQueue<Hit> best = new PriorityQueue<>(BEST_FIRST.reversed());
+        long total = 0;
+        LongIterator ids = candidates.getLongIterator();
+        while (ids.hasNext()) {
+            long id = ids.next();
+            String[] words = documents.get(id);
+            if (words == null) {
+                continue;
+            }
+            total++;
+            Hit hit = new Hit(id, score(words, terms));
+            if (best.size() < keep) {
+                best.add(hit);
+            } else if (keep > 0 && BEST_FIRST.compare(hit, best.peek()) < 0) {
+                best.poll();
+                best.add(hit);
+            }
+        }
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+        return new Ranking(hits, total);
+    }
+
+    /**
+     * Exact word beats word prefix beats substring beats trigram overlap, summed over query terms
+     */
+    private static double score(String[] words, String[] terms) {
+        double score = 0;
+        for (String term : terms) {
+            double best = 0;
+            for (String word : words) {
+                if (word.equals(term)) {
+                    best = Math.max(best, 100);
+                } else if (word.startsWith(term)) {
+                    best = Math.max(best, 60 + 20.0 * term.length() / word.length());
+                } else if (word.contains(term)) {
+                    best = Math.max(best, 30);
+                } else {
+                    best = Math.max(best, 25 * similarity(word, term));
+                }
+            }
+            score += best;
+        }
+        return score;
+    }
+
+    private static double similarity(String word, String term) {
+        Set<String> wordGrams = new LinkedHashSet<>();
+        Set<String> termGrams = new LinkedHashSet<>();
+        addGrams(word, wordGrams);
+        addGrams(term, termGrams);
+        long shared = termGrams.stream().filter(wordGrams::contains).count();
+        return (double) shared / (wordGrams.size() + termGrams.size() - shared);
+    }
+
+    /**
+     * Apply an index write, or a removal when words is null; caller holds the write lock
+     */
+    private void apply(Long participantId, String[] words) {
+        unindex(postings, documents, participantId);
+        if (words != null) {
+            put(postings, documents, participantId, words);
+        }
+        if (writesDuringRebuild != null) {
+            writesDuringRebuild.put(participantId, words);
+        }
+    }
+
+    private static void put(Map<String, Roaring64NavigableMap> postings, Map<Long, String[]> documents,
+                            Long participantId, String[] words) {
+        documents.put(participantId, words);
+        for (String gram : grams(words)) {
+            postings.computeIfAbsent(gram, g -> new Roaring64NavigableMap()).addLong(participantId);
+        }
+    }
+
+    private static void unindex(Map<String, Roaring64NavigableMap> postings, Map<Long, String[]> documents,
+                                Long participantId) {
+        String[] previous = documents.remove(participantId);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            Roaring64NavigableMap list = postings.get(gram);
+            if (list != null) {
+                list.removeLong(participantId);
+                if (list.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String[] words) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words) {
+            addGrams(word, grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String word, Set<String> grams) {
+        String padded = "" + WORD_START + WORD_START + word;
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+    }
+
+    /**
+     * Distinct normalized words of the searchable fields, kept per participant for ranking and removal
+     */
+    private static String[] indexWords(String... fields) {
+        return Arrays.stream(fields)
+                .flatMap(field -> Arrays.stream(words(normalize(field))))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    private static String[] words(String text) {
+        return Arrays.stream(SEPARATORS.split(text))
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Ranking {
+        private final List<Hit> hits;
+        private final long total;
+
+        Ranking(List<Hit> hits, long total) {
+            this.hits = hits;
+            this.total = total;
+        }
+    }
+
+    private static final class Hit {
+        private final long id;
+        private final double score;
+
+        Hit(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
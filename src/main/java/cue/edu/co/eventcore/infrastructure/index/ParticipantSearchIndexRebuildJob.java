@@ -0,0 +1,30 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically rebuilds this node's participant search index from the database
+ * Every node runs it, since each keeps its own index and only sees its own writes in between
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.participant-search.rebuild-enabled", havingValue = "true", matchIfMissing = true)
+public class ParticipantSearchIndexRebuildJob {
+
+    private final NgramParticipantSearchIndex participantSearchIndex;
+
+    @Scheduled(fixedDelayString = "${eventcore.participant-search.rebuild-interval-ms:600000}",
+            initialDelayString = "${eventcore.participant-search.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            participantSearchIndex.rebuild();
+        } catch (Exception e) {
+            log.error("Error rebuilding participant search index", e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import cue.edu.co.eventcore.infrastructure.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory implementation of AttendanceMembershipRepository over compressed bitmaps
+ * Each event keeps one Roaring bitmap per attendance status, built from the attendances
+ * table on first use and rebuilt periodically so changes made by other nodes converge
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class RoaringAttendanceMembershipRepository implements AttendanceMembershipRepository {
+
+    private final AttendanceJpaRepository attendanceJpaRepository;
+
+    private final Map<Long, EventBitmaps> events = new ConcurrentHashMap<>();
+
+    @Value("${eventcore.attendance-index.rebuild-after:PT10M}")
+    private Duration rebuildAfter;
+
+    @Override
+    public boolean contains(Long eventId, Long participantId) {
+        return bitmaps(eventId).contains(participantId);
+    }
+
+    @Override
+    public void record(Attendance attendance) {
+        // A rolled-back registration must not leave a phantom member behind
+        // computeIfPresent waits for an in-flight rebuild, so the change lands on the bitmaps that stay cached
+        AfterCommit.run("record attendance " + attendance.getId() + " in bitmaps", () ->
+                events.computeIfPresent(attendance.getEventId(), (eventId, bitmaps) -> {
+                    bitmaps.set(attendance.getParticipantId(), attendance.getStatus());
+                    return bitmaps;
+                }));
+    }
+
+    @Override
+    public void evict(Long eventId) {
+        AfterCommit.run("evict bitmaps of event " + eventId, () -> events.remove(eventId));
+    }
+
+    @Override
+    public List<Long> findAttendingAll(Collection<Long> eventIds) {
+        Roaring64NavigableMap result = null;
+        for (Long eventId : eventIds) {
+            Roaring64NavigableMap attending = bitmaps(eventId).attending();
+            if (result == null) {
+                result = attending;
+            } else {
+                result.and(attending);
+            }
+        }
+        return result != null ? toList(result) : List.of();
+    }
+
+    @Override
+    public List<Long> findNotCheckedIn(Long eventId) {
+        return toList(bitmaps(eventId).copyOf(AttendanceStatus.REGISTERED));
+    }
+
+    /**
+     * Bitmaps of an event, built or rebuilt atomically so concurrent callers share one build
+     * Bitmaps only see this node's commits until the next rebuild; a registration missed in the
+     * meantime still fails on the attendances unique index and surfaces as a 409
+     */
+    private EventBitmaps bitmaps(Long eventId) {
+        EventBitmaps bitmaps = events.get(eventId);
+        if (bitmaps != null && !bitmaps.isOlderThan(rebuildAfter)) {
+            return bitmaps;
+        }
+        return events.compute(eventId, (id, current) ->
+                current == null || current.isOlderThan(rebuildAfter) ? build(id) : current);
+    }
+
+    private EventBitmaps build(Long eventId) {
+        EventBitmaps bitmaps = new EventBitmaps();
+        for (AttendanceResponseDto attendance : attendanceJpaRepository.findResponsesByEventId(eventId)) {
+            bitmaps.set(attendance.getParticipantId(), attendance.getStatus());
+        }
+        log.debug("Built attendance bitmaps for event {} ({} members)", eventId, bitmaps.size());
+        return bitmaps;
+    }
+
+    private static List<Long> toList(Roaring64NavigableMap bitmap) {
+        List<Long> ids = new ArrayList<>((int) bitmap.getLongCardinality());
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+
+    /**
+     * Bitmaps of one event; a participant is in exactly one status bitmap plus the members bitmap
+     */
+    private static class EventBitmaps {
+
+        private final long builtAt = System.nanoTime();
+        private final Roaring64NavigableMap members = new Roaring64NavigableMap();
+        private final Map<AttendanceStatus, Roaring64NavigableMap> byStatus = new EnumMap<>(AttendanceStatus.class);
+
+        EventBitmaps() {
+            for (AttendanceStatus status : AttendanceStatus.values()) {
+                byStatus.put(status, new Roaring64NavigableMap());
+            }
+        }
+
+        synchronized void set(long participantId, AttendanceStatus status) {
+            members.addLong(participantId);
+            byStatus.values().forEach(bitmap -> bitmap.removeLong(participantId));
+            byStatus.get(status).addLong(participantId);
+        }
+
+        synchronized boolean contains(long participantId) {
+            return members.contains(participantId);
+        }
+
+        synchronized Roaring64NavigableMap copyOf(AttendanceStatus status) {
+            Roaring64NavigableMap copy = new Roaring64NavigableMap();
+            copy.or(byStatus.get(status));
+            return copy;
+        }
+
+        synchronized Roaring64NavigableMap attending() {
+            Roaring64NavigableMap attending = copyOf(AttendanceStatus.REGISTERED);
+            attending.or(byStatus.get(AttendanceStatus.CHECKED_IN));
+            return attending;
+        }
+
+        synchronized long size() {
+            return members.getLongCardinality();
+        }
+
+        boolean isOlderThan(Duration age) {
+            return System.nanoTime() - builtAt > age.toNanos();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Scalable Bloom filter over strings
+ * Grows by appending layers of doubling capacity and halving false-positive rate,
+ * which keeps the compound rate under the target however many keys are added
+ */
+public class ScalableBloomFilter {
+
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final int GROWTH_FACTOR = 2;
+
+    private final List<Layer> layers = new CopyOnWriteArrayList<>();
+    private final double targetFpp;
+
+    public ScalableBloomFilter(long initialCapacity, double targetFpp) {
+        this.targetFpp = targetFpp;
+        // Layer rates form a geometric series summing to the target
+        layers.add(new Layer(initialCapacity, targetFpp * (1 - TIGHTENING_RATIO)));
+    }
+
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void add(String key) {
+        long hash = hash(key);
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash)) {
+                return;
+            }
+        }
+        current().add(hash);
+    }
+
+    /**
+     * Number of keys added, not counting keys that were already reported present
+     */
+    public long size() {
+        return layers.stream().mapToLong(layer -> layer.count.get()).sum();
+    }
+
+    public long sizeInBytes() {
+        return layers.stream().mapToLong(layer -> layer.bits.length() * (long) Long.BYTES).sum();
+    }
+
+    /**
+     * Estimated false-positive rate at the current fill of every layer
+     */
+    public double expectedFpp() {
+        double allNegative = 1.0;
+        for (Layer layer : layers) {
+            allNegative *= 1 - layer.expectedFpp();
+        }
+        return 1 - allNegative;
+    }
+
+    public double getTargetFpp() {
+        return targetFpp;
+    }
+
+    private Layer current() {
+        Layer last = layers.get(layers.size() - 1);
+        if (last.count.get() < last.capacity) {
+            return last;
+        }
+
+        synchronized (layers) {
+            last = layers.get(layers.size() - 1);
+            if (last.count.get() >= last.capacity) {
+                last = new Layer(last.capacity * GROWTH_FACTOR, last.fpp * TIGHTENING_RATIO);
+                layers.add(last);
+            }
+            return last;
+        }
+    }
+
+    /**
+     * 64-bit FNV-1a over UTF-8 bytes, finished with the MurmurHash3 mixer
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    /**
+     * Fixed-size Bloom filter; probes are derived by double hashing
+     */
+    private static final class Layer {
+
+        private final long capacity;
+        private final double fpp;
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        Layer(long capacity, double fpp) {
+            this.capacity = Math.max(1, capacity);
+            this.fpp = fpp;
+            long optimalBits = (long) Math.ceil(-this.capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bitCount = Math.max(Long.SIZE, (optimalBits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.capacity * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (bitCount / Long.SIZE));
+        }
+
+        boolean mightContain(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void add(long hash) {
+            long h1 = hash;
+            long h2 = mix(hash) | 1;
+            for (int i = 0; i < hashCount; i++) {
+                long bit = Long.remainderUnsigned(h1 + i * h2, bitCount);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = bits.get(word);
+                } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+            }
+            count.incrementAndGet();
+        }
+
+        double expectedFpp() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * count.get() / bitCount), hashCount);
+        }
+    }
+}
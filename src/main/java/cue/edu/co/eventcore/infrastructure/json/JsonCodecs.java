@@ -0,0 +1,83 @@
+package cue.edu.co.eventcore.infrastructure.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pre-resolved readers and writers over the shared MVC ObjectMapper
+ * An ObjectWriter or ObjectReader bound to a type keeps its root (de)serializer, so repeated
+ * calls skip the per-call lookup. The hot response DTOs are resolved eagerly at startup
+ */
+@Component
+public class JsonCodecs {
+
+    private static final List<Class<?>> HOT_TYPES = List.of(
+            EventResponseDto.class, ParticipantResponseDto.class, AttendanceResponseDto.class);
+
+    private final ObjectMapper objectMapper;
+    private final Map<JavaType, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        for (Class<?> type : HOT_TYPES) {
+            writer(type);
+            reader(type);
+        }
+    }
+
+    /**
+     * Writer bound to a type
+     * @param type the type of the values to write
+     * @return the cached writer
+     */
+    public ObjectWriter writer(Class<?> type) {
+        return cachedWriter(objectMapper.constructType(type));
+    }
+
+    /**
+     * Writer bound to a generic type
+     * @param type the full type of the values to write, e.g. a page of DTOs
+     * @return the cached writer
+     */
+    public ObjectWriter writer(TypeReference<?> type) {
+        return cachedWriter(objectMapper.constructType(type));
+    }
+
+    /**
+     * Reader bound to a type
+     * @param type the type of the values to read
+     * @return the cached reader
+     */
+    public ObjectReader reader(Class<?> type) {
+        return cachedReader(objectMapper.constructType(type));
+    }
+
+    /**
+     * Reader bound to a generic type
+     * @param type the full type of the values to read, e.g. a page of DTOs
+     * @return the cached reader
+     */
+    public ObjectReader reader(TypeReference<?> type) {
+        return cachedReader(objectMapper.constructType(type));
+    }
+
+    private ObjectWriter cachedWriter(JavaType type) {
+        return writers.computeIfAbsent(type, objectMapper::writerFor);
+    }
+
+    private ObjectReader cachedReader(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+}
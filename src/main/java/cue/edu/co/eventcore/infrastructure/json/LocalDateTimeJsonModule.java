@@ -0,0 +1,181 @@
+package cue.edu.co.eventcore.infrastructure.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+/**
+ * ISO-8601 LocalDateTime codec working on char buffers instead of intermediate Strings
+ * Writes the same text as the JavaTimeModule default (seconds always, fraction without trailing zeros)
+ * and parses the parser's text buffer in place. Anything outside that fast path, such as
+ * timestamp arrays, @JsonFormat patterns or years beyond four digits, goes to the JavaTimeModule codecs
+ */
+public class LocalDateTimeJsonModule extends SimpleModule {
+
+    public LocalDateTimeJsonModule() {
+        super("LocalDateTimeJsonModule");
+        addSerializer(LocalDateTime.class, new Serializer());
+        addDeserializer(LocalDateTime.class, new Deserializer());
+    }
+
+    static final class Serializer extends StdScalarSerializer<LocalDateTime> implements ContextualSerializer {
+
+        // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+        private static final int MAX_LENGTH = 29;
+
+        Serializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value.getYear() < 0 || value.getYear() > 9999
+                    || provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+                LocalDateTimeSerializer.INSTANCE.serialize(value, gen, provider);
+                return;
+            }
+            char[] buffer = new char[MAX_LENGTH];
+            gen.writeString(buffer, 0, format(value, buffer));
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+                throws JsonMappingException {
+            JsonFormat.Value format = findFormatOverrides(provider, property, handledType());
+            if (format != null && (format.hasPattern() || format.hasShape() || format.hasLocale())) {
+                return LocalDateTimeSerializer.INSTANCE.createContextual(provider, property);
+            }
+            return this;
+        }
+
+        static int format(LocalDateTime value, char[] buffer) {
+            digits(buffer, 0, value.getYear(), 4);
+            buffer[4] = '-';
+            digits(buffer, 5, value.getMonthValue(), 2);
+            buffer[7] = '-';
+            digits(buffer, 8, value.getDayOfMonth(), 2);
+            buffer[10] = 'T';
+            digits(buffer, 11, value.getHour(), 2);
+            buffer[13] = ':';
+            digits(buffer, 14, value.getMinute(), 2);
+            buffer[16] = ':';
+            digits(buffer, 17, value.getSecond(), 2);
+
+            int nano = value.getNano();
+            if (nano == 0) {
+                return 19;
+            }
+            buffer[19] = '.';
+            digits(buffer, 20, nano, 9);
+            int length = MAX_LENGTH;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+            return length;
+        }
+
+        private static void digits(char[] buffer, int offset, int value, int width) {
+            for (int i = offset + width - 1; i >= offset; i--) {
+                buffer[i] = (char) ('0' + value % 10);
+                value /= 10;
+            }
+        }
+    }
+
+    static final class Deserializer extends StdScalarDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+        Deserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            if (parser.hasToken(JsonToken.VALUE_STRING)) {
+                LocalDateTime parsed = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+                if (parsed != null) {
+                    return parsed;
+                }
+            }
+            // Timestamp arrays (older cache entries), lenient forms and errors are left to JavaTimeModule
+            return LocalDateTimeDeserializer.INSTANCE.deserialize(parser, context);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+                throws JsonMappingException {
+            JsonFormat.Value format = findFormatOverrides(context, property, handledType());
+            if (format != null && (format.hasPattern() || format.hasShape() || format.hasLenient())) {
+                return LocalDateTimeDeserializer.INSTANCE.createContextual(context, property);
+            }
+            return this;
+        }
+
+        /**
+         * Parse yyyy-MM-ddTHH:mm[:ss[.fraction]]
+         * @return the value, or null if the text is not in that exact form
+         */
+        static LocalDateTime parse(char[] text, int offset, int length) {
+            if (length != 16 && length != 19 && (length < 21 || length > 29)) {
+                return null;
+            }
+            if (text[offset + 4] != '-' || text[offset + 7] != '-' || text[offset + 10] != 'T'
+                    || text[offset + 13] != ':' || (length > 16 && text[offset + 16] != ':')
+                    || (length > 19 && text[offset + 19] != '.')) {
+                return null;
+            }
+            int year = number(text, offset, 4);
+            int month = number(text, offset + 5, 2);
+            int day = number(text, offset + 8, 2);
+            int hour = number(text, offset + 11, 2);
+            int minute = number(text, offset + 14, 2);
+            int second = length > 16 ? number(text, offset + 17, 2) : 0;
+            int nano = 0;
+            if (length > 19) {
+                int fractionDigits = length - 20;
+                nano = number(text, offset + 20, fractionDigits);
+                for (int i = fractionDigits; i < 9 && nano >= 0; i++) {
+                    nano *= 10;
+                }
+            }
+            if ((year | month | day | hour | minute | second | nano) < 0) {
+                return null;
+            }
+            try {
+                return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private static int number(char[] text, int offset, int width) {
+            int value = 0;
+            for (int i = offset; i < offset + width; i++) {
+                char c = text[i];
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+    }
+}
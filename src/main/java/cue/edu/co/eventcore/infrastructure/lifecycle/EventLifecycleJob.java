@@ -0,0 +1,51 @@
+package cue.edu.co.eventcore.infrastructure.lifecycle;
+
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Periodically completes ended events and closes their open attendances
+ * Only the node holding the leader lock runs a pass; the lease is renewed between chunks
+ * and a pass stops as soon as renewal fails
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.lifecycle.enabled", havingValue = "true", matchIfMissing = true)
+public class EventLifecycleJob {
+
+    private static final String LOCK_NAME = "event-lifecycle";
+
+    private final EventLifecycleService eventLifecycleService;
+    private final RedisLeaderLock leaderLock;
+
+    @Value("${eventcore.lifecycle.lock-ttl:PT2M}")
+    private Duration lockTtl;
+
+    @Scheduled(fixedDelayString = "${eventcore.lifecycle.interval-ms:60000}")
+    public void run() {
+        try {
+            Optional<RedisLeaderLock.Lease> lease = leaderLock.tryAcquire(LOCK_NAME, lockTtl);
+            if (lease.isEmpty()) {
+                return;
+            }
+            try (RedisLeaderLock.Lease held = lease.get()) {
+                eventLifecycleService.completeEndedEvents(held::renew);
+                if (held.renew()) {
+                    eventLifecycleService.closeAttendances(held::renew);
+                }
+            }
+        } catch (Exception e) {
+            // Every chunk commits on its own; the next pass resumes from what is left
+            log.error("Error running event lifecycle pass", e);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package cue.edu.co.eventcore.infrastructure.lifecycle;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.domain.repositories.WaitlistRepository;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Moves events and attendances through their terminal states with set-based statements
+ * Ended ACTIVE events become COMPLETED; REGISTERED attendances of completed events become NO_SHOW
+ * and WAITLISTED ones CANCELLED, since no spot can open for them any more.
+ * Work is split into chunks that each commit on their own, so row locks are held for one chunk at a time
+ * and nothing is loaded into entities
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventLifecycleService {
+
+    private static final String ENDED_EVENTS = "SELECT id FROM events "
+            + "WHERE status = 'ACTIVE' AND end_date < :now ORDER BY id LIMIT :limit";
+
+    // Re-checks the status so events changed since the select are left alone
+    private static final String COMPLETE_EVENTS = "UPDATE events SET status = 'COMPLETED', updated_at = :now, "
+            + "version = version + 1 WHERE id IN (:ids) AND status = 'ACTIVE' AND end_date < :now";
+
+    // Also picks up events completed by an earlier run that stopped before closing their attendances
+    private static final String EVENTS_WITH_OPEN_ATTENDANCES = "SELECT e.id FROM events e "
+            + "WHERE e.status = 'COMPLETED' AND e.updated_at >= :since AND EXISTS ("
+            + "SELECT 1 FROM attendances a WHERE a.event_id = e.id AND a.status IN ('REGISTERED', 'WAITLISTED')) "
+            + "ORDER BY e.id LIMIT :limit";
+
+    private static final String OPEN_ATTENDANCES = "SELECT id, participant_id, status FROM attendances "
+            + "WHERE event_id = :eventId AND status IN ('REGISTERED', 'WAITLISTED') ORDER BY id LIMIT :limit";
+
+    // Re-checks the status so attendances checked in or promoted since the select keep their new state
+    private static final String CLOSE_ATTENDANCES = "UPDATE attendances SET "
+            + "status = CASE status WHEN 'REGISTERED' THEN 'NO_SHOW' ELSE 'CANCELLED' END, updated_at = :now, "
+            + "version = version + 1 WHERE event_id = :eventId AND id IN (:ids) AND status IN ('REGISTERED', 'WAITLISTED')";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final AttendanceMembershipRepository attendanceMembershipRepository;
+    private final EventViewRepository eventViewRepository;
+    private final WaitlistRepository waitlistRepository;
+    private final CacheService cacheService;
+
+    @Value("${eventcore.lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${eventcore.lifecycle.no-show-lookback:P7D}")
+    private Duration noShowLookback;
+
+    /**
+     * Complete every ended event, one chunk per transaction
+     * @param keepGoing checked between chunks; returning false stops the run early
+     * @return IDs of the events completed
+     */
+    public List<Long> completeEndedEvents(BooleanSupplier keepGoing) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Long> completed = new ArrayList<>();
+        List<Long> chunk;
+        do {
+            chunk = transaction.execute(status -> completeChunk());
+            invalidateEvents(chunk);
+            completed.addAll(chunk);
+        } while (chunk.size() == chunkSize && keepGoing.getAsBoolean());
+
+        if (!completed.isEmpty()) {
+            log.info("Completed {} ended events", completed.size());
+        }
+        return completed;
+    }
+
+    /**
+     * Close the open attendances of recently completed events
+     * Unchecked registrations become no-shows and waitlisted entries are cancelled
+     * @param keepGoing checked between chunks; returning false stops the run early
+     * @return number of attendances closed
+     */
+    public int closeAttendances(BooleanSupplier keepGoing) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        LocalDateTime since = LocalDateTime.now().minus(noShowLookback);
+        int closed = 0;
+        List<Long> eventIds;
+        do {
+            eventIds = jdbcTemplate.queryForList(EVENTS_WITH_OPEN_ATTENDANCES, new MapSqlParameterSource()
+                    .addValue("since", Timestamp.valueOf(since))
+                    .addValue("limit", chunkSize), Long.class);
+            for (Long eventId : eventIds) {
+                int updated;
+                do {
+                    updated = transaction.execute(status -> closeAttendanceChunk(eventId));
+                    closed += updated;
+                    if (updated > 0) {
+                        cacheService.delete(CacheService.eventStatsKey(eventId));
+                    }
+                } while (updated == chunkSize && keepGoing.getAsBoolean());
+                if (!keepGoing.getAsBoolean()) {
+                    return closed;
+                }
+            }
+        } while (eventIds.size() == chunkSize);
+
+        if (closed > 0) {
+            log.info("Closed {} attendances of completed events", closed);
+        }
+        return closed;
+    }
+
+    private List<Long> completeChunk() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = jdbcTemplate.queryForList(ENDED_EVENTS, new MapSqlParameterSource()
+                .addValue("now", now)
+                .addValue("limit", chunkSize), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.update(COMPLETE_EVENTS, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", now));
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENTS);
+        resourceVersionRepository.increment(ResourceVersionRepository.EVENT_SUMMARIES);
+        return ids;
+    }
+
+    // Runs after the chunk commits so no reader re-caches the old state in between;
+    // every touched key is dropped in one call for the whole chunk
+    private void invalidateEvents(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(ids.size() * 2 + 1);
+        keys.add(CacheService.upcomingEventsKey());
+        for (Long id : ids) {
+            keys.add(CacheService.eventKey(id));
+            keys.add(CacheService.eventAvailabilityKey(id));
+            eventViewRepository.evict(id);
+        }
+        cacheService.delete(keys);
+    }
+
+    // Selecting the chunk first tells which participants' histories changed and which waitlist entries to drop
+    private int closeAttendanceChunk(Long eventId) {
+        List<Long> ids = new ArrayList<>();
+        List<Long> waitlistedIds = new ArrayList<>();
+        Set<Long> participantIds = new HashSet<>();
+        jdbcTemplate.query(OPEN_ATTENDANCES, new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("limit", chunkSize), (RowCallbackHandler) rs -> {
+                    ids.add(rs.getLong("id"));
+                    participantIds.add(rs.getLong("participant_id"));
+                    if (AttendanceStatus.WAITLISTED.name().equals(rs.getString("status"))) {
+                        waitlistedIds.add(rs.getLong("id"));
+                    }
+                });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int updated = jdbcTemplate.update(CLOSE_ATTENDANCES, new MapSqlParameterSource()
+                .addValue("eventId", eventId)
+                .addValue("ids", ids)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now())));
+        if (updated > 0) {
+            attendanceMembershipRepository.evict(eventId);
+            eventViewRepository.evict(eventId);
+            waitlistedIds.forEach(attendanceId -> waitlistRepository.remove(eventId, attendanceId));
+            resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(eventId));
+            participantIds.forEach(participantId ->
+                    resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(participantId)));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,75 @@
+package cue.edu.co.eventcore.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Drops the cached event, statistics and availability entries affected by a relayed outbox event
+ * Keyed on the event ID: the aggregate ID for Event aggregates, the payload eventId for Attendance
+ * ones. Deleting a key twice is harmless, so redelivery is safe; a Redis failure propagates and the
+ * relay retries the message with backoff
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheInvalidationListener {
+
+    private final CacheService cacheService;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onOutboxMessage(OutboxMessage message) {
+        List<String> keys = switch (message.aggregateType()) {
+            case "Event" -> eventKeys(DomainEventType.valueOf(message.type()), message.aggregateId());
+            case "Attendance" -> attendanceKeys(DomainEventType.valueOf(message.type()), eventId(message));
+            default -> List.of();
+        };
+        if (!keys.isEmpty()) {
+            cacheService.delete(keys);
+        }
+    }
+
+    private static List<String> eventKeys(DomainEventType type, Long eventId) {
+        if (type == DomainEventType.EVENT_CREATED) {
+            return List.of(CacheService.upcomingEventsKey());
+        }
+        return List.of(
+                CacheService.eventKey(eventId),
+                CacheService.upcomingEventsKey(),
+                CacheService.eventStatsKey(eventId),
+                CacheService.eventAvailabilityKey(eventId));
+    }
+
+    private static List<String> attendanceKeys(DomainEventType type, Long eventId) {
+        if (eventId == null) {
+            return List.of();
+        }
+        // A check-in changes the statistics only; seats taken and attendee counts stay the same
+        if (type == DomainEventType.ATTENDANCE_CHECKED_IN) {
+            return List.of(CacheService.eventStatsKey(eventId));
+        }
+        return List.of(
+                CacheService.eventKey(eventId),
+                CacheService.eventStatsKey(eventId),
+                CacheService.eventAvailabilityKey(eventId));
+    }
+
+    private Long eventId(OutboxMessage message) {
+        try {
+            JsonNode eventId = objectMapper.readTree(message.payload()).get("eventId");
+            return eventId != null && eventId.canConvertToLong() ? eventId.asLong() : null;
+        } catch (JsonProcessingException e) {
+            log.error("Unreadable payload of outbox event {}, skipping cache invalidation", message.id(), e);
+            return null;
+        }
+    }
+}
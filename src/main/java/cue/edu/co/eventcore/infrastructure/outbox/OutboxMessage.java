@@ -0,0 +1,19 @@
+package cue.edu.co.eventcore.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * A relayed outbox event, published to in-process listeners once its claim has committed
+ * Delivery is at-least-once and only ordered within one relay batch, so listeners
+ * must be idempotent and key their work on the aggregate; a listener that throws
+ * gets the event again after a backoff, up to eventcore.outbox.max-attempts
+ * @param id the outbox row ID, increasing in commit order per writer
+ * @param type the domain event type
+ * @param aggregateType the aggregate type
+ * @param aggregateId the aggregate ID
+ * @param payload the JSON payload
+ * @param occurredAt when the change happened
+ */
+public record OutboxMessage(Long id, String type, String aggregateType, Long aggregateId, String payload,
+                            LocalDateTime occurredAt) {
+}
@@ -0,0 +1,257 @@
+package cue.edu.co.eventcore.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Drains the outbox in batches and publishes each event to a Redis Stream and to in-process listeners
+ * Several workers, on this and other nodes, claim disjoint batches with FOR UPDATE SKIP LOCKED.
+ * The claiming transaction appends new rows to the stream and leases the batch; listeners run after
+ * it commits, and only delivered rows are deleted. A failed row is retried with backoff until
+ * max-attempts, and a crash mid-batch leaves the rows to be re-claimed once their lease expires
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final String CLAIM_BATCH = "SELECT id, event_type, aggregate_type, aggregate_id, payload, occurred_at, "
+            + "streamed, attempts FROM outbox_events WHERE available_at IS NULL OR available_at <= :now "
+            + "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    private static final String LEASE_BATCH = "UPDATE outbox_events SET streamed = TRUE, available_at = :leaseUntil "
+            + "WHERE id IN (:ids)";
+
+    private static final String DELETE_BATCH = "DELETE FROM outbox_events WHERE id IN (:ids)";
+
+    private static final String RETRY_LATER = "UPDATE outbox_events SET attempts = attempts + 1, "
+            + "available_at = :availableAt WHERE id = :id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${eventcore.outbox.workers:2}")
+    private int workers;
+
+    @Value("${eventcore.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${eventcore.outbox.stream-key:eventcore:domain-events}")
+    private String streamKey;
+
+    @Value("${eventcore.outbox.stream-max-length:100000}")
+    private long streamMaxLength;
+
+    @Value("${eventcore.outbox.lease:PT1M}")
+    private Duration lease;
+
+    @Value("${eventcore.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${eventcore.outbox.retry-backoff:PT5S}")
+    private Duration retryBackoff;
+
+    @Value("${eventcore.outbox.max-retry-backoff:PT10M}")
+    private Duration maxRetryBackoff;
+
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+    private Counter relayed;
+    private Counter listenerFailures;
+    private Counter discarded;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(workers);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        relayed = meterRegistry.counter("eventcore.outbox.relayed");
+        listenerFailures = meterRegistry.counter("eventcore.outbox.listener_failures");
+        discarded = meterRegistry.counter("eventcore.outbox.discarded");
+    }
+
+    @Scheduled(fixedDelayString = "${eventcore.outbox.poll-interval-ms:200}")
+    public void relay() {
+        List<Callable<Integer>> drains = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            drains.add(this::drain);
+        }
+        try {
+            executor.invokeAll(drains);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int drain() {
+        int total = 0;
+        try {
+            List<ClaimedMessage> batch;
+            do {
+                batch = transactionTemplate.execute(status -> claimBatch());
+                deliver(batch);
+                total += batch.size();
+            } while (batch.size() == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (Exception e) {
+            // A failed claim rolled back; a failure after it leaves the batch leased until the next attempt
+            log.error("Error relaying outbox events", e);
+        }
+        return total;
+    }
+
+    private List<ClaimedMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedMessage> batch = jdbcTemplate.query(CLAIM_BATCH, new MapSqlParameterSource()
+                        .addValue("now", Timestamp.valueOf(now))
+                        .addValue("limit", batchSize),
+                (rs, rowNum) -> new ClaimedMessage(new OutboxMessage(
+                        rs.getLong("id"),
+                        rs.getString("event_type"),
+                        rs.getString("aggregate_type"),
+                        rs.getObject("aggregate_id", Long.class),
+                        rs.getString("payload"),
+                        rs.getTimestamp("occurred_at").toLocalDateTime()),
+                        rs.getBoolean("streamed"),
+                        rs.getInt("attempts")));
+        if (batch.isEmpty()) {
+            return batch;
+        }
+
+        // A retried row already reached the stream on its first claim
+        List<OutboxMessage> unstreamed = batch.stream()
+                .filter(claimed -> !claimed.streamed())
+                .map(ClaimedMessage::message)
+                .toList();
+        if (!unstreamed.isEmpty()) {
+            publishToStream(unstreamed);
+        }
+
+        jdbcTemplate.update(LEASE_BATCH, new MapSqlParameterSource()
+                .addValue("leaseUntil", Timestamp.valueOf(now.plus(lease)))
+                .addValue("ids", ids(batch)));
+        return batch;
+    }
+
+    // Runs after the claim commits, so listeners see committed state and a failing one
+    // cannot roll back the batch or leave the outbox locked while it runs
+    private void deliver(List<ClaimedMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<ClaimedMessage> delivered = new ArrayList<>(batch.size());
+        List<ClaimedMessage> failed = new ArrayList<>();
+        for (ClaimedMessage claimed : batch) {
+            try {
+                eventPublisher.publishEvent(claimed.message());
+                delivered.add(claimed);
+            } catch (Exception e) {
+                listenerFailures.increment();
+                log.error("Outbox listener failed for event {} ({}), attempt {}",
+                        claimed.message().id(), claimed.message().type(), claimed.attempts() + 1, e);
+                if (claimed.attempts() + 1 >= maxAttempts) {
+                    // Stream consumers already have it; only in-process listeners miss this event
+                    discarded.increment();
+                    log.error("Discarding outbox event {} after {} attempts: {}",
+                            claimed.message().id(), maxAttempts, claimed.message().payload());
+                    delivered.add(claimed);
+                } else {
+                    failed.add(claimed);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                jdbcTemplate.update(DELETE_BATCH, new MapSqlParameterSource("ids", ids(delivered)));
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate(RETRY_LATER, failed.stream()
+                        .map(claimed -> new MapSqlParameterSource()
+                                .addValue("id", claimed.message().id())
+                                .addValue("availableAt", Timestamp.valueOf(now.plus(backoff(claimed.attempts())))))
+                        .toArray(MapSqlParameterSource[]::new));
+            }
+        });
+        relayed.increment(batch.size() - failed.size());
+    }
+
+    // Doubles per failed attempt up to max-retry-backoff
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private static List<Long> ids(List<ClaimedMessage> batch) {
+        return batch.stream().map(claimed -> claimed.message().id()).toList();
+    }
+
+    // One pipelined round trip per batch; the stream is trimmed approximately to bound its memory
+    private void publishToStream(List<OutboxMessage> batch) {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        RedisStreamCommands.XAddOptions options =
+                RedisStreamCommands.XAddOptions.maxlen(streamMaxLength).approximateTrimming(true);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxMessage message : batch) {
+                connection.streamCommands().xAdd(StreamRecords.newRecord().in(key).ofMap(fields(message)), options);
+            }
+            return null;
+        });
+    }
+
+    private static Map<byte[], byte[]> fields(OutboxMessage message) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        put(fields, "id", String.valueOf(message.id()));
+        put(fields, "type", message.type());
+        put(fields, "aggregateType", message.aggregateType());
+        put(fields, "aggregateId", String.valueOf(message.aggregateId()));
+        put(fields, "payload", message.payload());
+        put(fields, "occurredAt", message.occurredAt().toString());
+        return fields;
+    }
+
+    private static void put(Map<byte[], byte[]> fields, String name, String value) {
+        fields.put(name.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record ClaimedMessage(OutboxMessage message, boolean streamed, int attempts) {
+    }
+}
@@ -1,10 +1,18 @@
 package cue.edu.co.eventcore.infrastructure.persistence.jpa;
 
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceHistoryDto;
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
 import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
 import cue.edu.co.eventcore.infrastructure.persistence.models.AttendanceJpaEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,10 +26,24 @@ public interface AttendanceJpaRepository extends JpaRepository<AttendanceJpaEnti
 
     List<AttendanceJpaEntity> findByEventId(Long eventId);
 
-    List<AttendanceJpaEntity> findByParticipantId(Long participantId);
+    Optional<AttendanceJpaEntity> findByEventIdAndId(Long eventId, Long id);
+
+    // Participant lookups take the event ids from AttendanceKeyJpaRepository so only their partitions are read
+
+    List<AttendanceJpaEntity> findByEventIdInAndParticipantId(Collection<Long> eventIds, Long participantId);
 
     List<AttendanceJpaEntity> findByEventIdAndStatus(Long eventId, AttendanceStatus status);
 
+    Optional<AttendanceJpaEntity> findFirstByEventIdAndStatusOrderByRegistrationDateAscIdAsc(
+            Long eventId, AttendanceStatus status);
+
+    @Query("SELECT COUNT(a) FROM AttendanceJpaEntity a WHERE a.eventId = :eventId AND a.status = :status "
+            + "AND (a.registrationDate < :registrationDate OR (a.registrationDate = :registrationDate AND a.id < :id))")
+    long countQueuedAhead(@Param("eventId") Long eventId,
+                          @Param("status") AttendanceStatus status,
+                          @Param("registrationDate") LocalDateTime registrationDate,
+                          @Param("id") Long id);
+
     boolean existsByEventIdAndParticipantId(Long eventId, Long participantId);
 
     long countByEventId(Long eventId);
@@ -29,4 +51,49 @@ public interface AttendanceJpaRepository extends JpaRepository<AttendanceJpaEnti
     long countByEventIdAndStatus(Long eventId, AttendanceStatus status);
 
     void deleteByEventId(Long eventId);
+
+    @Query("SELECT new cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceStatusCount("
+            + "a.eventId, a.status, COUNT(a)) FROM AttendanceJpaEntity a "
+            + "WHERE a.eventId IN :eventIds GROUP BY a.eventId, a.status")
+    List<AttendanceStatusCount> countByEventIdsGroupByStatus(@Param("eventIds") Collection<Long> eventIds);
+
+    // Read-model projections: rows are instantiated straight into DTOs, no managed entities
+
+    String ATTENDANCE_RESPONSE_PROJECTION = "SELECT new cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto("
+            + "a.id, a.eventId, a.participantId, a.status, a.registrationDate, a.checkInDate, a.notes, "
+            + "a.createdAt, a.updatedAt) FROM AttendanceJpaEntity a";
+
+    @Query(ATTENDANCE_RESPONSE_PROJECTION + " WHERE a.eventId = :eventId AND a.id = :id")
+    Optional<AttendanceResponseDto> findResponseByEventIdAndId(@Param("eventId") Long eventId, @Param("id") Long id);
+
+    @Query(ATTENDANCE_RESPONSE_PROJECTION + " WHERE a.eventId = :eventId")
+    List<AttendanceResponseDto> findResponsesByEventId(@Param("eventId") Long eventId);
+
+    @Query(ATTENDANCE_RESPONSE_PROJECTION + " WHERE a.eventId IN :eventIds AND a.participantId = :participantId")
+    List<AttendanceResponseDto> findResponsesByParticipantId(@Param("eventIds") Collection<Long> eventIds,
+                                                             @Param("participantId") Long participantId);
+
+    // Participant history: each attendance joined with its event summary in one query, newest events first
+
+    String ATTENDANCE_HISTORY_PROJECTION = "SELECT new cue.edu.co.eventcore.application.dtos.attendance.AttendanceHistoryDto("
+            + "a.id, a.status, a.registrationDate, a.checkInDate, "
+            + "e.id, e.name, e.location, e.startDate, e.endDate, e.status) "
+            + "FROM AttendanceJpaEntity a JOIN EventJpaEntity e ON e.id = a.eventId";
+
+    @Query(value = ATTENDANCE_HISTORY_PROJECTION + " WHERE a.eventId IN :eventIds "
+            + "AND a.participantId = :participantId ORDER BY e.startDate DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM AttendanceJpaEntity a "
+                    + "WHERE a.eventId IN :eventIds AND a.participantId = :participantId")
+    Page<AttendanceHistoryDto> findHistoryByParticipantId(@Param("eventIds") Collection<Long> eventIds,
+                                                          @Param("participantId") Long participantId,
+                                                          Pageable pageable);
+
+    @Query(value = ATTENDANCE_HISTORY_PROJECTION + " WHERE a.eventId IN :eventIds "
+            + "AND a.participantId = :participantId AND a.status = :status ORDER BY e.startDate DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM AttendanceJpaEntity a "
+                    + "WHERE a.eventId IN :eventIds AND a.participantId = :participantId AND a.status = :status")
+    Page<AttendanceHistoryDto> findHistoryByParticipantIdAndStatus(@Param("eventIds") Collection<Long> eventIds,
+                                                                   @Param("participantId") Long participantId,
+                                                                   @Param("status") AttendanceStatus status,
+                                                                   Pageable pageable);
 }
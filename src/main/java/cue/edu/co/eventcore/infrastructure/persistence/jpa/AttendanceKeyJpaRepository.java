@@ -0,0 +1,40 @@
+package cue.edu.co.eventcore.infrastructure.persistence.jpa;
+
+import cue.edu.co.eventcore.infrastructure.persistence.models.AttendanceKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for AttendanceKeyJpaEntity
+ * Rows are written and removed by AttendanceRepositoryImpl in the transaction that changes the attendance
+ */
+@Repository
+public interface AttendanceKeyJpaRepository extends JpaRepository<AttendanceKeyJpaEntity, Long> {
+
+    @Query("SELECT k.eventId FROM AttendanceKeyJpaEntity k WHERE k.id = :id")
+    Optional<Long> findEventIdById(@Param("id") Long id);
+
+    @Query("SELECT k.eventId FROM AttendanceKeyJpaEntity k WHERE k.participantId = :participantId")
+    List<Long> findEventIdsByParticipantId(@Param("participantId") Long participantId);
+
+    boolean existsByParticipantId(Long participantId);
+
+    // The id is assigned by the attendances identity column, so a plain insert skips the merge lookup
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO attendance_keys (id, event_id, participant_id) VALUES (:id, :eventId, :participantId)",
+            nativeQuery = true)
+    void insert(@Param("id") Long id, @Param("eventId") Long eventId, @Param("participantId") Long participantId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AttendanceKeyJpaEntity k WHERE k.eventId = :eventId")
+    void deleteByEventId(@Param("eventId") Long eventId);
+}
@@ -0,0 +1,9 @@
+package cue.edu.co.eventcore.infrastructure.persistence.jpa;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+
+/**
+ * Row of a per-event attendance count grouped by status
+ */
+public record AttendanceStatusCount(Long eventId, AttendanceStatus status, Long count) {
+}
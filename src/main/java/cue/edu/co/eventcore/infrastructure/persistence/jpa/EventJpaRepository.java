@@ -1,7 +1,10 @@
 package cue.edu.co.eventcore.infrastructure.persistence.jpa;
 
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucketDto;
+import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
 import cue.edu.co.eventcore.domain.entities.EventStatus;
 import cue.edu.co.eventcore.infrastructure.persistence.models.EventJpaEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA Repository for EventJpaEntity
@@ -24,4 +28,60 @@ public interface EventJpaRepository extends JpaRepository<EventJpaEntity, Long>
 
     @Query("SELECT e FROM EventJpaEntity e WHERE e.startDate > :now AND e.status = 'ACTIVE' ORDER BY e.startDate ASC")
     List<EventJpaEntity> findUpcomingEvents(@Param("now") LocalDateTime now);
+
+    @Query("SELECT e FROM EventJpaEntity e WHERE e.status = 'ACTIVE' AND e.endDate > :now AND e.id > :afterId "
+            + "ORDER BY e.id")
+    List<EventJpaEntity> findOpenAfter(@Param("afterId") Long afterId,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    // Read-model projections: rows are instantiated straight into DTOs, no managed entities
+
+    String EVENT_RESPONSE_PROJECTION = "SELECT new cue.edu.co.eventcore.application.dtos.event.EventResponseDto("
+            + "e.id, e.name, e.description, e.location, e.startDate, e.endDate, e.capacity, e.currentAttendees, "
+            + "e.capacity - e.currentAttendees, e.status, e.createdAt, e.updatedAt) FROM EventJpaEntity e";
+
+    @Query(EVENT_RESPONSE_PROJECTION + " WHERE e.id = :id")
+    Optional<EventResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(EVENT_RESPONSE_PROJECTION)
+    List<EventResponseDto> findAllResponses();
+
+    @Query(EVENT_RESPONSE_PROJECTION + " WHERE e.status = :status")
+    List<EventResponseDto> findResponsesByStatus(@Param("status") EventStatus status);
+
+    @Query(EVENT_RESPONSE_PROJECTION + " WHERE e.startDate > :now AND e.status = 'ACTIVE' ORDER BY e.startDate ASC")
+    List<EventResponseDto> findUpcomingResponses(@Param("now") LocalDateTime now);
+
+    // Calendar keyset pages: (start_date, id) after the cursor, walked along idx_events_status_start_date
+
+    String CALENDAR_RANGE = " WHERE (e.startDate, e.id) > (:afterStart, :afterId) AND e.startDate < :to";
+
+    @Query(EVENT_RESPONSE_PROJECTION + CALENDAR_RANGE + " ORDER BY e.startDate, e.id")
+    List<EventResponseDto> findCalendarPage(@Param("afterStart") LocalDateTime afterStart,
+                                            @Param("afterId") Long afterId,
+                                            @Param("to") LocalDateTime to,
+                                            Pageable pageable);
+
+    @Query(EVENT_RESPONSE_PROJECTION + CALENDAR_RANGE + " AND e.status = :status ORDER BY e.startDate, e.id")
+    List<EventResponseDto> findCalendarPageByStatus(@Param("afterStart") LocalDateTime afterStart,
+                                                    @Param("afterId") Long afterId,
+                                                    @Param("to") LocalDateTime to,
+                                                    @Param("status") EventStatus status,
+                                                    Pageable pageable);
+
+    // Calendar summary: one grouped query returning event counts per start day
+
+    String CALENDAR_DAY_COUNTS = "SELECT new cue.edu.co.eventcore.application.dtos.event.CalendarBucketDto("
+            + "cast(e.startDate as LocalDate), count(e)) FROM EventJpaEntity e "
+            + "WHERE e.startDate >= :from AND e.startDate < :to";
+
+    @Query(CALENDAR_DAY_COUNTS + " GROUP BY cast(e.startDate as LocalDate) ORDER BY cast(e.startDate as LocalDate)")
+    List<CalendarBucketDto> countByStartDay(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(CALENDAR_DAY_COUNTS + " AND e.status = :status "
+            + "GROUP BY cast(e.startDate as LocalDate) ORDER BY cast(e.startDate as LocalDate)")
+    List<CalendarBucketDto> countByStartDayAndStatus(@Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to,
+                                                     @Param("status") EventStatus status);
 }
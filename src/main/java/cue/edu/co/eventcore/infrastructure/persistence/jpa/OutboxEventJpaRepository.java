@@ -0,0 +1,12 @@
+package cue.edu.co.eventcore.infrastructure.persistence.jpa;
+
+import cue.edu.co.eventcore.infrastructure.persistence.models.OutboxEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository for OutboxEventJpaEntity
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+}
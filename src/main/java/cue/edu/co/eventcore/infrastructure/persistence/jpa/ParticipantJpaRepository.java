@@ -1,10 +1,16 @@
 package cue.edu.co.eventcore.infrastructure.persistence.jpa;
 
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
 import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
 import cue.edu.co.eventcore.infrastructure.persistence.models.ParticipantJpaEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +29,34 @@ public interface ParticipantJpaRepository extends JpaRepository<ParticipantJpaEn
     boolean existsByEmail(String email);
 
     boolean existsByDocumentNumber(String documentNumber);
+
+    // Read-model projections: rows are instantiated straight into DTOs, no managed entities
+
+    String PARTICIPANT_RESPONSE_PROJECTION = "SELECT new cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto("
+            + "p.id, p.firstName, p.lastName, p.email, p.phone, p.documentNumber, p.status, p.createdAt, p.updatedAt) "
+            + "FROM ParticipantJpaEntity p";
+
+    @Query(PARTICIPANT_RESPONSE_PROJECTION + " WHERE p.id = :id")
+    Optional<ParticipantResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(PARTICIPANT_RESPONSE_PROJECTION + " WHERE p.email = :email")
+    Optional<ParticipantResponseDto> findResponseByEmail(@Param("email") String email);
+
+    @Query(PARTICIPANT_RESPONSE_PROJECTION)
+    List<ParticipantResponseDto> findAllResponses();
+
+    @Query(PARTICIPANT_RESPONSE_PROJECTION + " WHERE p.status = :status")
+    List<ParticipantResponseDto> findResponsesByStatus(@Param("status") ParticipantStatus status);
+
+    @Query(PARTICIPANT_RESPONSE_PROJECTION + " WHERE p.id IN :ids")
+    List<ParticipantResponseDto> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Search fallback while the in-memory index is unavailable: prefix match on each searchable column
+
+    String PREFIX_SEARCH_CONDITION = " WHERE LOWER(p.firstName) LIKE :prefix OR LOWER(p.lastName) LIKE :prefix "
+            + "OR LOWER(p.email) LIKE :prefix OR LOWER(p.documentNumber) LIKE :prefix";
+
+    @Query(value = PARTICIPANT_RESPONSE_PROJECTION + PREFIX_SEARCH_CONDITION + " ORDER BY p.lastName, p.firstName, p.id",
+            countQuery = "SELECT COUNT(p) FROM ParticipantJpaEntity p" + PREFIX_SEARCH_CONDITION)
+    Page<ParticipantResponseDto> searchResponsesByPrefix(@Param("prefix") String prefix, Pageable pageable);
 }
@@ -25,6 +25,7 @@ public class AttendanceMapper {
                 .notes(jpaEntity.getNotes())
                 .createdAt(jpaEntity.getCreatedAt())
                 .updatedAt(jpaEntity.getUpdatedAt())
+                .version(jpaEntity.getVersion())
                 .build();
     }
 
@@ -43,6 +44,7 @@ public class AttendanceMapper {
                 .notes(domain.getNotes())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
                 .build();
     }
 }
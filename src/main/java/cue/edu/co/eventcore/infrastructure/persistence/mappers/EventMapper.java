@@ -27,6 +27,7 @@ public class EventMapper {
                 .status(jpaEntity.getStatus())
                 .createdAt(jpaEntity.getCreatedAt())
                 .updatedAt(jpaEntity.getUpdatedAt())
+                .version(jpaEntity.getVersion())
                 .build();
     }
 
@@ -47,6 +48,7 @@ public class EventMapper {
                 .status(domain.getStatus())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
                 .build();
     }
 }
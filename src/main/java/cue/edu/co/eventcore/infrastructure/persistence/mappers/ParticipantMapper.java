@@ -25,6 +25,7 @@ public class ParticipantMapper {
                 .status(jpaEntity.getStatus())
                 .createdAt(jpaEntity.getCreatedAt())
                 .updatedAt(jpaEntity.getUpdatedAt())
+                .version(jpaEntity.getVersion())
                 .build();
     }
 
@@ -43,6 +44,7 @@ public class ParticipantMapper {
                 .status(domain.getStatus())
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
                 .build();
     }
 }
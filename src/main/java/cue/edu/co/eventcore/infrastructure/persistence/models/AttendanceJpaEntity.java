@@ -6,18 +6,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.PartitionKey;
 
 import java.time.LocalDateTime;
 
 /**
  * JPA Entity for Attendance
  * This is the persistence model, separate from domain model
+ * The table is range-partitioned by event_id; updates and deletes carry it so they hit one partition.
+ * Lookups without an event_id go through AttendanceKeyJpaEntity, so event and participant never change
  */
 @Entity
 @Table(name = "attendances", indexes = {
         @Index(name = "idx_event_participant", columnList = "event_id, participant_id", unique = true),
-        @Index(name = "idx_event_id", columnList = "event_id"),
-        @Index(name = "idx_participant_id", columnList = "participant_id")
+        @Index(name = "idx_attendances_event_status", columnList = "event_id, status, registration_date, id")
 })
 @Data
 @Builder
@@ -29,10 +31,11 @@ public class AttendanceJpaEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "event_id", nullable = false)
+    @PartitionKey
+    @Column(name = "event_id", nullable = false, updatable = false)
     private Long eventId;
 
-    @Column(name = "participant_id", nullable = false)
+    @Column(name = "participant_id", nullable = false, updatable = false)
     private Long participantId;
 
     @Enumerated(EnumType.STRING)
@@ -54,6 +57,10 @@ public class AttendanceJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
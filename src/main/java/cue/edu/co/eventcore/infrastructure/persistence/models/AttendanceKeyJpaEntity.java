@@ -0,0 +1,34 @@
+package cue.edu.co.eventcore.infrastructure.persistence.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JPA Entity locating an attendance in the partitioned attendances table
+ * Lookups by attendance or participant id read this unpartitioned table first and then query
+ * attendances with event_id, so only the partitions holding the rows are touched.
+ * Its primary key also keeps attendance ids unique across partitions
+ */
+@Entity
+@Table(name = "attendance_keys", indexes = {
+        @Index(name = "idx_attendance_keys_participant", columnList = "participant_id, event_id"),
+        @Index(name = "idx_attendance_keys_event", columnList = "event_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceKeyJpaEntity {
+
+    @Id
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "participant_id", nullable = false)
+    private Long participantId;
+}
@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * This is the persistence model, separate from domain model
  */
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_status_start_date", columnList = "status, start_date"),
+        @Index(name = "idx_events_start_date", columnList = "start_date")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -56,6 +59,10 @@ public class EventJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
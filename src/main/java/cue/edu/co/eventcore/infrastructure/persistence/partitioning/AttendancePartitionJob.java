@@ -0,0 +1,47 @@
+package cue.edu.co.eventcore.infrastructure.persistence.partitioning;
+
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Periodically creates upcoming attendance partitions and detaches expired ones
+ * Only the node holding the leader lock runs a pass, so nodes never race on the same DDL
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.attendance-partitions.maintenance-enabled", havingValue = "true", matchIfMissing = true)
+public class AttendancePartitionJob {
+
+    private static final String LOCK_NAME = "attendance-partitions";
+
+    private final AttendancePartitionMaintenance attendancePartitionMaintenance;
+    private final RedisLeaderLock leaderLock;
+
+    @Value("${eventcore.attendance-partitions.lock-ttl:PT5M}")
+    private Duration lockTtl;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${eventcore.attendance-partitions.maintenance-interval-ms:3600000}")
+    public void maintain() {
+        try {
+            Optional<RedisLeaderLock.Lease> lease = leaderLock.tryAcquire(LOCK_NAME, lockTtl);
+            if (lease.isEmpty()) {
+                return;
+            }
+            try (RedisLeaderLock.Lease held = lease.get()) {
+                attendancePartitionMaintenance.maintain();
+            }
+        } catch (Exception e) {
+            // Partitions are created well ahead of need, so the next run has time to retry
+            log.error("Error maintaining attendance partitions", e);
+        }
+    }
+}
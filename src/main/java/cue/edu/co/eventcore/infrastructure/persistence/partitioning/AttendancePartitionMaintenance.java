@@ -0,0 +1,164 @@
+package cue.edu.co.eventcore.infrastructure.persistence.partitioning;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maintains the event_id range partitions of the attendances table
+ * Creates ranges ahead of the newest event so inserts never land in the default partition,
+ * and optionally detaches ranges whose events all ended before the retention window.
+ * Detached partitions are kept as plain tables for archiving and their attendance_keys rows are removed.
+ * No-op outside PostgreSQL
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AttendancePartitionMaintenance {
+
+    private static final String PARTITION_PREFIX = "attendances_p";
+
+    private static final String PARTITIONS = "SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) "
+            + "FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+            + "WHERE i.inhparent = 'attendances'::regclass";
+
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\('?(-?\\d+)'?\\) TO \\('?(-?\\d+)'?\\)");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${eventcore.attendance-partitions.events-per-partition:1000}")
+    private long eventsPerPartition;
+
+    @Value("${eventcore.attendance-partitions.partitions-ahead:2}")
+    private int partitionsAhead;
+
+    @Value("${eventcore.attendance-partitions.detach-enabled:false}")
+    private boolean detachEnabled;
+
+    @Value("${eventcore.attendance-partitions.retention:P730D}")
+    private Duration retention;
+
+    @Value("${eventcore.attendance-partitions.detach-lock-timeout:2s}")
+    private Duration detachLockTimeout;
+
+    /**
+     * Run one maintenance pass
+     * @return number of partitions created plus detached
+     */
+    public int maintain() {
+        if (!isPartitioned()) {
+            return 0;
+        }
+        List<Range> ranges = ranges();
+        int changed = createAhead(ranges);
+        if (detachEnabled) {
+            changed += detachExpired(ranges);
+        }
+        warnIfDefaultUsed();
+        return changed;
+    }
+
+    private boolean isPartitioned() {
+        Boolean postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) c -> c.isWrapperFor(PGConnection.class));
+        if (!Boolean.TRUE.equals(postgres)) {
+            return false;
+        }
+        Integer partitioned = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table WHERE partrelid = to_regclass('attendances')", Integer.class);
+        return partitioned != null && partitioned > 0;
+    }
+
+    private List<Range> ranges() {
+        return jdbcTemplate.query(PARTITIONS, (rs, rowNum) -> {
+                    Matcher bound = RANGE_BOUND.matcher(rs.getString(2));
+                    return bound.find()
+                            ? new Range(rs.getString(1), Long.parseLong(bound.group(1)), Long.parseLong(bound.group(2)))
+                            : null;
+                }).stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingLong(Range::from))
+                .toList();
+    }
+
+    private int createAhead(List<Range> ranges) {
+        long maxEventId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM events", Long.class);
+        long target = (maxEventId / eventsPerPartition + 1 + partitionsAhead) * eventsPerPartition;
+        long next = ranges.isEmpty() ? 0 : ranges.get(ranges.size() - 1).to();
+
+        int created = 0;
+        while (next < target) {
+            // The new range is validated against the default partition, which is expected to be empty
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + PARTITION_PREFIX + next + " PARTITION OF attendances "
+                    + "FOR VALUES FROM (" + next + ") TO (" + (next + eventsPerPartition) + ") WITH (fillfactor = 85)");
+            log.info("Created attendance partition for events [{}, {})", next, next + eventsPerPartition);
+            next += eventsPerPartition;
+            created++;
+        }
+        return created;
+    }
+
+    private int detachExpired(List<Range> ranges) {
+        long maxEventId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM events", Long.class);
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+
+        int detached = 0;
+        for (Range range : ranges) {
+            // Only closed ranges qualify: a range still receiving new events is never complete
+            if (range.to() > maxEventId) {
+                break;
+            }
+            Integer live = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM events WHERE id >= ? AND id < ? AND end_date >= ?",
+                    Integer.class, range.from(), range.to(), cutoff);
+            if (live == null || live > 0) {
+                continue;
+            }
+            detach(range.name());
+            jdbcTemplate.update("DELETE FROM attendance_keys WHERE event_id >= ? AND event_id < ?", range.from(), range.to());
+            log.info("Detached attendance partition {} for events [{}, {})", range.name(), range.from(), range.to());
+            detached++;
+        }
+        return detached;
+    }
+
+    private void detach(String partition) {
+        // DETACH ... CONCURRENTLY is not allowed next to a default partition, so the plain form
+        // runs under a short lock timeout instead of queueing writers behind it
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET lock_timeout = '" + detachLockTimeout.toMillis() + "ms'");
+                try {
+                    statement.execute("ALTER TABLE attendances DETACH PARTITION " + partition);
+                } finally {
+                    statement.execute("RESET lock_timeout");
+                }
+            }
+            return null;
+        });
+    }
+
+    private void warnIfDefaultUsed() {
+        Boolean used = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM attendances_default)", Boolean.class);
+        if (Boolean.TRUE.equals(used)) {
+            log.warn("attendances_default holds rows; ranges covering them cannot be created until they are moved");
+        }
+    }
+
+    private record Range(String name, long from, long to) {
+    }
+}
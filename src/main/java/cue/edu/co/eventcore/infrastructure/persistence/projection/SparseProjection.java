@@ -0,0 +1,96 @@
+package cue.edu.co.eventcore.infrastructure.persistence.projection;
+
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.application.dtos.common.ListView;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable columns of an entity for sparse list responses
+ * Field names match the response DTO properties and map to JPQL expressions,
+ * so only the selected columns ever reach the SELECT clause
+ */
+public final class SparseProjection {
+
+    // Fields follow the response DTO order; availableSpots is derived, as in the DTO projections
+    public static final SparseProjection EVENT = new SparseProjection("EventJpaEntity e",
+            expressions("e", Map.of("availableSpots", "e.capacity - e.currentAttendees"),
+                    "id", "name", "description", "location", "startDate", "endDate", "capacity",
+                    "currentAttendees", "availableSpots", "status", "createdAt", "updatedAt"),
+            List.of("id", "name", "location", "startDate", "endDate", "availableSpots", "status"));
+
+    public static final SparseProjection PARTICIPANT = new SparseProjection("ParticipantJpaEntity p",
+            expressions("p", Map.of(),
+                    "id", "firstName", "lastName", "email", "phone", "documentNumber", "status",
+                    "createdAt", "updatedAt"),
+            List.of("id", "firstName", "lastName", "email", "status"));
+
+    private final String from;
+    private final Map<String, String> expressions;
+    private final List<String> summary;
+
+    private SparseProjection(String from, Map<String, String> expressions, List<String> summary) {
+        this.from = from;
+        this.expressions = expressions;
+        this.summary = summary;
+    }
+
+    /**
+     * Resolve the fields and view request parameters into a selection
+     * The ID is always included so clients can follow up on single elements
+     * @param fields comma-separated field names, may be null
+     * @param view the predefined representation
+     * @return the selection in canonical order, or FULL when neither narrows the response
+     */
+    public FieldSelection resolve(String fields, ListView view) {
+        boolean hasFields = fields != null && !fields.isBlank();
+        if (hasFields && view != ListView.FULL) {
+            throw new BusinessRuleException("Use either the fields parameter or a view, not both");
+        }
+        if (view == ListView.SUMMARY) {
+            return new FieldSelection(summary);
+        }
+        if (!hasFields) {
+            return FieldSelection.FULL;
+        }
+
+        Set<String> requested = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet());
+        for (String field : requested) {
+            if (!expressions.containsKey(field)) {
+                throw new BusinessRuleException("Unknown field '" + field + "'; allowed: "
+                        + String.join(", ", expressions.keySet()));
+            }
+        }
+        return new FieldSelection(expressions.keySet().stream()
+                .filter(field -> field.equals("id") || requested.contains(field))
+                .toList());
+    }
+
+    /**
+     * JPQL select and from clauses for a selection
+     * @param selection the selected fields, not FULL
+     * @return the query prefix, ready for a WHERE or ORDER BY clause
+     */
+    String select(FieldSelection selection) {
+        return selection.fields().stream()
+                .map(expressions::get)
+                .collect(Collectors.joining(", ", "SELECT ", " FROM " + from));
+    }
+
+    private static Map<String, String> expressions(String alias, Map<String, String> derived, String... fields) {
+        Map<String, String> expressions = new LinkedHashMap<>();
+        for (String field : fields) {
+            expressions.put(field, derived.getOrDefault(field, alias + "." + field));
+        }
+        return expressions;
+    }
+}
@@ -0,0 +1,64 @@
+package cue.edu.co.eventcore.infrastructure.persistence.projection;
+
+import cue.edu.co.eventcore.application.dtos.common.FieldSelection;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sparse list queries: only the selected columns are fetched, and each row becomes
+ * an ordered map holding exactly those fields, so omitted ones are never serialized either
+ */
+@Repository
+@RequiredArgsConstructor
+public class SparseProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    public List<Map<String, Object>> findEvents(FieldSelection selection) {
+        return list(SparseProjection.EVENT, selection, "", Map.of());
+    }
+
+    public List<Map<String, Object>> findEventsByStatus(FieldSelection selection, EventStatus status) {
+        return list(SparseProjection.EVENT, selection, " WHERE e.status = :status", Map.of("status", status));
+    }
+
+    public List<Map<String, Object>> findUpcomingEvents(FieldSelection selection, LocalDateTime now) {
+        return list(SparseProjection.EVENT, selection,
+                " WHERE e.startDate > :now AND e.status = 'ACTIVE' ORDER BY e.startDate ASC", Map.of("now", now));
+    }
+
+    public List<Map<String, Object>> findParticipants(FieldSelection selection) {
+        return list(SparseProjection.PARTICIPANT, selection, "", Map.of());
+    }
+
+    public List<Map<String, Object>> findParticipantsByStatus(FieldSelection selection, ParticipantStatus status) {
+        return list(SparseProjection.PARTICIPANT, selection, " WHERE p.status = :status", Map.of("status", status));
+    }
+
+    private List<Map<String, Object>> list(SparseProjection projection, FieldSelection selection,
+                                           String condition, Map<String, Object> parameters) {
+        TypedQuery<Tuple> query = entityManager.createQuery(projection.select(selection) + condition, Tuple.class);
+        parameters.forEach(query::setParameter);
+
+        List<String> fields = selection.fields();
+        return query.getResultList().stream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 0; i < fields.size(); i++) {
+                        row.put(fields.get(i), tuple.get(i));
+                    }
+                    return row;
+                })
+                .toList();
+    }
+}
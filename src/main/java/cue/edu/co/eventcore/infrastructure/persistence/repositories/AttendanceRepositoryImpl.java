@@ -4,6 +4,8 @@ import cue.edu.co.eventcore.domain.entities.Attendance;
 import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceKeyJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.models.AttendanceJpaEntity;
 import cue.edu.co.eventcore.infrastructure.persistence.mappers.AttendanceMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -15,22 +17,31 @@ import java.util.stream.Collectors;
 /**
  * Implementation of AttendanceRepository interface
  * Adapts Spring Data JPA repository to domain repository interface
+ * Keeps attendance_keys in step with attendances and routes lookups without an event_id through it
  */
 @Repository
 @RequiredArgsConstructor
 public class AttendanceRepositoryImpl implements AttendanceRepository {
 
     private final AttendanceJpaRepository jpaRepository;
+    private final AttendanceKeyJpaRepository keyRepository;
     private final AttendanceMapper mapper;
 
     @Override
     public Attendance save(Attendance attendance) {
-        return mapper.toDomain(jpaRepository.save(mapper.toJpaEntity(attendance)));
+        boolean created = attendance.getId() == null;
+        AttendanceJpaEntity saved = jpaRepository.save(mapper.toJpaEntity(attendance));
+        if (created) {
+            keyRepository.insert(saved.getId(), saved.getEventId(), saved.getParticipantId());
+        }
+        return mapper.toDomain(saved);
     }
 
     @Override
     public Optional<Attendance> findById(Long id) {
-        return jpaRepository.findById(id).map(mapper::toDomain);
+        return keyRepository.findEventIdById(id)
+                .flatMap(eventId -> jpaRepository.findByEventIdAndId(eventId, id))
+                .map(mapper::toDomain);
     }
 
     @Override
@@ -48,7 +59,11 @@ public class AttendanceRepositoryImpl implements AttendanceRepository {
 
     @Override
     public List<Attendance> findByParticipantId(Long participantId) {
-        return jpaRepository.findByParticipantId(participantId).stream()
+        List<Long> eventIds = keyRepository.findEventIdsByParticipantId(participantId);
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByEventIdInAndParticipantId(eventIds, participantId).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
@@ -60,11 +75,28 @@ public class AttendanceRepositoryImpl implements AttendanceRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<Attendance> findWaitlistHead(Long eventId) {
+        return jpaRepository.findFirstByEventIdAndStatusOrderByRegistrationDateAscIdAsc(eventId, AttendanceStatus.WAITLISTED)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public long countWaitlistedAhead(Attendance attendance) {
+        return jpaRepository.countQueuedAhead(attendance.getEventId(), AttendanceStatus.WAITLISTED,
+                attendance.getRegistrationDate(), attendance.getId());
+    }
+
     @Override
     public boolean existsByEventIdAndParticipantId(Long eventId, Long participantId) {
         return jpaRepository.existsByEventIdAndParticipantId(eventId, participantId);
     }
 
+    @Override
+    public boolean existsByParticipantId(Long participantId) {
+        return keyRepository.existsByParticipantId(participantId);
+    }
+
     @Override
     public long countByEventId(Long eventId) {
         return jpaRepository.countByEventId(eventId);
@@ -77,12 +109,16 @@ public class AttendanceRepositoryImpl implements AttendanceRepository {
 
     @Override
     public void deleteById(Long id) {
-        jpaRepository.deleteById(id);
+        keyRepository.findEventIdById(id)
+                .flatMap(eventId -> jpaRepository.findByEventIdAndId(eventId, id))
+                .ifPresent(jpaRepository::delete);
+        keyRepository.deleteById(id);
     }
 
     @Override
     public void deleteByEventId(Long eventId) {
         jpaRepository.deleteByEventId(eventId);
+        keyRepository.deleteByEventId(eventId);
     }
 
     @Override
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -41,6 +42,13 @@ public class EventRepositoryImpl implements EventRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Event> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Event> findByStatus(EventStatus status) {
         return jpaRepository.findByStatus(status).stream()
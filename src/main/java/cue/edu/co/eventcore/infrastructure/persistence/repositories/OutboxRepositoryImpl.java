@@ -0,0 +1,67 @@
+package cue.edu.co.eventcore.infrastructure.persistence.repositories;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.models.OutboxEventJpaEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of OutboxRepository interface
+ * Stores events as JSON rows through the JPA repository, inside the caller's transaction;
+ * bulk appends go through one JDBC batch, since identity keys keep Hibernate from batching inserts
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private static final String INSERT_EVENT = "INSERT INTO outbox_events "
+            + "(event_type, aggregate_type, aggregate_id, payload, occurred_at, streamed, attempts) "
+            + "VALUES (?, ?, ?, ?, ?, FALSE, 0)";
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void append(DomainEvent event) {
+        jpaRepository.save(OutboxEventJpaEntity.builder()
+                .eventType(event.getType().name())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .payload(payload(event))
+                .occurredAt(event.getOccurredAt())
+                .build());
+    }
+
+    @Override
+    public void appendAll(Collection<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            rows.add(new Object[]{
+                    event.getType().name(), event.getAggregateType(), event.getAggregateId(),
+                    payload(event), Timestamp.valueOf(event.getOccurredAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+    }
+
+    private String payload(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getType() + " payload", e);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import cue.edu.co.eventcore.infrastructure.persistence.mappers.ParticipantMapper
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -50,6 +51,13 @@ public class ParticipantRepositoryImpl implements ParticipantRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Participant> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Participant> findByStatus(ParticipantStatus status) {
         return jpaRepository.findByStatus(status).stream()
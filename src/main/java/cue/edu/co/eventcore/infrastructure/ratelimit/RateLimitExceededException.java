@@ -0,0 +1,17 @@
+package cue.edu.co.eventcore.infrastructure.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request exceeds its rate limit
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String route, long retryAfterSeconds) {
+        super(String.format("Rate limit exceeded for %s, retry after %d seconds", route, retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
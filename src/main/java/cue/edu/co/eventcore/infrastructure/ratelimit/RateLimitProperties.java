@@ -0,0 +1,52 @@
+package cue.edu.co.eventcore.infrastructure.ratelimit;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for rate limiting, one token-bucket rule per named route
+ * Rules are validated at startup; a zero refill rate would divide by zero in both buckets
+ */
+@Component
+@ConfigurationProperties(prefix = "eventcore.rate-limit")
+@Validated
+@Data
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Time budget for the Redis check before the local fallback bucket decides
+     */
+    private Duration redisTimeout = Duration.ofMillis(50);
+
+    /**
+     * How long Redis is bypassed after it failed or was too slow
+     */
+    private Duration redisBackoff = Duration.ofSeconds(1);
+
+    private Map<String, @Valid Rule> routes = new HashMap<>();
+
+    /**
+     * Token-bucket rule: bursts up to capacity, sustained rate of refillPerSecond
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        @Positive
+        private long capacity;
+        @Positive
+        private double refillPerSecond;
+    }
+}
@@ -0,0 +1,179 @@
+package cue.edu.co.eventcore.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distributed token-bucket rate limiter
+ * Each check is one atomic Lua script in Redis, so limits are shared across nodes.
+ * When Redis fails or exceeds its time budget, a node-local bucket decides instead
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+
+    private static final int MAX_LOCAL_BUCKETS = 100_000;
+
+    // Refills by elapsed server time, takes one token if available, returns {allowed, retryAfterMs}
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill_per_ms = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+            local allowed = 0
+            local retry_after = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retry_after = math.ceil((1 - tokens) / refill_per_ms)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill_per_ms) + 1000)
+            return {allowed, retry_after}
+            """, List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+    private final ExecutorService redisExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile long redisBypassedUntil;
+
+    /**
+     * Take one token for a subject on a route, throwing when the bucket is empty
+     * @param route the configured route name
+     * @param subject the identity being limited (client, event, ...)
+     * @throws RateLimitExceededException if the limit is exceeded
+     */
+    public void acquire(String route, String subject) {
+        RateLimitProperties.Rule rule = properties.getRoutes().get(route);
+        if (!properties.isEnabled() || rule == null) {
+            return;
+        }
+
+        String key = "ratelimit:" + route + ":" + subject;
+        CompletableFuture<List<?>> redisCall = callRedis(key, rule);
+        long retryAfterMs = redisCall != null ? await(redisCall) : -1;
+        if (retryAfterMs < 0) {
+            meterRegistry.counter("eventcore.rate_limit.fallback", "route", route).increment();
+            LocalTokenBucket bucket = localBucket(key, rule);
+            retryAfterMs = bucket.tryAcquire();
+            if (retryAfterMs == 0 && redisCall != null) {
+                // A timed-out script may still take its token later; give the local one back so the request is charged once
+                redisCall.thenAccept(late -> {
+                    if (isAllowed(late)) {
+                        bucket.refund();
+                    }
+                });
+            }
+        }
+
+        if (retryAfterMs > 0) {
+            meterRegistry.counter("eventcore.rate_limit.rejected", "route", route).increment();
+            throw new RateLimitExceededException(route, Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999)));
+        }
+    }
+
+    /**
+     * @return the pending script call, or null while Redis is bypassed
+     */
+    private CompletableFuture<List<?>> callRedis(String key, RateLimitProperties.Rule rule) {
+        if (System.currentTimeMillis() < redisBypassedUntil) {
+            return null;
+        }
+        return CompletableFuture.supplyAsync(() -> redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                String.valueOf(rule.getCapacity()),
+                String.valueOf(rule.getRefillPerSecond() / 1000.0)), redisExecutor);
+    }
+
+    /**
+     * @return 0 if allowed, the retry delay in ms if rejected, or -1 if Redis could not decide in time
+     */
+    private long await(CompletableFuture<List<?>> redisCall) {
+        try {
+            List<?> result = redisCall.get(properties.getRedisTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+            if (result == null || result.size() < 2) {
+                throw new IllegalStateException("Unexpected rate limit script result");
+            }
+            return isAllowed(result) ? 0 : ((Number) result.get(1)).longValue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            log.warn("Redis rate limit check unavailable, using local bucket: {}", e.toString());
+            redisBypassedUntil = System.currentTimeMillis() + properties.getRedisBackoff().toMillis();
+            return -1;
+        }
+    }
+
+    private static boolean isAllowed(List<?> result) {
+        return result != null && !result.isEmpty() && ((Number) result.get(0)).longValue() == 1;
+    }
+
+    private LocalTokenBucket localBucket(String key, RateLimitProperties.Rule rule) {
+        if (localBuckets.size() > MAX_LOCAL_BUCKETS) {
+            localBuckets.clear();
+        }
+        return localBuckets.computeIfAbsent(key, k -> new LocalTokenBucket(rule.getCapacity(), rule.getRefillPerSecond()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        redisExecutor.shutdownNow();
+    }
+
+    /**
+     * Node-local token bucket used while Redis is unavailable
+     */
+    private static final class LocalTokenBucket {
+
+        private final double capacity;
+        private final double refillPerMs;
+        private double tokens;
+        private long lastRefill;
+
+        LocalTokenBucket(long capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerMs = refillPerSecond / 1000.0;
+            this.tokens = capacity;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        synchronized long tryAcquire() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerMs);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerMs);
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+    }
+}
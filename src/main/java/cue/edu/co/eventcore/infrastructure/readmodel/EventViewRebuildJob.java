@@ -0,0 +1,47 @@
+package cue.edu.co.eventcore.infrastructure.readmodel;
+
+import cue.edu.co.eventcore.application.queries.EventViewQueryService;
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Periodically rebuilds the event page views of open events from the database
+ * Only the node holding the leader lock runs a pass; the lease is renewed between chunks
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.event-view.rebuild-enabled", havingValue = "true", matchIfMissing = true)
+public class EventViewRebuildJob {
+
+    private static final String LOCK_NAME = "event-view-rebuild";
+
+    private final EventViewQueryService eventViewQueryService;
+    private final RedisLeaderLock leaderLock;
+
+    @Value("${eventcore.event-view.lock-ttl:PT2M}")
+    private Duration lockTtl;
+
+    @Scheduled(fixedDelayString = "${eventcore.event-view.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            Optional<RedisLeaderLock.Lease> lease = leaderLock.tryAcquire(LOCK_NAME, lockTtl);
+            if (lease.isEmpty()) {
+                return;
+            }
+            try (RedisLeaderLock.Lease held = lease.get()) {
+                eventViewQueryService.rebuildOpenEvents(held::renew);
+            }
+        } catch (Exception e) {
+            log.error("Error rebuilding event views", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package cue.edu.co.eventcore.infrastructure.registrationqueue;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically drains the per-event registration queues
+ * Every node runs it; the per-event leader lock keeps a single consumer per event
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.registration-queue.consumer-enabled", havingValue = "true", matchIfMissing = true)
+public class RegistrationQueueJob {
+
+    private final RegistrationQueueService registrationQueueService;
+
+    @Scheduled(fixedDelayString = "${eventcore.registration-queue.poll-interval-ms:100}")
+    public void drain() {
+        try {
+            int processed = registrationQueueService.drainAll();
+            if (processed > 0) {
+                log.debug("Processed {} queued registrations", processed);
+            }
+        } catch (Exception e) {
+            log.error("Error draining registration queues", e);
+        }
+    }
+}
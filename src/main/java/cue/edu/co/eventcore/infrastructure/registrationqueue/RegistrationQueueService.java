@@ -0,0 +1,462 @@
+package cue.edu.co.eventcore.infrastructure.registrationqueue;
+
+import cue.edu.co.eventcore.application.dtos.attendance.RegistrationTicketDto;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.exceptions.DomainException;
+import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
+import cue.edu.co.eventcore.domain.services.AttendanceService;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import cue.edu.co.eventcore.infrastructure.roster.RosterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Queued registration mode for flash-sale events
+ * Requests are validated cheaply, appended to a per-event Redis Stream and answered with a ticket;
+ * a single consumer per event registers them in arrival order, one transaction per read batch, so the
+ * request rate is decoupled from the rate at which the database commits registrations
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RegistrationQueueService {
+
+    private static final String ENABLED_EVENTS_KEY = "registration-queue:enabled";
+    private static final String STREAM_EVENTS_KEY = "registration-queue:streams";
+    private static final String DEAD_LETTER_KEY = "registration-queue:dead-letter";
+    private static final String GROUP = "registrar";
+
+    // Every node reads as the same consumer, so entries left pending by a crashed leader
+    // are redelivered to whichever node takes the event's lock next
+    private static final Consumer CONSUMER = Consumer.from(GROUP, GROUP);
+
+    // Hands out one ticket per participant while a request is pending, so retries do not queue twice
+    private static final RedisScript<String> ENQUEUE_SCRIPT = new DefaultRedisScript<>("""
+            local existing = redis.call('HGET', KEYS[1], ARGV[1])
+            if existing then
+                return existing
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('XADD', KEYS[2], '*', 'ticket', ARGV[2], 'participant', ARGV[1])
+            redis.call('HSET', KEYS[3], 'state', 'PENDING', 'eventId', ARGV[3], 'participantId', ARGV[1],
+                    'requestedAt', ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ARGV[5])
+            redis.call('SADD', KEYS[4], ARGV[3])
+            return ARGV[2]
+            """, String.class);
+
+    // Drops a disabled event's stream once it is drained; atomic so no late request is lost
+    private static final RedisScript<Long> RETIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 or redis.call('XLEN', KEYS[3]) > 0 then
+                return 0
+            end
+            redis.call('SREM', KEYS[2], ARGV[1])
+            redis.call('DEL', KEYS[3], KEYS[4])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLeaderLock leaderLock;
+    private final AttendanceService attendanceService;
+    private final AttendanceRepository attendanceRepository;
+    private final AttendanceMembershipRepository attendanceMembershipRepository;
+    private final RosterService rosterService;
+    private final CacheService cacheService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${eventcore.registration-queue.batch-size:100}")
+    private int batchSize;
+
+    @Value("${eventcore.registration-queue.max-batches-per-pass:10}")
+    private int maxBatchesPerPass;
+
+    @Value("${eventcore.registration-queue.max-deliveries:5}")
+    private int maxDeliveries;
+
+    @Value("${eventcore.registration-queue.lock-ttl:PT30S}")
+    private Duration lockTtl;
+
+    @Value("${eventcore.registration-queue.ticket-ttl:P1D}")
+    private Duration ticketTtl;
+
+    /**
+     * Route registrations for an event through the queue
+     * @param eventId the event ID
+     */
+    public void enable(Long eventId) {
+        ensureGroup(eventId);
+        redisTemplate.opsForSet().add(STREAM_EVENTS_KEY, String.valueOf(eventId));
+        redisTemplate.opsForSet().add(ENABLED_EVENTS_KEY, String.valueOf(eventId));
+        log.info("Queued registration enabled for event {}", eventId);
+    }
+
+    /**
+     * Return an event to direct registration; requests already queued are still processed
+     * @param eventId the event ID
+     */
+    public void disable(Long eventId) {
+        redisTemplate.opsForSet().remove(ENABLED_EVENTS_KEY, String.valueOf(eventId));
+        log.info("Queued registration disabled for event {}", eventId);
+    }
+
+    /**
+     * Check if registrations for an event are queued
+     * @param eventId the event ID
+     * @return true if registration requests must be enqueued instead of registered directly
+     */
+    public boolean isEnabled(Long eventId) {
+        Boolean enabled = redisTemplate.opsForSet().isMember(ENABLED_EVENTS_KEY, String.valueOf(eventId));
+        return enabled != null && enabled;
+    }
+
+    /**
+     * Queue a registration request after the checks that need no database round trip
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @return the pending ticket, or the existing one if the participant already has a request queued
+     */
+    public RegistrationTicketDto enqueue(Long eventId, Long participantId) {
+        if (attendanceMembershipRepository.contains(eventId, participantId)) {
+            throw new DuplicateResourceException("Attendance for this event and participant already exists");
+        }
+
+        String newTicketId = eventId + "-" + UUID.randomUUID();
+        String ticketId = redisTemplate.execute(ENQUEUE_SCRIPT,
+                List.of(ticketsKey(eventId), streamKey(eventId), ticketKey(newTicketId), STREAM_EVENTS_KEY),
+                String.valueOf(participantId), newTicketId, String.valueOf(eventId),
+                LocalDateTime.now().toString(), String.valueOf(ticketTtl.toSeconds()));
+        return getTicket(ticketId);
+    }
+
+    /**
+     * Get the outcome of a queued registration, a cheap lookup meant for client polling
+     * @param ticketId the ticket ID
+     * @return the ticket
+     */
+    public RegistrationTicketDto getTicket(String ticketId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(ticketKey(ticketId));
+        if (fields.isEmpty()) {
+            throw new ResourceNotFoundException("Registration ticket not found with id: " + ticketId);
+        }
+        return RegistrationTicketDto.builder()
+                .ticketId(ticketId)
+                .eventId(Long.valueOf((String) fields.get("eventId")))
+                .participantId(Long.valueOf((String) fields.get("participantId")))
+                .state(RegistrationTicketDto.State.valueOf((String) fields.get("state")))
+                .attendanceId(fields.containsKey("attendanceId") ? Long.valueOf((String) fields.get("attendanceId")) : null)
+                .message((String) fields.get("message"))
+                .requestedAt(LocalDateTime.parse((String) fields.get("requestedAt")))
+                .processedAt(fields.containsKey("processedAt") ? LocalDateTime.parse((String) fields.get("processedAt")) : null)
+                .build();
+    }
+
+    /**
+     * Drain the queue of every event whose lock this node can take
+     * @return how many requests were processed
+     */
+    public int drainAll() {
+        Set<String> eventIds = redisTemplate.opsForSet().members(STREAM_EVENTS_KEY);
+        if (eventIds == null || eventIds.isEmpty()) {
+            return 0;
+        }
+
+        int processed = 0;
+        for (String eventId : eventIds) {
+            Optional<RedisLeaderLock.Lease> lease = leaderLock.tryAcquire("registration-queue:" + eventId, lockTtl);
+            if (lease.isEmpty()) {
+                continue;
+            }
+            try (RedisLeaderLock.Lease held = lease.get()) {
+                processed += drain(Long.valueOf(eventId), held);
+            } catch (Exception e) {
+                // Unacknowledged entries stay pending and are retried on the next pass, up to max-deliveries
+                log.error("Error draining registration queue of event {}", eventId, e);
+            }
+        }
+        return processed;
+    }
+
+    /**
+     * Process queued requests of one event in ordered batches, pending redeliveries first
+     */
+    private int drain(Long eventId, RedisLeaderLock.Lease lease) {
+        int processed = redeliver(eventId);
+        if (processed > 0 && !lease.renew()) {
+            return processed;
+        }
+
+        for (int batch = 0; batch < maxBatchesPerPass; batch++) {
+            List<MapRecord<String, Object, Object>> records = read(eventId, ReadOffset.lastConsumed(), batchSize);
+            if (records.isEmpty()) {
+                break;
+            }
+
+            List<RecordId> done = new ArrayList<>(records.size());
+            try {
+                processBatch(eventId, records, done);
+            } finally {
+                acknowledge(eventId, done);
+            }
+            processed += done.size();
+
+            if (!lease.renew()) {
+                return processed;
+            }
+        }
+
+        redisTemplate.execute(RETIRE_SCRIPT,
+                List.of(ENABLED_EVENTS_KEY, STREAM_EVENTS_KEY, streamKey(eventId), ticketsKey(eventId)),
+                String.valueOf(eventId));
+        return processed;
+    }
+
+    /**
+     * Retry the entries a failed pass or a crashed leader left pending, one at a time and in order
+     * Reading one entry per call bumps only that entry's delivery count, so the count tracks real attempts;
+     * an entry delivered more than max-deliveries times is dead-lettered instead of blocking the queue
+     */
+    private int redeliver(Long eventId) {
+        int processed = 0;
+        ReadOffset offset = ReadOffset.from("0");
+        while (true) {
+            List<MapRecord<String, Object, Object>> records = read(eventId, offset, 1);
+            if (records.isEmpty()) {
+                return processed;
+            }
+
+            MapRecord<String, Object, Object> record = records.get(0);
+            long deliveries = deliveries(eventId, record.getId());
+            if (deliveries > maxDeliveries) {
+                deadLetter(eventId, record, deliveries);
+            } else {
+                process(eventId, record);
+            }
+            acknowledge(eventId, List.of(record.getId()));
+            processed++;
+            offset = ReadOffset.from(record.getId());
+        }
+    }
+
+    private long deliveries(Long eventId, RecordId recordId) {
+        PendingMessages pending = redisTemplate.opsForStream().pending(streamKey(eventId), CONSUMER,
+                Range.closed(recordId.getValue(), recordId.getValue()), 1L);
+        return pending == null || pending.isEmpty() ? 0 : pending.get(0).getTotalDeliveryCount();
+    }
+
+    private List<MapRecord<String, Object, Object>> read(Long eventId, ReadOffset offset, int count) {
+        StreamReadOptions options = StreamReadOptions.empty().count(count);
+        StreamOffset<String> streamOffset = StreamOffset.create(streamKey(eventId), offset);
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redisTemplate.opsForStream().read(CONSUMER, options, streamOffset);
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("NOGROUP")) {
+                throw e;
+            }
+            // The stream was recreated without its group, e.g. after Redis lost its data
+            ensureGroup(eventId);
+            records = redisTemplate.opsForStream().read(CONSUMER, options, streamOffset);
+        }
+        return records != null ? records : List.of();
+    }
+
+    /**
+     * Register a read batch in one transaction, so the database commits once per batch instead of once per request
+     * Participants already in the membership bitmap are redeliveries and go through process instead. A business
+     * rule failure or a failed commit rolls the whole batch back, and its requests are then registered one
+     * transaction each, so a rejected request costs its batch the shared commit but never another request's seat;
+     * any other failure propagates and leaves the unprocessed entries pending
+     */
+    private void processBatch(Long eventId, List<MapRecord<String, Object, Object>> records, List<RecordId> done) {
+        List<MapRecord<String, Object, Object>> batch = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            if (attendanceMembershipRepository.contains(eventId, participantId(record))) {
+                process(eventId, record);
+                done.add(record.getId());
+            } else {
+                batch.add(record);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Attendance> registered;
+        try {
+            registered = new TransactionTemplate(transactionManager).execute(status -> {
+                List<Attendance> attendances = new ArrayList<>(batch.size());
+                for (MapRecord<String, Object, Object> record : batch) {
+                    attendances.add(attendanceService.registerAttendance(eventId, participantId(record)));
+                }
+                return attendances;
+            });
+        } catch (DomainException | DataAccessException | TransactionException e) {
+            log.debug("Batch of {} queued registrations of event {} rolled back ({}), registering them one by one",
+                    batch.size(), eventId, e.getMessage());
+            for (MapRecord<String, Object, Object> record : batch) {
+                process(eventId, record);
+                done.add(record.getId());
+            }
+            return;
+        }
+
+        registered.forEach(rosterService::record);
+        cacheService.delete(List.of(
+                CacheService.eventKey(eventId),
+                CacheService.eventStatsKey(eventId),
+                CacheService.eventAvailabilityKey(eventId)));
+        for (int i = 0; i < batch.size(); i++) {
+            MapRecord<String, Object, Object> record = batch.get(i);
+            Map<String, String> outcome = new HashMap<>();
+            accepted(outcome, registered.get(i));
+            complete(eventId, (String) record.getValue().get("ticket"), participantId(record), outcome);
+            done.add(record.getId());
+        }
+    }
+
+    /**
+     * Register one queued request and record its outcome on the ticket
+     * Business rule failures reject the ticket; any other failure propagates and leaves the entry pending
+     */
+    private void process(Long eventId, MapRecord<String, Object, Object> record) {
+        String ticketId = (String) record.getValue().get("ticket");
+        Long participantId = participantId(record);
+
+        Map<String, String> outcome = new HashMap<>();
+        try {
+            Attendance attendance = attendanceService.registerAttendance(eventId, participantId);
+            rosterService.record(attendance);
+            cacheService.delete(List.of(
+                    CacheService.eventKey(eventId),
+                    CacheService.eventStatsKey(eventId),
+                    CacheService.eventAvailabilityKey(eventId)));
+            accepted(outcome, attendance);
+        } catch (DuplicateResourceException | DataIntegrityViolationException e) {
+            // A redelivered entry whose registration committed before the previous leader could acknowledge it;
+            // a new leader whose membership bitmap lacks that row only finds out from the unique index
+            Optional<Attendance> existing = attendanceRepository.findByEventIdAndParticipantId(eventId, participantId)
+                    .filter(attendance -> attendance.isRegistered() || attendance.isWaitlisted());
+            if (existing.isPresent()) {
+                accepted(outcome, existing.get());
+            } else {
+                rejected(outcome, e instanceof DomainException ? e.getMessage() : "Registration could not be stored");
+            }
+        } catch (DomainException e) {
+            rejected(outcome, e.getMessage());
+        }
+
+        complete(eventId, ticketId, participantId, outcome);
+    }
+
+    /**
+     * Reject a request that keeps failing and park a copy of it for inspection
+     */
+    private void deadLetter(Long eventId, MapRecord<String, Object, Object> record, long deliveries) {
+        String ticketId = (String) record.getValue().get("ticket");
+        Long participantId = participantId(record);
+        log.error("Queued registration {} of event {} failed {} deliveries, moving it to {}",
+                ticketId, eventId, deliveries, DEAD_LETTER_KEY);
+
+        redisTemplate.opsForStream().add(DEAD_LETTER_KEY, Map.of(
+                "ticket", ticketId,
+                "participant", String.valueOf(participantId),
+                "eventId", String.valueOf(eventId),
+                "entryId", record.getId().getValue(),
+                "deliveries", String.valueOf(deliveries)));
+
+        Map<String, String> outcome = new HashMap<>();
+        rejected(outcome, "Registration could not be processed, please try again");
+        complete(eventId, ticketId, participantId, outcome);
+    }
+
+    private void complete(Long eventId, String ticketId, Long participantId, Map<String, String> outcome) {
+        outcome.put("processedAt", LocalDateTime.now().toString());
+        redisTemplate.opsForHash().putAll(ticketKey(ticketId), outcome);
+        redisTemplate.opsForHash().delete(ticketsKey(eventId), String.valueOf(participantId));
+    }
+
+    private void accepted(Map<String, String> outcome, Attendance attendance) {
+        RegistrationTicketDto.State state = attendance.isWaitlisted()
+                ? RegistrationTicketDto.State.WAITLISTED
+                : RegistrationTicketDto.State.REGISTERED;
+        outcome.put("state", state.name());
+        outcome.put("attendanceId", String.valueOf(attendance.getId()));
+    }
+
+    private void rejected(Map<String, String> outcome, String message) {
+        outcome.put("state", RegistrationTicketDto.State.REJECTED.name());
+        outcome.put("message", message);
+    }
+
+    private void acknowledge(Long eventId, List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        redisTemplate.opsForStream().acknowledge(streamKey(eventId), GROUP, ids);
+        redisTemplate.opsForStream().delete(streamKey(eventId), ids);
+    }
+
+    private void ensureGroup(Long eventId) {
+        byte[] key = streamKey(eventId).getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.execute((RedisCallback<String>) (RedisConnection connection) ->
+                    connection.streamCommands().xGroupCreate(key, GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private static Long participantId(MapRecord<String, Object, Object> record) {
+        return Long.valueOf((String) record.getValue().get("participant"));
+    }
+
+    private static String streamKey(Long eventId) {
+        return "registrations:" + eventId;
+    }
+
+    private static String ticketsKey(Long eventId) {
+        return "registrations:" + eventId + ":tickets";
+    }
+
+    private static String ticketKey(String ticketId) {
+        return "registration-ticket:" + ticketId;
+    }
+}
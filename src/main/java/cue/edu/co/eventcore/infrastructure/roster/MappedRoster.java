@@ -0,0 +1,277 @@
+package cue.edu.co.eventcore.infrastructure.roster;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Check-in roster of one event, kept in a memory-mapped file
+ * Fixed-size open-addressing table keyed by attendance ID; every write lands in the
+ * page cache immediately, so pending check-ins survive a process restart
+ */
+public class MappedRoster implements AutoCloseable {
+
+    private static final int MAGIC = 0x524F5354; // "ROST"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int SLOT_BYTES = 40;
+
+    // Slot layout
+    private static final int ATTENDANCE_ID = 0;
+    private static final int PARTICIPANT_ID = 8;
+    private static final int REGISTRATION_MILLIS = 16;
+    private static final int CHECK_IN_MILLIS = 24;
+    private static final int STATUS = 32;
+    private static final int DIRTY = 33;
+
+    private static final long EMPTY = 0L;
+    private static final long NONE = Long.MIN_VALUE;
+
+    @Getter
+    private final Long eventId;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private int size;
+
+    private MappedRoster(Long eventId, Path path, FileChannel channel, MappedByteBuffer buffer, int slots) {
+        this.eventId = eventId;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slots = slots;
+    }
+
+    /**
+     * Create an empty roster file sized for the expected number of attendances
+     */
+    public static MappedRoster create(Path path, Long eventId, int expectedEntries) throws IOException {
+        // Power of two with at most 50% load keeps probe chains short
+        int slots = Integer.highestOneBit(Math.max(16, expectedEntries * 2 - 1)) << 1;
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) slots * SLOT_BYTES);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, FORMAT_VERSION);
+        buffer.putLong(8, eventId);
+        buffer.putInt(16, slots);
+        return new MappedRoster(eventId, path, channel, buffer, slots);
+    }
+
+    /**
+     * Reopen a roster file left by a previous process
+     */
+    public static MappedRoster open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        if (channel.size() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            channel.close();
+            throw new IOException("Not a roster file: " + path);
+        }
+
+        MappedRoster roster = new MappedRoster(buffer.getLong(8), path, channel, buffer, buffer.getInt(16));
+        for (int slot = 0; slot < roster.slots; slot++) {
+            if (roster.buffer.getLong(roster.offset(slot) + ATTENDANCE_ID) != EMPTY) {
+                roster.size++;
+            }
+        }
+        return roster;
+    }
+
+    /**
+     * Insert or overwrite the entry of an attendance
+     * @return false if the table is full and the entry was not stored
+     */
+    public synchronized boolean put(Entry entry) {
+        int slot = find(entry.getAttendanceId());
+        if (slot < 0) {
+            if ((size + 1) * 2 > slots) {
+                return false;
+            }
+            slot = -slot - 1;
+            size++;
+        }
+
+        int base = offset(slot);
+        buffer.putLong(base + PARTICIPANT_ID, entry.getParticipantId());
+        buffer.putLong(base + REGISTRATION_MILLIS, orNone(entry.getRegistrationMillis()));
+        buffer.putLong(base + CHECK_IN_MILLIS, orNone(entry.getCheckInMillis()));
+        buffer.put(base + STATUS, encode(entry.getStatus()));
+        buffer.put(base + DIRTY, (byte) 0);
+        buffer.putLong(base + ATTENDANCE_ID, entry.getAttendanceId());
+        return true;
+    }
+
+    /**
+     * Look up the entry of an attendance
+     * @return the entry, or null if the attendance is not on this roster
+     */
+    public synchronized Entry get(long attendanceId) {
+        int slot = find(attendanceId);
+        return slot < 0 ? null : read(slot);
+    }
+
+    /**
+     * Same rule as the domain service: everything but checked-in, cancelled and waitlisted attendances
+     */
+    public static boolean isCheckInAllowed(AttendanceStatus status) {
+        return status == AttendanceStatus.REGISTERED || status == AttendanceStatus.NO_SHOW;
+    }
+
+    /**
+     * Mark a registered attendance as checked in
+     * @return the entry as it was before the check-in, or null if the attendance is not on this roster
+     */
+    public synchronized Entry checkIn(long attendanceId, long checkInMillis) {
+        int slot = find(attendanceId);
+        if (slot < 0) {
+            return null;
+        }
+
+        Entry previous = read(slot);
+        if (isCheckInAllowed(previous.getStatus())) {
+            int base = offset(slot);
+            buffer.putLong(base + CHECK_IN_MILLIS, checkInMillis);
+            buffer.put(base + STATUS, encode(AttendanceStatus.CHECKED_IN));
+            buffer.put(base + DIRTY, (byte) 1);
+        }
+        return previous;
+    }
+
+    /**
+     * Collect check-ins not yet written to the database
+     */
+    public synchronized List<Entry> dirtyEntries() {
+        List<Entry> dirty = new ArrayList<>();
+        for (int slot = 0; slot < slots; slot++) {
+            int base = offset(slot);
+            if (buffer.getLong(base + ATTENDANCE_ID) != EMPTY && buffer.get(base + DIRTY) != 0) {
+                dirty.add(read(slot));
+            }
+        }
+        return dirty;
+    }
+
+    /**
+     * Clear the pending flag of a flushed check-in
+     */
+    public synchronized void markFlushed(long attendanceId) {
+        int slot = find(attendanceId);
+        if (slot >= 0) {
+            buffer.put(offset(slot) + DIRTY, (byte) 0);
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Write modified pages through to the file
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * Unmap and remove the roster file
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        Files.deleteIfExists(path);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel.isOpen()) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    /**
+     * Linear probing over a power-of-two table
+     * @return the slot holding the ID, or (-insertionSlot - 1) if absent
+     */
+    private int find(long attendanceId) {
+        int mask = slots - 1;
+        int slot = Long.hashCode(attendanceId * 0x9E3779B97F4A7C15L) & mask;
+        while (true) {
+            long stored = buffer.getLong(offset(slot) + ATTENDANCE_ID);
+            if (stored == attendanceId) {
+                return slot;
+            }
+            if (stored == EMPTY) {
+                return -slot - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private Entry read(int slot) {
+        int base = offset(slot);
+        return new Entry(
+                buffer.getLong(base + ATTENDANCE_ID),
+                buffer.getLong(base + PARTICIPANT_ID),
+                orNull(buffer.getLong(base + REGISTRATION_MILLIS)),
+                orNull(buffer.getLong(base + CHECK_IN_MILLIS)),
+                decode(buffer.get(base + STATUS)));
+    }
+
+    private int offset(int slot) {
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private static long orNone(Long value) {
+        return value != null ? value : NONE;
+    }
+
+    private static Long orNull(long value) {
+        return value != NONE ? value : null;
+    }
+
+    // Explicit codes keep existing files readable if the enum is reordered
+    private static byte encode(AttendanceStatus status) {
+        return switch (status) {
+            case REGISTERED -> 1;
+            case CHECKED_IN -> 2;
+            case CANCELLED -> 3;
+            case NO_SHOW -> 4;
+            case WAITLISTED -> 5;
+        };
+    }
+
+    private static AttendanceStatus decode(byte code) {
+        return switch (code) {
+            case 1 -> AttendanceStatus.REGISTERED;
+            case 2 -> AttendanceStatus.CHECKED_IN;
+            case 3 -> AttendanceStatus.CANCELLED;
+            case 4 -> AttendanceStatus.NO_SHOW;
+            case 5 -> AttendanceStatus.WAITLISTED;
+            default -> throw new IllegalStateException("Unknown roster status code: " + code);
+        };
+    }
+
+    /**
+     * One attendance on the roster
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final long attendanceId;
+        private final long participantId;
+        private final Long registrationMillis;
+        private final Long checkInMillis;
+        private final AttendanceStatus status;
+    }
+}
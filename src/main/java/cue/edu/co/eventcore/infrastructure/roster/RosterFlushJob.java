@@ -0,0 +1,29 @@
+package cue.edu.co.eventcore.infrastructure.roster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically writes roster check-ins back to the attendances table
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.roster.flush-enabled", havingValue = "true", matchIfMissing = true)
+public class RosterFlushJob {
+
+    private final RosterService rosterService;
+
+    @Scheduled(fixedDelayString = "${eventcore.roster.flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            rosterService.flushAll();
+        } catch (Exception e) {
+            // Pending check-ins stay flagged in the roster file and are retried on the next tick
+            log.error("Error flushing roster check-ins", e);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package cue.edu.co.eventcore.infrastructure.roster;
+
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.application.dtos.roster.RosterStatusDto;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.events.DomainEvent;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for event-day check-in rosters
+ * Loads the attendances of an event into a memory-mapped roster so door scans are validated
+ * and applied without touching the database; check-ins are written back in batches.
+ * A roster lives on the node that loaded it and only sees that node's registrations and
+ * cancellations, so check-in traffic for a rostered event must be pinned to that node.
+ * Writes that reach the attendance on another node are caught by the guarded flush UPDATE,
+ * and the roster then adopts the database state
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RosterService {
+
+    private static final String FILE_PREFIX = "roster-";
+    private static final String FILE_SUFFIX = ".dat";
+
+    private static final String FLUSH_SQL = "UPDATE attendances SET status = 'CHECKED_IN', check_in_date = ?, "
+            + "updated_at = ?, version = version + 1 WHERE event_id = ? AND id = ? AND status IN ('REGISTERED', 'NO_SHOW')";
+
+    private static final String CURRENT_STATE_SQL = "SELECT participant_id, status, registration_date, check_in_date "
+            + "FROM attendances WHERE event_id = ? AND id = ?";
+
+    private final AttendanceJpaRepository attendanceJpaRepository;
+    private final EventRepository eventRepository;
+    private final ResourceVersionRepository resourceVersionRepository;
+    private final AttendanceMembershipRepository attendanceMembershipRepository;
+    private final EventViewRepository eventViewRepository;
+    private final CacheService cacheService;
+    private final OutboxRepository outboxRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Map<Long, MappedRoster> rosters = new ConcurrentHashMap<>();
+
+    @Value("${eventcore.roster.directory:data/roster}")
+    private String directory;
+
+    @Value("${eventcore.roster.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    /**
+     * Reopen rosters left by a previous process, including check-ins it had not flushed yet
+     */
+    @PostConstruct
+    public void restore() {
+        Path dir = Paths.get(directory);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    MappedRoster roster = MappedRoster.open(file);
+                    rosters.put(roster.getEventId(), roster);
+                    log.info("Restored roster of event {} with {} entries", roster.getEventId(), roster.size());
+                } catch (IOException e) {
+                    log.error("Error restoring roster file {}", file, e);
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error scanning roster directory {}", dir, e);
+        }
+    }
+
+    /**
+     * Load the attendances of an event into a fresh roster, replacing any previous one
+     * @param eventId the event ID
+     * @return the roster status
+     */
+    public RosterStatusDto load(Long eventId) {
+        Integer capacity = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event", eventId))
+                .getCapacity();
+
+        unload(eventId);
+
+        List<AttendanceResponseDto> attendances = attendanceJpaRepository.findResponsesByEventId(eventId);
+        try {
+            Files.createDirectories(Paths.get(directory));
+            // Headroom for registrations arriving while the roster is loaded
+            MappedRoster roster = MappedRoster.create(file(eventId), eventId, attendances.size() + capacity);
+            for (AttendanceResponseDto attendance : attendances) {
+                roster.put(new MappedRoster.Entry(
+                        attendance.getId(),
+                        attendance.getParticipantId(),
+                        toMillis(attendance.getRegistrationDate()),
+                        toMillis(attendance.getCheckInDate()),
+                        attendance.getStatus()));
+            }
+            roster.force();
+            rosters.put(eventId, roster);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error creating roster for event " + eventId, e);
+        }
+
+        log.info("Loaded roster of event {} with {} attendances", eventId, attendances.size());
+        return getStatus(eventId);
+    }
+
+    /**
+     * Flush pending check-ins of an event and drop its roster
+     * @param eventId the event ID
+     */
+    public void unload(Long eventId) {
+        MappedRoster roster = rosters.get(eventId);
+        if (roster == null) {
+            return;
+        }
+
+        // A failed flush keeps the roster loaded with its pending check-ins
+        flush(roster);
+        rosters.remove(eventId);
+        try {
+            roster.delete();
+        } catch (IOException e) {
+            log.error("Error deleting roster file of event {}", eventId, e);
+        }
+        log.info("Unloaded roster of event {}", eventId);
+    }
+
+    /**
+     * Get the status of the roster of an event
+     * @param eventId the event ID
+     * @return the roster status
+     */
+    public RosterStatusDto getStatus(Long eventId) {
+        MappedRoster roster = rosters.get(eventId);
+        if (roster == null) {
+            throw new ResourceNotFoundException("Roster for event " + eventId + " is not loaded");
+        }
+
+        return RosterStatusDto.builder()
+                .eventId(eventId)
+                .entries(roster.size())
+                .pendingCheckIns(roster.dirtyEntries().size())
+                .build();
+    }
+
+    /**
+     * Check in an attendance held by a loaded roster
+     * @param attendanceId the attendance ID
+     * @return the checked-in attendance, or empty if the database has to decide
+     */
+    public Optional<Attendance> checkIn(Long attendanceId) {
+        long now = System.currentTimeMillis();
+        for (MappedRoster roster : rosters.values()) {
+            MappedRoster.Entry previous = roster.checkIn(attendanceId, now);
+            if (previous == null) {
+                continue;
+            }
+
+            switch (previous.getStatus()) {
+                case CHECKED_IN -> throw new BusinessRuleException("Participant has already checked in");
+                case CANCELLED -> throw new BusinessRuleException("Cannot check in a cancelled attendance");
+                case WAITLISTED -> {
+                    // May have been promoted by a cancellation since loading; the database decides
+                    return Optional.empty();
+                }
+                default -> {
+                    // REGISTERED and NO_SHOW were checked in by the roster
+                }
+            }
+
+            return Optional.of(Attendance.builder()
+                    .id(attendanceId)
+                    .eventId(roster.getEventId())
+                    .participantId(previous.getParticipantId())
+                    .status(AttendanceStatus.CHECKED_IN)
+                    .registrationDate(toDateTime(previous.getRegistrationMillis()))
+                    .checkInDate(toDateTime(now))
+                    .build());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Mirror a registration or cancellation into the roster of its event, if loaded
+     * @param attendance the attendance as persisted
+     */
+    public void record(Attendance attendance) {
+        MappedRoster roster = rosters.get(attendance.getEventId());
+        if (roster == null) {
+            return;
+        }
+
+        boolean stored = roster.put(new MappedRoster.Entry(
+                attendance.getId(),
+                attendance.getParticipantId(),
+                toMillis(attendance.getRegistrationDate()),
+                toMillis(attendance.getCheckInDate()),
+                attendance.getStatus()));
+        if (!stored) {
+            // Not on the roster means check-ins for it take the database path
+            log.warn("Roster of event {} is full, attendance {} not added", attendance.getEventId(), attendance.getId());
+        }
+    }
+
+    /**
+     * Write pending check-ins of every loaded roster to the database
+     * @return number of check-ins flushed
+     */
+    public int flushAll() {
+        int flushed = 0;
+        for (MappedRoster roster : rosters.values()) {
+            flushed += flush(roster);
+        }
+        return flushed;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushAll();
+        for (MappedRoster roster : rosters.values()) {
+            try {
+                roster.close();
+            } catch (IOException e) {
+                log.error("Error closing roster of event {}", roster.getEventId(), e);
+            }
+        }
+    }
+
+    private int flush(MappedRoster roster) {
+        List<MappedRoster.Entry> pending = roster.dirtyEntries();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // Check-ins and their outbox events commit together, as they do on the AttendanceService path
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<MappedRoster.Entry> applied = new ArrayList<>(pending.size());
+        List<MappedRoster.Entry> rejected = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            int[][] counts = jdbcTemplate.batchUpdate(FLUSH_SQL, pending, flushBatchSize, (ps, entry) -> {
+                ps.setTimestamp(1, Timestamp.valueOf(toDateTime(entry.getCheckInMillis())));
+                ps.setTimestamp(2, now);
+                ps.setLong(3, roster.getEventId());
+                ps.setLong(4, entry.getAttendanceId());
+            });
+            int index = 0;
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    // SUCCESS_NO_INFO cannot be told apart from a match, so it counts as applied
+                    if (count == 0) {
+                        rejected.add(pending.get(index++));
+                    } else {
+                        applied.add(pending.get(index++));
+                    }
+                }
+            }
+            for (MappedRoster.Entry entry : applied) {
+                outboxRepository.append(DomainEvent.of(DomainEventType.ATTENDANCE_CHECKED_IN, checkedIn(roster, entry)));
+            }
+        });
+
+        for (MappedRoster.Entry entry : applied) {
+            roster.markFlushed(entry.getAttendanceId());
+            attendanceMembershipRepository.record(checkedIn(roster, entry));
+            resourceVersionRepository.increment(ResourceVersionRepository.participantAttendances(entry.getParticipantId()));
+        }
+        reconcile(roster, rejected);
+        roster.force();
+
+        resourceVersionRepository.increment(ResourceVersionRepository.eventStatistics(roster.getEventId()));
+        cacheService.delete(CacheService.eventStatsKey(roster.getEventId()));
+        eventViewRepository.evict(roster.getEventId());
+
+        log.debug("Flushed {} check-ins of event {}", applied.size(), roster.getEventId());
+        return applied.size();
+    }
+
+    /**
+     * Replace check-ins the guarded UPDATE refused with the attendance as the database holds it
+     * The attendance was cancelled, checked in elsewhere or removed after the roster loaded;
+     * retrying would fail the same way, so the roster adopts the database state and clears the flag
+     */
+    private void reconcile(MappedRoster roster, List<MappedRoster.Entry> rejected) {
+        for (MappedRoster.Entry entry : rejected) {
+            MappedRoster.Entry current = jdbcTemplate.query(CURRENT_STATE_SQL, (rs, rowNum) -> new MappedRoster.Entry(
+                            entry.getAttendanceId(),
+                            rs.getLong("participant_id"),
+                            toMillis(rs.getObject("registration_date", LocalDateTime.class)),
+                            toMillis(rs.getObject("check_in_date", LocalDateTime.class)),
+                            AttendanceStatus.valueOf(rs.getString("status"))),
+                    roster.getEventId(), entry.getAttendanceId()).stream()
+                    .findFirst()
+                    .orElseGet(() -> new MappedRoster.Entry(entry.getAttendanceId(), entry.getParticipantId(),
+                            entry.getRegistrationMillis(), null, AttendanceStatus.CANCELLED));
+            roster.put(current);
+            log.warn("Roster check-in of attendance {} (event {}) was not applied; the database has it as {}",
+                    entry.getAttendanceId(), roster.getEventId(), current.getStatus());
+        }
+    }
+
+    private static Attendance checkedIn(MappedRoster roster, MappedRoster.Entry entry) {
+        return Attendance.builder()
+                .id(entry.getAttendanceId())
+                .eventId(roster.getEventId())
+                .participantId(entry.getParticipantId())
+                .status(AttendanceStatus.CHECKED_IN)
+                .registrationDate(toDateTime(entry.getRegistrationMillis()))
+                .checkInDate(toDateTime(entry.getCheckInMillis()))
+                .build();
+    }
+
+    private Path file(Long eventId) {
+        return Paths.get(directory, FILE_PREFIX + eventId + FILE_SUFFIX);
+    }
+
+    private static Long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : null;
+    }
+
+    private static LocalDateTime toDateTime(Long millis) {
+        return millis != null ? LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault()) : null;
+    }
+}
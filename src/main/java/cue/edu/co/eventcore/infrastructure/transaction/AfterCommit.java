@@ -0,0 +1,43 @@
+package cue.edu.co.eventcore.infrastructure.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects on caches, indexes and Redis until the surrounding transaction commits
+ * A rolled-back write never leaves a trace, and a failing side effect is logged instead of
+ * thrown: the database write already committed, so the caller must not see an error for it
+ */
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run an action after the current transaction commits, or right away outside a transaction
+     * @param description what the action does, for the log if it fails
+     * @param action the side effect
+     */
+    public static void run(String description, Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runSafely(description, action);
+                }
+            });
+        } else {
+            runSafely(description, action);
+        }
+    }
+
+    private static void runSafely(String description, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.error("Error after commit: {}", description, e);
+        }
+    }
+}
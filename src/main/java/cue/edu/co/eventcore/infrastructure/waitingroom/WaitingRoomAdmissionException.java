@@ -0,0 +1,12 @@
+package cue.edu.co.eventcore.infrastructure.waitingroom;
+
+/**
+ * Exception thrown when a registration arrives for a waiting-room event without a valid admission
+ */
+public class WaitingRoomAdmissionException extends RuntimeException {
+
+    public WaitingRoomAdmissionException(Long eventId, Long participantId) {
+        super(String.format("Participant %d has not been admitted from the waiting room of event %d yet",
+                participantId, eventId));
+    }
+}
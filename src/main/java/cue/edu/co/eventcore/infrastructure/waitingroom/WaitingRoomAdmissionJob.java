@@ -0,0 +1,28 @@
+package cue.edu.co.eventcore.infrastructure.waitingroom;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically admits queued participants from every enabled waiting room
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "eventcore.waiting-room.admission-enabled", havingValue = "true", matchIfMissing = true)
+public class WaitingRoomAdmissionJob {
+
+    private final WaitingRoomService waitingRoomService;
+
+    @Scheduled(fixedDelayString = "${eventcore.waiting-room.admission-interval-ms:250}")
+    public void admit() {
+        try {
+            waitingRoomService.admitAll();
+        } catch (Exception e) {
+            log.error("Error admitting participants from waiting rooms", e);
+        }
+    }
+}
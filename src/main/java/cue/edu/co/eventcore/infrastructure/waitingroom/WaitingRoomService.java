@@ -0,0 +1,218 @@
+package cue.edu.co.eventcore.infrastructure.waitingroom;
+
+import cue.edu.co.eventcore.application.dtos.waitingroom.WaitingRoomStatusDto;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Virtual waiting room for high-demand events, kept in Redis
+ * Arrivals are queued in a sorted set by arrival order and admitted to registration
+ * at the configured rate, so the database sees a bounded, first-come-first-served load
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitingRoomService {
+
+    private static final String ENABLED_EVENTS_KEY = "waitingroom:events";
+
+    // Moves up to the accrued admission budget from the head of the queue to the admitted set.
+    // The budget accrues from elapsed server time, so any number of nodes may run it without exceeding the rate
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+            local rate = tonumber(redis.call('HGET', KEYS[3], 'rate'))
+            if not rate then
+                return 0
+            end
+            local window = tonumber(redis.call('HGET', KEYS[3], 'window_ms'))
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local last = tonumber(redis.call('HGET', KEYS[3], 'last_tick')) or now
+            local budget = tonumber(redis.call('HGET', KEYS[3], 'budget')) or 0
+            budget = math.min(rate, budget + math.max(0, now - last) * rate / 1000)
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+            local admitted = 0
+            local count = math.floor(budget)
+            if count > 0 then
+                local heads = redis.call('ZRANGE', KEYS[1], 0, count - 1)
+                for _, member in ipairs(heads) do
+                    redis.call('ZADD', KEYS[2], now + window, member)
+                end
+                if #heads > 0 then
+                    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, #heads - 1)
+                end
+                admitted = #heads
+                budget = budget - admitted
+            end
+            redis.call('HSET', KEYS[3], 'last_tick', tostring(now), 'budget', tostring(budget))
+            return admitted
+            """, Long.class);
+
+    // Returns the admission expiry of a member, or -1 when it has none or it has passed.
+    // Compared against the Redis clock, the same one ADMIT_SCRIPT stamps expiries with, so node clock skew does not matter
+    private static final RedisScript<Long> ADMITTED_UNTIL_SCRIPT = new DefaultRedisScript<>("""
+            local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+            if not score then
+                return -1
+            end
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            if tonumber(score) < now then
+                return -1
+            end
+            return tonumber(score)
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Enable the waiting room for an event
+     * @param eventId the event ID
+     * @param admissionsPerSecond how many queued participants are admitted per second
+     * @param admissionWindowSeconds how long an admission stays valid for registering
+     */
+    public void enable(Long eventId, int admissionsPerSecond, int admissionWindowSeconds) {
+        redisTemplate.opsForHash().putAll(configKey(eventId), Map.of(
+                "rate", String.valueOf(admissionsPerSecond),
+                "window_ms", String.valueOf(admissionWindowSeconds * 1000L)));
+        redisTemplate.opsForSet().add(ENABLED_EVENTS_KEY, String.valueOf(eventId));
+        log.info("Waiting room enabled for event {} at {} admissions/s", eventId, admissionsPerSecond);
+    }
+
+    /**
+     * Disable the waiting room for an event and drop its queue
+     * @param eventId the event ID
+     */
+    public void disable(Long eventId) {
+        redisTemplate.opsForSet().remove(ENABLED_EVENTS_KEY, String.valueOf(eventId));
+        redisTemplate.delete(List.of(configKey(eventId), queueKey(eventId), admittedKey(eventId), sequenceKey(eventId)));
+        log.info("Waiting room disabled for event {}", eventId);
+    }
+
+    /**
+     * Check if the waiting room is enabled for an event
+     * @param eventId the event ID
+     * @return true if registrations for the event must go through the waiting room
+     */
+    public boolean isEnabled(Long eventId) {
+        Boolean enabled = redisTemplate.hasKey(configKey(eventId));
+        return enabled != null && enabled;
+    }
+
+    /**
+     * Place a participant in the queue, keeping the original position on repeated joins
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @return the current status of the participant
+     */
+    public WaitingRoomStatusDto join(Long eventId, Long participantId) {
+        if (!isEnabled(eventId)) {
+            throw new BusinessRuleException("Waiting room is not enabled for this event");
+        }
+
+        String member = String.valueOf(participantId);
+        if (admittedUntil(eventId, member) == null) {
+            Long sequence = redisTemplate.opsForValue().increment(sequenceKey(eventId));
+            redisTemplate.opsForZSet().addIfAbsent(queueKey(eventId), member, sequence != null ? sequence : 0);
+        }
+        return getStatus(eventId, participantId);
+    }
+
+    /**
+     * Get the position of a participant, a cheap lookup meant for client polling
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @return the current status of the participant
+     */
+    public WaitingRoomStatusDto getStatus(Long eventId, Long participantId) {
+        String member = String.valueOf(participantId);
+        WaitingRoomStatusDto.WaitingRoomStatusDtoBuilder status = WaitingRoomStatusDto.builder()
+                .eventId(eventId)
+                .participantId(participantId);
+
+        Long admittedUntil = admittedUntil(eventId, member);
+        if (admittedUntil != null) {
+            return status.state(WaitingRoomStatusDto.State.ADMITTED)
+                    .admittedUntil(LocalDateTime.ofInstant(Instant.ofEpochMilli(admittedUntil), ZoneOffset.UTC))
+                    .build();
+        }
+
+        Long rank = redisTemplate.opsForZSet().rank(queueKey(eventId), member);
+        if (rank == null) {
+            return status.state(WaitingRoomStatusDto.State.NOT_QUEUED).build();
+        }
+
+        Object rate = redisTemplate.opsForHash().get(configKey(eventId), "rate");
+        long admissionsPerSecond = rate != null ? Long.parseLong(rate.toString()) : 1L;
+        return status.state(WaitingRoomStatusDto.State.QUEUED)
+                .position(rank + 1)
+                .estimatedWaitSeconds((rank + admissionsPerSecond) / admissionsPerSecond)
+                .build();
+    }
+
+    /**
+     * Reject a registration that bypasses an enabled waiting room
+     * @param eventId the event ID
+     * @param participantId the participant ID
+     * @throws WaitingRoomAdmissionException if the waiting room is enabled and the participant holds no valid admission
+     */
+    public void requireAdmission(Long eventId, Long participantId) {
+        if (isEnabled(eventId) && admittedUntil(eventId, String.valueOf(participantId)) == null) {
+            throw new WaitingRoomAdmissionException(eventId, participantId);
+        }
+    }
+
+    /**
+     * Admit the next batch of every enabled waiting room
+     * @return number of participants admitted
+     */
+    public long admitAll() {
+        Set<String> eventIds = redisTemplate.opsForSet().members(ENABLED_EVENTS_KEY);
+        if (eventIds == null) {
+            return 0;
+        }
+
+        long total = 0;
+        for (String eventId : eventIds) {
+            Long id = Long.valueOf(eventId);
+            Long admitted = redisTemplate.execute(ADMIT_SCRIPT, List.of(queueKey(id), admittedKey(id), configKey(id)));
+            if (admitted != null && admitted > 0) {
+                log.debug("Admitted {} participants from waiting room of event {}", admitted, id);
+                total += admitted;
+            }
+        }
+        return total;
+    }
+
+    private Long admittedUntil(Long eventId, String member) {
+        Long until = redisTemplate.execute(ADMITTED_UNTIL_SCRIPT, List.of(admittedKey(eventId)), member);
+        return until != null && until >= 0 ? until : null;
+    }
+
+    private static String configKey(Long eventId) {
+        return "waitingroom:" + eventId + ":config";
+    }
+
+    private static String queueKey(Long eventId) {
+        return "waitingroom:" + eventId + ":queue";
+    }
+
+    private static String admittedKey(Long eventId) {
+        return "waitingroom:" + eventId + ":admitted";
+    }
+
+    private static String sequenceKey(Long eventId) {
+        return "waitingroom:" + eventId + ":seq";
+    }
+}
@@ -0,0 +1,51 @@
+-- Baseline: the schema previously created by hibernate ddl-auto=update
+-- Statements are idempotent so databases created before Flyway adopt it unchanged
+
+CREATE TABLE IF NOT EXISTS events (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name              VARCHAR(200) NOT NULL,
+    description       TEXT,
+    location          VARCHAR(200),
+    start_date        TIMESTAMP(6) NOT NULL,
+    end_date          TIMESTAMP(6) NOT NULL,
+    capacity          INTEGER      NOT NULL,
+    current_attendees INTEGER      NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS participants (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name      VARCHAR(100) NOT NULL,
+    last_name       VARCHAR(100) NOT NULL,
+    email           VARCHAR(150) NOT NULL,
+    phone           VARCHAR(20),
+    document_number VARCHAR(50)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6),
+    version         BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_email ON participants (email);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_document_number ON participants (document_number);
+
+CREATE TABLE IF NOT EXISTS attendances (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_id          BIGINT       NOT NULL,
+    participant_id    BIGINT       NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    registration_date TIMESTAMP(6) NOT NULL,
+    check_in_date     TIMESTAMP(6),
+    notes             TEXT,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT DEFAULT 0 NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_event_participant ON attendances (event_id, participant_id);
+CREATE INDEX IF NOT EXISTS idx_event_id ON attendances (event_id);
+CREATE INDEX IF NOT EXISTS idx_participant_id ON attendances (participant_id);
+CREATE INDEX IF NOT EXISTS idx_event_status_registration ON attendances (event_id, status, registration_date);
@@ -0,0 +1,27 @@
+-- Built CONCURRENTLY so registrations keep writing while the indexes build; this script
+-- therefore runs outside a transaction (see the .conf file next to it).
+-- A failed concurrent build leaves an INVALID index behind that IF NOT EXISTS would keep,
+-- so each index is dropped first and the script can simply be re-run after a failure.
+
+-- Attendance counts, waitlist head and queue position are all answered from this index alone:
+-- (event_id, status) filters, (registration_date, id) orders, participant_id is carried along
+DROP INDEX CONCURRENTLY IF EXISTS idx_attendances_event_status;
+CREATE INDEX CONCURRENTLY idx_attendances_event_status
+    ON attendances (event_id, status, registration_date, id) INCLUDE (participant_id);
+
+-- Superseded: the covering index above has the same leading columns,
+-- and idx_event_participant already serves lookups by event_id alone
+DROP INDEX CONCURRENTLY IF EXISTS idx_event_status_registration;
+DROP INDEX CONCURRENTLY IF EXISTS idx_event_id;
+
+-- Status filters and calendar range scans
+DROP INDEX CONCURRENTLY IF EXISTS idx_events_status_start_date;
+CREATE INDEX CONCURRENTLY idx_events_status_start_date ON events (status, start_date);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_events_start_date;
+CREATE INDEX CONCURRENTLY idx_events_start_date ON events (start_date);
+
+-- Upcoming listings only ever read ACTIVE events; now() is not immutable, so the
+-- "upcoming" half of the condition stays in the query and the index is ordered by start_date
+DROP INDEX CONCURRENTLY IF EXISTS idx_events_active_upcoming;
+CREATE INDEX CONCURRENTLY idx_events_active_upcoming ON events (start_date) WHERE status = 'ACTIVE';
@@ -0,0 +1,62 @@
+-- Range-partition attendances by event_id in blocks of 1000 events
+-- (eventcore.attendance-partitions.events-per-partition must match).
+-- Event ids grow with creation time, so recent events share the newest small partitions
+-- and old blocks can be detached whole. Every attendance lookup filters on event_id,
+-- so the planner prunes to a single partition.
+-- Rewrites the whole table: run during a maintenance window on large installations.
+
+ALTER TABLE attendances RENAME TO attendances_unpartitioned;
+
+-- Unique constraints on a partitioned table must contain the partition key
+CREATE TABLE attendances (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_id          BIGINT       NOT NULL,
+    participant_id    BIGINT       NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    registration_date TIMESTAMP(6) NOT NULL,
+    check_in_date     TIMESTAMP(6),
+    notes             TEXT,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    version           BIGINT DEFAULT 0 NOT NULL,
+    PRIMARY KEY (event_id, id)
+) PARTITION BY RANGE (event_id);
+
+-- Catches rows outside every range; the maintenance job creates ranges ahead so it stays empty
+CREATE TABLE attendances_default PARTITION OF attendances DEFAULT WITH (fillfactor = 85);
+
+DO $$
+DECLARE
+    width CONSTANT BIGINT := 1000;
+    upper_id BIGINT;
+    lower_bound BIGINT := 0;
+BEGIN
+    SELECT COALESCE(MAX(id), 0) + 2 * width INTO upper_id FROM events;
+    WHILE lower_bound <= upper_id LOOP
+        EXECUTE format('CREATE TABLE attendances_p%s PARTITION OF attendances '
+                       'FOR VALUES FROM (%s) TO (%s) WITH (fillfactor = 85)',
+                       lower_bound, lower_bound, lower_bound + width);
+        lower_bound := lower_bound + width;
+    END LOOP;
+END $$;
+
+INSERT INTO attendances (id, event_id, participant_id, status, registration_date, check_in_date,
+                         notes, created_at, updated_at, version)
+SELECT id, event_id, participant_id, status, registration_date, check_in_date,
+       notes, created_at, updated_at, version
+FROM attendances_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('attendances', 'id'), COALESCE(MAX(id), 0) + 1, false)
+FROM attendances;
+
+DROP TABLE attendances_unpartitioned;
+
+-- Indexes on the parent are created on every current and future partition
+CREATE UNIQUE INDEX idx_event_participant ON attendances (event_id, participant_id);
+CREATE INDEX idx_participant_id ON attendances (participant_id);
+CREATE INDEX idx_attendances_event_status
+    ON attendances (event_id, status, registration_date, id) INCLUDE (participant_id);
+-- Lookups by attendance id alone cannot prune, so each partition needs a probe index
+CREATE INDEX idx_attendances_id ON attendances (id);
+
+ANALYZE attendances;
@@ -0,0 +1,13 @@
+-- Transactional outbox: rows are written with the change that caused them and deleted
+-- by the relay once published, so the table only ever holds the undelivered backlog
+CREATE TABLE outbox_events (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    event_type     VARCHAR(50)  NOT NULL,
+    aggregate_type VARCHAR(50)  NOT NULL,
+    aggregate_id   BIGINT,
+    payload        TEXT         NOT NULL,
+    occurred_at    TIMESTAMP(6) NOT NULL
+);
+
+-- Constant churn: vacuum as soon as a modest share of rows is dead
+ALTER TABLE outbox_events SET (autovacuum_vacuum_scale_factor = 0.01, autovacuum_vacuum_threshold = 1000);
@@ -0,0 +1,6 @@
+-- In-process listeners run after the claiming transaction commits, so a claimed row is leased
+-- until available_at instead of being deleted; a failed delivery pushes available_at out again.
+-- streamed keeps a retried row from being appended to the Redis Stream a second time
+ALTER TABLE outbox_events ADD COLUMN streamed BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE outbox_events ADD COLUMN attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE outbox_events ADD COLUMN available_at TIMESTAMP(6);
@@ -0,0 +1,27 @@
+-- Corrects V4: lookups by attendance id or by participant carry no event_id, so they probed
+-- every partition (findById, findByParticipantId, existsByParticipantId, the participant
+-- attendance list and history), and idx_attendances_id could not make ids unique across partitions.
+-- attendance_keys maps each attendance id to its event and participant in one unpartitioned table.
+-- Its primary key enforces unique ids; id and participant lookups read it first and then query
+-- attendances with event_id, which prunes to the partitions that hold the rows.
+-- Rows are written and removed by the application in the same transaction as the attendance.
+
+CREATE TABLE attendance_keys (
+    id             BIGINT PRIMARY KEY,
+    event_id       BIGINT NOT NULL,
+    participant_id BIGINT NOT NULL
+);
+
+INSERT INTO attendance_keys (id, event_id, participant_id)
+SELECT id, event_id, participant_id
+FROM attendances;
+
+CREATE INDEX idx_attendance_keys_participant ON attendance_keys (participant_id, event_id);
+-- Event deletes and partition detaches remove keys by event range
+CREATE INDEX idx_attendance_keys_event ON attendance_keys (event_id);
+
+-- Every attendance query now carries event_id, so these per-partition indexes only cost writes
+DROP INDEX IF EXISTS idx_attendances_id;
+DROP INDEX IF EXISTS idx_participant_id;
+
+ANALYZE attendance_keys;
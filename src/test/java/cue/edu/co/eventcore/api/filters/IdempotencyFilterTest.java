@@ -0,0 +1,219 @@
+package cue.edu.co.eventcore.api.filters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import cue.edu.co.eventcore.infrastructure.cache.IdempotencyStore;
+import cue.edu.co.eventcore.infrastructure.cache.IdempotencyStore.IdempotentRecord;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyFilter Unit Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"name\":\"Ada\"}";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        filter = new IdempotencyFilter(idempotencyStore, objectMapper);
+        ReflectionTestUtils.setField(filter, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(filter, "lockTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(filter, "waitTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(filter, "maxBodySize", DataSize.ofBytes(64));
+    }
+
+    @Test
+    @DisplayName("Should execute the first request and store its response under a client-scoped key")
+    void shouldExecuteAndStoreUnderClientScopedKey() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenReturn(Optional.empty());
+        when(idempotencyStore.tryClaim(anyString(), anyString(), any())).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), response, created());
+
+        // Then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<IdempotentRecord> record = ArgumentCaptor.forClass(IdempotentRecord.class);
+        verify(idempotencyStore).complete(key.capture(), record.capture(), eq(Duration.ofHours(24)));
+        assertThat(key.getValue()).isEqualTo("idempotency:ip:10.0.0.1:POST:/api/participants:key-1");
+        assertThat(record.getValue().getHeaders()).containsExactly(Map.entry("Location", "/api/participants/1"));
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader("Location")).isEqualTo("/api/participants/1");
+    }
+
+    @Test
+    @DisplayName("Should keep the same key from two clients apart")
+    void shouldScopeKeysPerClient() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenReturn(Optional.empty());
+        when(idempotencyStore.tryClaim(anyString(), anyString(), any())).thenReturn(true);
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), new MockHttpServletResponse(), created());
+        filter.doFilter(request("10.0.0.2", BODY), new MockHttpServletResponse(), created());
+
+        // Then
+        verify(idempotencyStore).tryClaim(eq("idempotency:ip:10.0.0.1:POST:/api/participants:key-1"), anyString(), any());
+        verify(idempotencyStore).tryClaim(eq("idempotency:ip:10.0.0.2:POST:/api/participants:key-1"), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should replay a completed response without running the request again")
+    void shouldReplayCompletedResponse() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenReturn(Optional.of(IdempotentRecord.builder()
+                .completed(true)
+                .fingerprint(DigestUtils.md5DigestAsHex(BODY.getBytes(StandardCharsets.UTF_8)))
+                .status(201)
+                .contentType("application/json")
+                .headers(Map.of("Location", "/api/participants/1"))
+                .body("{\"id\":1}".getBytes(StandardCharsets.UTF_8))
+                .build()));
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), response, chain);
+
+        // Then
+        verifyNoInteractions(chain);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getHeader("Location")).isEqualTo("/api/participants/1");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    @DisplayName("Should reject a reused key with a different payload")
+    void shouldRejectReusedKeyWithDifferentPayload() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenReturn(Optional.of(IdempotentRecord.builder()
+                .completed(true)
+                .fingerprint("other")
+                .status(201)
+                .build()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), response, mock(FilterChain.class));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    @DisplayName("Should reject bodies larger than the buffer limit")
+    void shouldRejectOversizedBodies() throws Exception {
+        // Given
+        FilterChain chain = mock(FilterChain.class);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", "x".repeat(65)), response, chain);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(413);
+        verifyNoInteractions(chain, idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Should let streaming uploads through without buffering")
+    void shouldSkipStreamingUploads() throws Exception {
+        // Given
+        MockHttpServletRequest request = request("10.0.0.1", "email\n" + "a@example.com\n".repeat(10));
+        request.setContentType("text/csv");
+        FilterChain chain = mock(FilterChain.class);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Then
+        verify(chain).doFilter(eq(request), any());
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    @Test
+    @DisplayName("Should run the request without replay protection when Redis is unavailable")
+    void shouldFailOpenWhenStoreIsUnavailable() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), response, created());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        verify(idempotencyStore, never()).complete(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep a successful response when storing it fails")
+    void shouldKeepResponseWhenStoringFails() throws Exception {
+        // Given
+        when(idempotencyStore.get(anyString())).thenReturn(Optional.empty());
+        when(idempotencyStore.tryClaim(anyString(), anyString(), any())).thenReturn(true);
+        doThrow(new RedisConnectionFailureException("down")).when(idempotencyStore).complete(anyString(), any(), any());
+        doThrow(new RedisConnectionFailureException("down")).when(idempotencyStore).release(anyString());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request("10.0.0.1", BODY), response, created());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/participants");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "key-1");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static FilterChain created() {
+        return (request, response) -> {
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.setHeader("Location", "/api/participants/1");
+            http.getOutputStream().write("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package cue.edu.co.eventcore.api.interceptors;
+
+import cue.edu.co.eventcore.infrastructure.ratelimit.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitInterceptor Unit Tests")
+class RateLimitInterceptorTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    @InjectMocks
+    private RateLimitInterceptor interceptor;
+
+    private HandlerMethod limited;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        limited = new HandlerMethod(new Handler(), Handler.class.getMethod("register"));
+    }
+
+    @Test
+    @DisplayName("Should key on the remote address and ignore client-supplied headers")
+    void shouldIgnoreSpoofableHeaders() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/attendances");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Client-Id", "someone-else");
+        request.addHeader("X-Forwarded-For", "203.0.113.7");
+
+        // When
+        boolean proceed = interceptor.preHandle(request, new MockHttpServletResponse(), limited);
+
+        // Then
+        assertThat(proceed).isTrue();
+        verify(rateLimiter).acquire("attendance-register", "client:ip:10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Should key on the authenticated principal when there is one")
+    void shouldPreferAuthenticatedPrincipal() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/attendances");
+        request.setRemoteAddr("10.0.0.1");
+        request.setUserPrincipal(() -> "alice");
+
+        // When
+        interceptor.preHandle(request, new MockHttpServletResponse(), limited);
+
+        // Then
+        verify(rateLimiter).acquire("attendance-register", "client:user:alice");
+    }
+
+    @Test
+    @DisplayName("Should leave methods without RateLimited alone")
+    void shouldSkipUnlimitedMethods() throws NoSuchMethodException {
+        // Given
+        HandlerMethod unlimited = new HandlerMethod(new Handler(), Handler.class.getMethod("list"));
+
+        // When
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/attendances"), new MockHttpServletResponse(), unlimited);
+
+        // Then
+        verifyNoInteractions(rateLimiter);
+    }
+
+    static class Handler {
+
+        @RateLimited("attendance-register")
+        public void register() {
+        }
+
+        public void list() {
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package cue.edu.co.eventcore.api.support;
+
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConditionalResponder Unit Tests")
+class ConditionalResponderTest {
+
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @InjectMocks
+    private ConditionalResponder conditionalResponder;
+
+    @Test
+    @DisplayName("Should answer 304 when the client tag matches the version")
+    void shouldAnswerNotModified() {
+        // Given
+        when(resourceVersionRepository.getVersion("events")).thenReturn(OptionalLong.of(255L));
+
+        // When
+        ResponseEntity<String> response = conditionalResponder.respond("events", "\"events-ff-all\"",
+                () -> "body", "all");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send the full response untagged when no version is available")
+    void shouldFailOpenWithoutVersion() {
+        // Given
+        when(resourceVersionRepository.getVersion("events")).thenReturn(OptionalLong.empty());
+
+        // When
+        ResponseEntity<String> response = conditionalResponder.respond("events", "\"events-ff-all\"",
+                () -> "body", "all");
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("body");
+        assertThat(response.getHeaders().getETag()).isNull();
+    }
+}
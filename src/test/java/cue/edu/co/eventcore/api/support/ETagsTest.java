@@ -0,0 +1,42 @@
+package cue.edu.co.eventcore.api.support;
+
+import cue.edu.co.eventcore.infrastructure.cache.ContentEncoding;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ETags Unit Tests")
+class ETagsTest {
+
+    @Test
+    @DisplayName("Should render distinct timestamps as distinct versions")
+    void shouldNotCollideAcrossSecondsAndNanos() {
+        // Given: unpadded hex would render both as "11"
+        LocalDateTime first = LocalDateTime.of(1970, 1, 1, 0, 0, 1, 1);
+        LocalDateTime second = LocalDateTime.of(1970, 1, 1, 0, 0, 0, 0x11);
+
+        // When
+        String firstVersion = ETags.version(first);
+        String secondVersion = ETags.version(second);
+
+        // Then
+        assertThat(firstVersion).isEqualTo("100000001");
+        assertThat(secondVersion).isEqualTo("000000011");
+        assertThat(firstVersion).isNotEqualTo(secondVersion);
+    }
+
+    @Test
+    @DisplayName("Should match encoded variants and weak tags against the identity tag")
+    void shouldMatchVariantsOfSameVersion() {
+        // Given
+        String etag = ETags.of("event", 1, ETags.version(LocalDateTime.of(2030, 1, 1, 0, 0)));
+
+        // When & Then
+        assertThat(ETags.matches(ETags.forEncoding(etag, ContentEncoding.GZIP), etag)).isTrue();
+        assertThat(ETags.matches("W/" + etag, etag)).isTrue();
+        assertThat(ETags.matches("\"event-1-0\"", etag)).isFalse();
+    }
+}
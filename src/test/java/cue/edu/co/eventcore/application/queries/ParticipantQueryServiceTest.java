@@ -0,0 +1,99 @@
+package cue.edu.co.eventcore.application.queries;
+
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantResponseDto;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.ParticipantJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.projection.SparseProjectionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticipantQueryService Unit Tests")
+class ParticipantQueryServiceTest {
+
+    @Mock
+    private ParticipantJpaRepository participantJpaRepository;
+
+    @Mock
+    private ParticipantSearchIndex participantSearchIndex;
+
+    @Mock
+    private SparseProjectionRepository sparseProjectionRepository;
+
+    @InjectMocks
+    private ParticipantQueryService participantQueryService;
+
+    @Test
+    @DisplayName("Should search the database by prefix while the index is not available")
+    void shouldFallBackToDatabaseSearch() {
+        // Given
+        when(participantSearchIndex.search(" Ana ", 10, 10)).thenReturn(Optional.empty());
+        when(participantJpaRepository.searchResponsesByPrefix("ana%", PageRequest.of(1, 10)))
+                .thenReturn(new PageImpl<>(List.of(participant(7L)), PageRequest.of(1, 10), 11));
+
+        // When
+        PageResponseDto<ParticipantResponseDto> result = participantQueryService.searchParticipants(" Ana ", 1, 10);
+
+        // Then
+        assertThat(result.getContent()).extracting(ParticipantResponseDto::getId).containsExactly(7L);
+        assertThat(result.getTotalElements()).isEqualTo(11L);
+        verify(participantJpaRepository, never()).findResponsesByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("Should keep the index ranking and drop participants deleted since indexing")
+    void shouldLoadRankedHits() {
+        // Given
+        when(participantSearchIndex.search("ana", 0, 10))
+                .thenReturn(Optional.of(new ParticipantSearchIndex.Hits(List.of(3L, 1L, 2L), 3)));
+        when(participantJpaRepository.findResponsesByIdIn(List.of(3L, 1L, 2L)))
+                .thenReturn(List.of(participant(1L), participant(3L)));
+
+        // When
+        PageResponseDto<ParticipantResponseDto> result = participantQueryService.searchParticipants("ana", 0, 10);
+
+        // Then
+        assertThat(result.getContent()).extracting(ParticipantResponseDto::getId).containsExactly(3L, 1L);
+        assertThat(result.getTotalElements()).isEqualTo(3L);
+        verify(participantJpaRepository, never()).searchResponsesByPrefix(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty page of hits")
+    void shouldSkipLoadForNoHits() {
+        // Given
+        when(participantSearchIndex.search("zzz", 0, 10))
+                .thenReturn(Optional.of(new ParticipantSearchIndex.Hits(List.of(), 0)));
+
+        // When
+        PageResponseDto<ParticipantResponseDto> result = participantQueryService.searchParticipants("zzz", 0, 10);
+
+        // Then
+        assertThat(result.getContent()).isEmpty();
+        verifyNoInteractions(participantJpaRepository);
+    }
+
+    private static ParticipantResponseDto participant(Long id) {
+        return ParticipantResponseDto.builder()
+                .id(id)
+                .firstName("Ana")
+                .lastName("Lopez")
+                .email("p" + id + "@mail.test")
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package cue.edu.co.eventcore.config;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Base class for tests that run the Flyway migrations against a real PostgreSQL
+ * The H2 test profile builds its schema from the entities, so only these tests exercise the migrations.
+ * The database is wiped before every test; each test migrates as far as it needs. Skipped when Docker is not available
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>(DockerImageName.parse("postgres:15"));
+
+    protected static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void connect() {
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+    }
+
+    @BeforeEach
+    void cleanDatabase() {
+        flyway(null).clean();
+    }
+
+    /**
+     * Flyway over the application migrations
+     * @param target last version to apply, or null for all of them
+     * @return the configured Flyway instance
+     */
+    protected static Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations("classpath:db/migration")
+                .cleanDisabled(false);
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+}
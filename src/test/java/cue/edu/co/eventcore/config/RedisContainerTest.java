@@ -0,0 +1,57 @@
+package cue.edu.co.eventcore.config;
+
+import cue.edu.co.eventcore.infrastructure.config.RedisConfig;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Base class for tests that need a real Redis for streams, Lua scripts and expirations
+ * Templates are built by RedisConfig like in production; the data set is flushed before every test.
+ * Skipped when Docker is not available
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7"))
+            .withExposedPorts(6379);
+
+    private static JedisConnectionFactory connectionFactory;
+
+    protected static RedisTemplate<String, String> redisTemplate;
+    protected static RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new JedisConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisConfig redisConfig = new RedisConfig();
+        redisTemplate = redisConfig.redisTemplate(connectionFactory);
+        binaryRedisTemplate = redisConfig.binaryRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flushRedis() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+}
@@ -1,6 +1,10 @@
 package cue.edu.co.eventcore.config;
 
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.domain.repositories.WaitlistRepository;
 import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.ResponseCacheService;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +13,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.Duration;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import static org.mockito.ArgumentMatchers.*;
 
@@ -43,4 +48,49 @@ public class TestConfig {
 
         return mock;
     }
+
+    @Bean
+    @Primary
+    public ResponseCacheService responseCacheService() {
+        ResponseCacheService mock = Mockito.mock(ResponseCacheService.class);
+
+        // Always miss so responses are served from the database
+        Mockito.when(mock.get(anyString(), any())).thenReturn(Optional.empty());
+        Mockito.when(mock.getETag(anyString())).thenReturn(Optional.empty());
+        Mockito.doNothing().when(mock).put(anyString(), anyMap(), any(), any(Duration.class));
+
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public ResourceVersionRepository resourceVersionRepository() {
+        ResourceVersionRepository mock = Mockito.mock(ResourceVersionRepository.class);
+
+        Mockito.when(mock.getVersion(anyString())).thenReturn(OptionalLong.of(0L));
+        Mockito.doNothing().when(mock).increment(anyString());
+
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public WaitlistRepository waitlistRepository() {
+        WaitlistRepository mock = Mockito.mock(WaitlistRepository.class);
+
+        Mockito.when(mock.findPosition(anyLong(), anyLong())).thenReturn(Optional.empty());
+
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public EventViewRepository eventViewRepository() {
+        EventViewRepository mock = Mockito.mock(EventViewRepository.class);
+
+        // Always miss so views are rebuilt from the database
+        Mockito.when(mock.findById(anyLong())).thenReturn(Optional.empty());
+
+        return mock;
+    }
 }
@@ -1,11 +1,16 @@
 package cue.edu.co.eventcore.domain.services;
 
 import cue.edu.co.eventcore.domain.entities.*;
-import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
 import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
 import cue.edu.co.eventcore.domain.repositories.ParticipantRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.domain.repositories.WaitlistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +42,21 @@ class AttendanceServiceTest {
     @Mock
     private ParticipantRepository participantRepository;
 
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private AttendanceMembershipRepository attendanceMembershipRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private EventViewRepository eventViewRepository;
+
     @InjectMocks
     private AttendanceService attendanceService;
 
@@ -79,7 +99,7 @@ class AttendanceServiceTest {
         // Given
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
         when(participantRepository.findById(1L)).thenReturn(Optional.of(testParticipant));
-        when(attendanceRepository.existsByEventIdAndParticipantId(1L, 1L)).thenReturn(false);
+        when(attendanceMembershipRepository.contains(1L, 1L)).thenReturn(false);
         when(attendanceRepository.save(any(Attendance.class))).thenReturn(testAttendance);
         when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
 
@@ -91,11 +111,15 @@ class AttendanceServiceTest {
         assertThat(result.getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
         verify(attendanceRepository, times(1)).save(any(Attendance.class));
         verify(eventRepository, times(1)).save(any(Event.class));
+        verify(resourceVersionRepository, times(1)).increment(ResourceVersionRepository.eventStatistics(1L));
+        verify(outboxRepository, times(1)).append(argThat(event -> event.getType() == DomainEventType.ATTENDANCE_REGISTERED));
+        verify(eventViewRepository, times(1)).countTransition(1L, null, AttendanceStatus.REGISTERED);
+        verify(eventViewRepository, times(1)).updateEvent(testEvent);
     }
 
     @Test
-    @DisplayName("Should throw exception when event is full")
-    void shouldThrowExceptionWhenEventIsFull() {
+    @DisplayName("Should waitlist attendance when event is full")
+    void shouldWaitlistAttendanceWhenEventIsFull() {
         // Given
         Event fullEvent = Event.builder()
                 .id(1L)
@@ -108,14 +132,17 @@ class AttendanceServiceTest {
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(fullEvent));
         when(participantRepository.findById(1L)).thenReturn(Optional.of(testParticipant));
-        when(attendanceRepository.existsByEventIdAndParticipantId(1L, 1L)).thenReturn(false);
+        when(attendanceMembershipRepository.contains(1L, 1L)).thenReturn(false);
+        when(attendanceRepository.save(any(Attendance.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
-        // When & Then
-        assertThatThrownBy(() -> attendanceService.registerAttendance(1L, 1L))
-                .isInstanceOf(BusinessRuleException.class)
-                .hasMessageContaining("maximum capacity");
+        // When
+        Attendance result = attendanceService.registerAttendance(1L, 1L);
 
-        verify(attendanceRepository, never()).save(any(Attendance.class));
+        // Then
+        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.WAITLISTED);
+        assertThat(fullEvent.getCurrentAttendees()).isEqualTo(100);
+        verify(waitlistRepository, times(1)).enqueue(eq(1L), any(), any(LocalDateTime.class));
+        verify(eventRepository, never()).save(any(Event.class));
     }
 
     @Test
@@ -124,7 +151,7 @@ class AttendanceServiceTest {
         // Given
         when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
         when(participantRepository.findById(1L)).thenReturn(Optional.of(testParticipant));
-        when(attendanceRepository.existsByEventIdAndParticipantId(1L, 1L)).thenReturn(true);
+        when(attendanceMembershipRepository.contains(1L, 1L)).thenReturn(true);
 
         // When & Then
         assertThatThrownBy(() -> attendanceService.registerAttendance(1L, 1L))
@@ -166,6 +193,74 @@ class AttendanceServiceTest {
         verify(eventRepository, times(1)).save(any(Event.class));
     }
 
+    @Test
+    @DisplayName("Should promote waitlist head when attendance is cancelled")
+    void shouldPromoteWaitlistHeadWhenAttendanceIsCancelled() {
+        // Given
+        Attendance waitlisted = Attendance.builder()
+                .id(2L)
+                .eventId(1L)
+                .participantId(2L)
+                .status(AttendanceStatus.WAITLISTED)
+                .registrationDate(LocalDateTime.now())
+                .build();
+
+        when(attendanceRepository.findById(1L)).thenReturn(Optional.of(testAttendance));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(attendanceRepository.save(any(Attendance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(attendanceRepository.findWaitlistHead(1L)).thenReturn(Optional.of(waitlisted));
+
+        // When
+        attendanceService.cancelAttendance(1L);
+
+        // Then
+        assertThat(waitlisted.getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
+        assertThat(testEvent.getCurrentAttendees()).isEqualTo(50);
+        verify(waitlistRepository, times(1)).remove(1L, 2L);
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    @DisplayName("Should promote waitlisted attendances up to the free spots")
+    void shouldPromoteWaitlistedUpToFreeSpots() {
+        // Given
+        testEvent.setCapacity(52);
+        Attendance first = waitlistedAttendance(2L);
+        Attendance second = waitlistedAttendance(3L);
+
+        when(attendanceRepository.save(any(Attendance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(attendanceRepository.findWaitlistHead(1L)).thenReturn(Optional.of(first), Optional.of(second));
+
+        // When
+        int promoted = attendanceService.promoteWaitlisted(testEvent);
+
+        // Then
+        assertThat(promoted).isEqualTo(2);
+        assertThat(first.getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
+        assertThat(second.getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
+        assertThat(testEvent.getCurrentAttendees()).isEqualTo(52);
+        verify(attendanceRepository, times(2)).findWaitlistHead(1L);
+        verify(outboxRepository, times(2)).append(argThat(event -> event.getType() == DomainEventType.ATTENDANCE_PROMOTED));
+        verify(waitlistRepository).remove(1L, 2L);
+        verify(waitlistRepository).remove(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should stop promoting when the waitlist is empty")
+    void shouldStopPromotingWhenWaitlistIsEmpty() {
+        // Given
+        testEvent.setCapacity(60);
+        when(attendanceRepository.findWaitlistHead(1L)).thenReturn(Optional.empty());
+
+        // When
+        int promoted = attendanceService.promoteWaitlisted(testEvent);
+
+        // Then
+        assertThat(promoted).isZero();
+        assertThat(testEvent.getCurrentAttendees()).isEqualTo(50);
+        verify(attendanceRepository, never()).save(any(Attendance.class));
+    }
+
     @Test
     @DisplayName("Should get event statistics")
     void shouldGetEventStatistics() {
@@ -182,4 +277,14 @@ class AttendanceServiceTest {
         assertThat(result.getEventId()).isEqualTo(1L);
         assertThat(result.getTotalCapacity()).isEqualTo(100);
     }
+
+    private static Attendance waitlistedAttendance(Long id) {
+        return Attendance.builder()
+                .id(id)
+                .eventId(1L)
+                .participantId(id)
+                .status(AttendanceStatus.WAITLISTED)
+                .registrationDate(LocalDateTime.now())
+                .build();
+    }
 }
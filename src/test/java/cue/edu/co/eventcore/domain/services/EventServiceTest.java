@@ -6,10 +6,14 @@ import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
 import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -35,6 +39,18 @@ class EventServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private EventViewRepository eventViewRepository;
+
+    @Mock
+    private AttendanceService attendanceService;
+
     @InjectMocks
     private EventService eventService;
 
@@ -70,6 +86,7 @@ class EventServiceTest {
         assertThat(result.getStatus()).isEqualTo(EventStatus.ACTIVE);
         assertThat(result.getCurrentAttendees()).isZero();
         verify(eventRepository, times(1)).save(any(Event.class));
+        verify(resourceVersionRepository, times(1)).increment(ResourceVersionRepository.EVENTS);
     }
 
     @Test
@@ -106,6 +123,21 @@ class EventServiceTest {
         verify(eventRepository, times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("Should get several events with one repository call")
+    void shouldGetEventsByIds() {
+        // Given
+        when(eventRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testEvent));
+
+        // When
+        List<Event> result = eventService.getEventsByIds(List.of(1L, 2L));
+
+        // Then
+        assertThat(result).containsExactly(testEvent);
+        verify(eventRepository, times(1)).findAllById(List.of(1L, 2L));
+        verify(eventRepository, never()).findById(anyLong());
+    }
+
     @Test
     @DisplayName("Should throw exception when event not found")
     void shouldThrowExceptionWhenEventNotFound() {
@@ -160,6 +192,83 @@ class EventServiceTest {
         verify(eventRepository, times(1)).save(any(Event.class));
     }
 
+    @Test
+    @DisplayName("Should promote waitlisted attendances when capacity is raised")
+    void shouldPromoteWaitlistedWhenCapacityIsRaised() {
+        // Given
+        testEvent.setCurrentAttendees(100);
+        Event updatedData = Event.builder()
+                .name(testEvent.getName())
+                .location(testEvent.getLocation())
+                .startDate(testEvent.getStartDate())
+                .endDate(testEvent.getEndDate())
+                .capacity(120)
+                .build();
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(attendanceService.promoteWaitlisted(testEvent)).thenAnswer(invocation -> {
+            testEvent.setCurrentAttendees(120);
+            return 20;
+        });
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Event result = eventService.updateEvent(1L, updatedData);
+
+        // Then
+        assertThat(result.getCurrentAttendees()).isEqualTo(120);
+        InOrder order = inOrder(attendanceService, eventRepository);
+        order.verify(attendanceService).promoteWaitlisted(testEvent);
+        order.verify(eventRepository).save(testEvent);
+    }
+
+    @Test
+    @DisplayName("Should bump event summaries version when a history-visible field changes")
+    void shouldBumpEventSummariesVersionWhenNameChanges() {
+        // Given
+        Event updatedData = Event.builder()
+                .name("Renamed Event")
+                .description(testEvent.getDescription())
+                .location(testEvent.getLocation())
+                .startDate(testEvent.getStartDate())
+                .endDate(testEvent.getEndDate())
+                .capacity(testEvent.getCapacity())
+                .build();
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+
+        // When
+        eventService.updateEvent(1L, updatedData);
+
+        // Then
+        verify(resourceVersionRepository).increment(ResourceVersionRepository.EVENT_SUMMARIES);
+    }
+
+    @Test
+    @DisplayName("Should keep event summaries version when only capacity changes")
+    void shouldKeepEventSummariesVersionWhenOnlyCapacityChanges() {
+        // Given
+        Event updatedData = Event.builder()
+                .name(testEvent.getName())
+                .description("Other Description")
+                .location(testEvent.getLocation())
+                .startDate(testEvent.getStartDate())
+                .endDate(testEvent.getEndDate())
+                .capacity(200)
+                .build();
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.save(any(Event.class))).thenReturn(testEvent);
+
+        // When
+        eventService.updateEvent(1L, updatedData);
+
+        // Then
+        verify(resourceVersionRepository).increment(ResourceVersionRepository.EVENTS);
+        verify(resourceVersionRepository, never()).increment(ResourceVersionRepository.EVENT_SUMMARIES);
+    }
+
     @Test
     @DisplayName("Should cancel event successfully")
     void shouldCancelEventSuccessfully() {
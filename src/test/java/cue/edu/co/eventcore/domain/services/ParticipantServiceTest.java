@@ -5,7 +5,11 @@ import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
 import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
 import cue.edu.co.eventcore.domain.exceptions.ResourceNotFoundException;
 import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ParticipantIdentityFilter;
 import cue.edu.co.eventcore.domain.repositories.ParticipantRepository;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -34,6 +39,18 @@ class ParticipantServiceTest {
     @Mock
     private AttendanceRepository attendanceRepository;
 
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @Mock
+    private ParticipantIdentityFilter participantIdentityFilter;
+
+    @Mock
+    private ParticipantSearchIndex participantSearchIndex;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -56,8 +73,8 @@ class ParticipantServiceTest {
     @DisplayName("Should create participant successfully")
     void shouldCreateParticipantSuccessfully() {
         // Given
-        when(participantRepository.existsByEmail(anyString())).thenReturn(false);
-        when(participantRepository.existsByDocumentNumber(anyString())).thenReturn(false);
+        when(participantIdentityFilter.emailExists(anyString(), any())).thenReturn(false);
+        when(participantIdentityFilter.documentNumberExists(anyString(), any())).thenReturn(false);
         when(participantRepository.save(any(Participant.class))).thenReturn(testParticipant);
 
         // When
@@ -68,6 +85,9 @@ class ParticipantServiceTest {
         assertThat(result.getEmail()).isEqualTo("john.doe@example.com");
         assertThat(result.getStatus()).isEqualTo(ParticipantStatus.ACTIVE);
         verify(participantRepository, times(1)).save(any(Participant.class));
+        verify(resourceVersionRepository, times(1)).increment(ResourceVersionRepository.PARTICIPANTS);
+        verify(participantIdentityFilter, times(1)).add(testParticipant);
+        verify(participantSearchIndex, times(1)).index(testParticipant);
     }
 
     @Test
@@ -75,6 +95,8 @@ class ParticipantServiceTest {
     void shouldThrowExceptionWhenEmailExists() {
         // Given
         when(participantRepository.existsByEmail(anyString())).thenReturn(true);
+        when(participantIdentityFilter.emailExists(anyString(), any())).thenAnswer(invocation ->
+                invocation.<Predicate<String>>getArgument(1).test(invocation.getArgument(0)));
 
         // When & Then
         assertThatThrownBy(() -> participantService.createParticipant(testParticipant))
@@ -157,7 +179,7 @@ class ParticipantServiceTest {
     void shouldDeleteParticipantWhenNoAttendancesExist() {
         // Given
         when(participantRepository.existsById(1L)).thenReturn(true);
-        when(attendanceRepository.findByParticipantId(1L)).thenReturn(List.of());
+        when(attendanceRepository.existsByParticipantId(1L)).thenReturn(false);
 
         // When
         participantService.deleteParticipant(1L);
@@ -112,6 +112,32 @@ class EventE2ETest {
                 .andExpect(jsonPath("$", hasSize(greaterThanOrEqualTo(2))));
     }
 
+    @Test
+    @DisplayName("Should return only the requested event fields via API")
+    void shouldReturnSparseEventFieldsViaApi() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(createTestEventRequest("Sparse Event"))));
+
+        // When & Then - fields keeps the id and drops everything not asked for
+        mockMvc.perform(get("/api/events").param("fields", "name,startDate"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].name").value("Sparse Event"))
+                .andExpect(jsonPath("$[0].startDate").exists())
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].capacity").doesNotExist());
+
+        mockMvc.perform(get("/api/events").param("view", "SUMMARY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].availableSpots").value(100))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        mockMvc.perform(get("/api/events").param("fields", "name,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return 404 when event not found")
     void shouldReturn404WhenEventNotFound() throws Exception {
@@ -0,0 +1,128 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import cue.edu.co.eventcore.config.RedisContainerTest;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.entities.EventView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RedisEventViewRepository Redis Tests")
+class RedisEventViewRepositoryTest extends RedisContainerTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private RedisEventViewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RedisEventViewRepository(redisTemplate);
+        ReflectionTestUtils.setField(repository, "ttl", Duration.ofDays(1));
+    }
+
+    @Test
+    @DisplayName("Should store a rebuilt view when nothing changed since its generation was read")
+    void shouldReplaceUnchangedView() {
+        // Given
+        long generation = generation();
+
+        // When
+        repository.replaceIfUnchanged(view(3L, 2L), generation);
+
+        // Then
+        assertThat(repository.findById(EVENT_ID)).get()
+                .extracting(stored -> stored.count(AttendanceStatus.REGISTERED))
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should keep a stale rebuild out when a registration committed during the database read")
+    void shouldDiscardRebuildRacingWithTransition() {
+        // Given: the generation is read, then a registration commits while the view is absent
+        long generation = generation();
+        repository.countTransition(EVENT_ID, null, AttendanceStatus.REGISTERED);
+
+        // When: the rebuild read the database before that registration
+        repository.replaceIfUnchanged(view(3L, 2L), generation);
+
+        // Then: the next read rebuilds with the registration included
+        assertThat(repository.findById(EVENT_ID)).isEmpty();
+        assertThat(generation()).isGreaterThan(generation);
+    }
+
+    @Test
+    @DisplayName("Should keep a stale rebuild out when the event was evicted during the database read")
+    void shouldDiscardRebuildRacingWithEviction() {
+        // Given
+        long generation = generation();
+        repository.evict(EVENT_ID);
+
+        // When
+        repository.replaceIfUnchanged(view(3L, 2L), generation);
+
+        // Then
+        assertThat(repository.findById(EVENT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not replace a view with an older event version")
+    void shouldNotReplaceNewerVersion() {
+        // Given
+        repository.save(view(5L, 1L));
+        long generation = generation();
+
+        // When
+        repository.replaceIfUnchanged(view(4L, 2L), generation);
+
+        // Then
+        EventView stored = repository.findById(EVENT_ID).orElseThrow();
+        assertThat(stored.getEvent().getVersion()).isEqualTo(5L);
+        assertThat(stored.count(AttendanceStatus.REGISTERED)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should apply transitions to a stored view and count them in the generation")
+    void shouldApplyTransitionsToStoredView() {
+        // Given
+        repository.save(view(1L, 2L));
+
+        // When
+        repository.countTransition(EVENT_ID, AttendanceStatus.REGISTERED, AttendanceStatus.CANCELLED);
+
+        // Then
+        EventView stored = repository.findById(EVENT_ID).orElseThrow();
+        assertThat(stored.count(AttendanceStatus.REGISTERED)).isEqualTo(1L);
+        assertThat(stored.count(AttendanceStatus.CANCELLED)).isEqualTo(1L);
+        assertThat(repository.generations(List.of(EVENT_ID, 2L))).isEqualTo(Map.of(EVENT_ID, 1L, 2L, 0L));
+    }
+
+    private long generation() {
+        return repository.generations(List.of(EVENT_ID)).get(EVENT_ID);
+    }
+
+    private static EventView view(Long version, long registered) {
+        Event event = Event.builder()
+                .id(EVENT_ID)
+                .name("Event")
+                .startDate(LocalDateTime.of(2030, 1, 1, 10, 0))
+                .endDate(LocalDateTime.of(2030, 1, 1, 12, 0))
+                .capacity(100)
+                .currentAttendees((int) registered)
+                .status(EventStatus.ACTIVE)
+                .version(version)
+                .build();
+        EventView view = EventView.of(event);
+        view.getAttendanceCounts().put(AttendanceStatus.REGISTERED, registered);
+        return view;
+    }
+}
@@ -0,0 +1,60 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedisResourceVersionRepository Unit Tests")
+class RedisResourceVersionRepositoryTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RedisResourceVersionRepository repository;
+
+    @Test
+    @DisplayName("Should read the stored version")
+    void shouldReadStoredVersion() {
+        // Given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("version:events")).thenReturn("42");
+
+        // When & Then
+        assertThat(repository.getVersion("events")).hasValue(42L);
+    }
+
+    @Test
+    @DisplayName("Should report no version when Redis is down")
+    void shouldReportNoVersionWhenRedisIsDown() {
+        // Given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThat(repository.getVersion("events")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not fail a write when the version increment fails")
+    void shouldSwallowIncrementFailure() {
+        // Given
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then
+        assertThatCode(() -> repository.increment("events")).doesNotThrowAnyException();
+    }
+}
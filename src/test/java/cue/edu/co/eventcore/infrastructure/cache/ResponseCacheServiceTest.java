@@ -0,0 +1,147 @@
+package cue.edu.co.eventcore.infrastructure.cache;
+
+import cue.edu.co.eventcore.config.RedisContainerTest;
+import cue.edu.co.eventcore.infrastructure.cache.ResponseCacheService.CachedBody;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCacheService Redis Tests")
+class ResponseCacheServiceTest extends RedisContainerTest {
+
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private ResponseCacheService responseCacheService;
+
+    @BeforeEach
+    void setUp() {
+        responseCacheService = new ResponseCacheService(binaryRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should return the variant for the negotiated encoding with its entity tag")
+    void shouldReturnPreferredVariant() {
+        // Given
+        responseCacheService.put("event:1", Map.of(
+                ContentEncoding.IDENTITY, bytes("{\"id\":1}"),
+                ContentEncoding.GZIP, bytes("gzipped")), "\"event-1-v1\"", TTL);
+
+        // When
+        Optional<CachedBody> gzip = responseCacheService.get("event:1", ContentEncoding.GZIP);
+        Optional<CachedBody> identity = responseCacheService.get("event:1", ContentEncoding.IDENTITY);
+
+        // Then
+        assertThat(gzip).isPresent();
+        assertThat(gzip.get().getEncoding()).isEqualTo(ContentEncoding.GZIP);
+        assertThat(gzip.get().getBody()).isEqualTo(bytes("gzipped"));
+        assertThat(gzip.get().getEtag()).isEqualTo("\"event-1-v1\"");
+        assertThat(identity).isPresent();
+        assertThat(identity.get().getBody()).isEqualTo(bytes("{\"id\":1}"));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the identity variant when the preferred one was not stored")
+    void shouldFallBackToIdentityVariant() {
+        // Given: small bodies are cached without a gzip variant
+        responseCacheService.put("event:1", Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":1}")), null, TTL);
+
+        // When
+        Optional<CachedBody> cached = responseCacheService.get("event:1", ContentEncoding.GZIP);
+
+        // Then
+        assertThat(cached).isPresent();
+        assertThat(cached.get().getEncoding()).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(cached.get().getEtag()).isNull();
+        assertThat(responseCacheService.get("event:2", ContentEncoding.GZIP)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read the entity tag on its own")
+    void shouldReadEntityTag() {
+        // Given
+        responseCacheService.put("event:1", Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":1}")), "\"event-1-v1\"", TTL);
+
+        // When & Then
+        assertThat(responseCacheService.getETag("event:1")).contains("\"event-1-v1\"");
+        assertThat(responseCacheService.getETag("event:2")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should drop stale variants and expire the key when a response is stored again")
+    void shouldReplaceStaleVariants() {
+        // Given
+        responseCacheService.put("event:1", Map.of(
+                ContentEncoding.IDENTITY, bytes("{\"id\":1,\"v\":1}"),
+                ContentEncoding.GZIP, bytes("gzipped v1")), "\"event-1-v1\"", TTL);
+
+        // When: the new body is too small to be compressed
+        responseCacheService.put("event:1", Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":1}")), "\"event-1-v2\"", TTL);
+
+        // Then
+        CachedBody cached = responseCacheService.get("event:1", ContentEncoding.GZIP).orElseThrow();
+        assertThat(cached.getEncoding()).isEqualTo(ContentEncoding.IDENTITY);
+        assertThat(cached.getBody()).isEqualTo(bytes("{\"id\":1}"));
+        assertThat(cached.getEtag()).isEqualTo("\"event-1-v2\"");
+        assertThat(binaryRedisTemplate.getExpire("event:1")).isPositive().isLessThanOrEqualTo(TTL.toSeconds());
+    }
+
+    @Test
+    @DisplayName("Should overwrite a key that holds a value of another type")
+    void shouldOverwriteKeyOfAnotherType() {
+        // Given: an entry written by the JSON object cache before the byte cache took over the key
+        redisTemplate.opsForValue().set("event:1", "{\"legacy\":true}");
+
+        // When
+        responseCacheService.put("event:1", Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":1}")), null, TTL);
+
+        // Then
+        CachedBody cached = responseCacheService.get("event:1", ContentEncoding.IDENTITY).orElseThrow();
+        assertThat(cached.getBody()).isEqualTo(bytes("{\"id\":1}"));
+    }
+
+    @Test
+    @DisplayName("Should store a batch of responses and read back only the cached identity bodies")
+    void shouldPutAllAndGetIdentityBodies() {
+        // Given
+        responseCacheService.putAll(List.of(
+                new ResponseCacheService.Entry("participant:1",
+                        Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":1}"), ContentEncoding.GZIP, bytes("gzipped")),
+                        "\"participant-1-v1\""),
+                new ResponseCacheService.Entry("participant:3", Map.of(ContentEncoding.IDENTITY, bytes("{\"id\":3}")), null)),
+                TTL);
+
+        // When
+        Map<String, byte[]> bodies = responseCacheService.getIdentityBodies(
+                List.of("participant:1", "participant:2", "participant:3"));
+
+        // Then
+        assertThat(bodies).containsOnlyKeys("participant:1", "participant:3");
+        assertThat(bodies.get("participant:1")).isEqualTo(bytes("{\"id\":1}"));
+        assertThat(bodies.get("participant:3")).isEqualTo(bytes("{\"id\":3}"));
+        assertThat(responseCacheService.getETag("participant:1")).contains("\"participant-1-v1\"");
+        assertThat(binaryRedisTemplate.getExpire("participant:3")).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should not touch Redis for an empty batch")
+    void shouldSkipEmptyBatch() {
+        // When
+        responseCacheService.putAll(List.of(), TTL);
+
+        // Then
+        assertThat(responseCacheService.getIdentityBodies(List.of())).isEmpty();
+        assertThat(redisTemplate.keys("*")).isEmpty();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
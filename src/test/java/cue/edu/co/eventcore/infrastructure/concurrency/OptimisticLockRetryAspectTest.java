@@ -0,0 +1,127 @@
+package cue.edu.co.eventcore.infrastructure.concurrency;
+
+import cue.edu.co.eventcore.domain.concurrency.RetryOnOptimisticLock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OptimisticLockRetryAspect Unit Tests")
+class OptimisticLockRetryAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private OptimisticLockRetryAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new OptimisticLockRetryAspect(meterRegistry);
+        ReflectionTestUtils.setField(aspect, "maxAttempts", 3);
+        ReflectionTestUtils.setField(aspect, "baseBackoffMs", 1L);
+        ReflectionTestUtils.setField(aspect, "maxBackoffMs", 4L);
+    }
+
+    @Test
+    @DisplayName("Should retry until the conflict clears")
+    void shouldRetryUntilConflictClears() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(2));
+
+        // When
+        String result = service.update();
+
+        // Then
+        assertThat(result).isEqualTo("updated");
+        assertThat(service.attempts()).isEqualTo(3);
+        assertThat(count("eventcore.optimistic_lock.calls")).isEqualTo(1);
+        assertThat(count("eventcore.optimistic_lock.retries")).isEqualTo(2);
+        assertThat(count("eventcore.optimistic_lock.exhausted")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rethrow the conflict once attempts are exhausted")
+    void shouldRethrowConflictWhenAttemptsAreExhausted() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(Integer.MAX_VALUE));
+
+        // When & Then
+        assertThatThrownBy(service::update)
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(service.attempts()).isEqualTo(3);
+        assertThat(count("eventcore.optimistic_lock.retries")).isEqualTo(2);
+        assertThat(count("eventcore.optimistic_lock.exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not retry other failures")
+    void shouldNotRetryOtherFailures() {
+        // Given
+        ConflictingService service = proxy(new ConflictingService(0));
+
+        // When & Then
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+        assertThat(service.attempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep jittered backoff within the capped exponential bound")
+    void shouldKeepJitteredBackoffWithinBound() {
+        // Given
+        long[] bounds = {1, 2, 4, 4, 4};
+
+        // When & Then
+        for (int attempt = 1; attempt <= bounds.length; attempt++) {
+            for (int sample = 0; sample < 200; sample++) {
+                long backoff = ReflectionTestUtils.invokeMethod(aspect, "backoff", attempt);
+                assertThat(backoff).isBetween(0L, bounds[attempt - 1]);
+            }
+        }
+    }
+
+    private ConflictingService proxy(ConflictingService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private double count(String name) {
+        return meterRegistry.counter(name, "operation", "test.update").count();
+    }
+
+    static class ConflictingService {
+
+        private final int conflicts;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        ConflictingService(int conflicts) {
+            this.conflicts = conflicts;
+        }
+
+        @RetryOnOptimisticLock("test.update")
+        public String update() {
+            if (attempts.incrementAndGet() <= conflicts) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }
+            return "updated";
+        }
+
+        @RetryOnOptimisticLock("test.update")
+        public String fail() {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not a lock conflict");
+        }
+
+        public int attempts() {
+            return attempts.get();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package cue.edu.co.eventcore.infrastructure.erasure;
+
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureJobDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantErasureRequestDto;
+import cue.edu.co.eventcore.config.RedisContainerTest;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ParticipantErasureService Redis Tests")
+class ParticipantErasureServiceTest extends RedisContainerTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private ParticipantSearchIndex participantSearchIndex;
+
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    private ParticipantErasureService participantErasureService;
+
+    @BeforeEach
+    void setUp() {
+        participantErasureService = new ParticipantErasureService(jdbcTemplate, transactionManager, redisTemplate,
+                cacheService, participantSearchIndex, resourceVersionRepository, new RedisLeaderLock(redisTemplate));
+        ReflectionTestUtils.setField(participantErasureService, "chunkSize", 2);
+        ReflectionTestUtils.setField(participantErasureService, "leaseTtl", Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        participantErasureService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should erase the selected participants chunk by chunk and record the cursor")
+    void shouldRunSubmittedJob() throws InterruptedException {
+        // When
+        String jobId = participantErasureService.submit(ParticipantErasureRequestDto.builder()
+                .participantIds(List.of(3L, 1L, 2L))
+                .build()).getJobId();
+        ParticipantErasureJobDto job = awaitFinished(jobId);
+
+        // Then
+        assertThat(job.getState()).isEqualTo(ParticipantErasureJobDto.State.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(3L);
+        assertThat(erasedChunks()).containsExactly(List.of(1L, 2L), List.of(3L));
+        assertThat(redisTemplate.opsForHash().get("erasure:" + jobId, "afterId")).isEqualTo("3");
+        assertThat(redisTemplate.opsForSet().members("erasure-jobs:active")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resume a job abandoned by a stopped node after its last finished chunk")
+    void shouldResumeAbandonedJob() throws InterruptedException {
+        // Given: another node erased participants 1 and 2, then stopped and its lease lapsed
+        abandonedJob("job-1", "2");
+
+        // When
+        int resumed = participantErasureService.resumeAbandoned();
+        ParticipantErasureJobDto job = awaitFinished("job-1");
+
+        // Then
+        assertThat(resumed).isEqualTo(1);
+        assertThat(job.getState()).isEqualTo(ParticipantErasureJobDto.State.COMPLETED);
+        assertThat(job.getProcessed()).isEqualTo(4L);
+        assertThat(erasedChunks()).containsExactly(List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("Should leave a job alone while another node holds its lease")
+    void shouldNotResumeLeasedJob() {
+        // Given
+        abandonedJob("job-1", "2");
+        redisTemplate.opsForValue().set("leader:erasure:job-1", "other-node", Duration.ofMinutes(1));
+
+        // When
+        int resumed = participantErasureService.resumeAbandoned();
+
+        // Then
+        assertThat(resumed).isZero();
+        assertThat(participantErasureService.getJob("job-1").getState()).isEqualTo(ParticipantErasureJobDto.State.RUNNING);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should forget an active job whose progress has expired")
+    void shouldDropExpiredJob() {
+        // Given
+        redisTemplate.opsForSet().add("erasure-jobs:active", "job-1");
+
+        // When
+        int resumed = participantErasureService.resumeAbandoned();
+
+        // Then
+        assertThat(resumed).isZero();
+        assertThat(redisTemplate.opsForSet().members("erasure-jobs:active")).isEmpty();
+    }
+
+    private void abandonedJob(String jobId, String afterId) {
+        String now = LocalDateTime.now().toString();
+        redisTemplate.opsForHash().putAll("erasure:" + jobId, Map.of(
+                "state", "RUNNING",
+                "total", "4",
+                "processed", "2",
+                "deleted", "2",
+                "anonymized", "0",
+                "afterId", afterId,
+                "selection.ids", "1,2,3,4",
+                "submittedAt", now,
+                "updatedAt", now));
+        redisTemplate.opsForSet().add("erasure-jobs:active", jobId);
+    }
+
+    private ParticipantErasureJobDto awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        ParticipantErasureJobDto job = participantErasureService.getJob(jobId);
+        while (job.getState() != ParticipantErasureJobDto.State.COMPLETED
+                && job.getState() != ParticipantErasureJobDto.State.FAILED && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            job = participantErasureService.getJob(jobId);
+        }
+        return job;
+    }
+
+    // Each chunk runs the anonymize and the delete statement with the same ID list
+    @SuppressWarnings("unchecked")
+    private List<List<Long>> erasedChunks() {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, atLeastOnce()).update(anyString(), params.capture());
+        List<List<Long>> chunks = new ArrayList<>();
+        List<MapSqlParameterSource> captured = params.getAllValues();
+        for (int i = 0; i < captured.size(); i += 2) {
+            chunks.add((List<Long>) captured.get(i).getValue("ids"));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,139 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomParticipantIdentityFilter Unit Tests")
+class BloomParticipantIdentityFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Predicate<String> lookup;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private BloomParticipantIdentityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new BloomParticipantIdentityFilter(jdbcTemplate, meterRegistry);
+        ReflectionTestUtils.setField(filter, "expectedEntries", 1_000L);
+        ReflectionTestUtils.setField(filter, "fpp", 0.01);
+    }
+
+    @Test
+    @DisplayName("Should always run the lookup before the filter is built")
+    void shouldLookUpWhileNotReady() {
+        // Given
+        when(lookup.test("ana@example.com")).thenReturn(false);
+
+        // When
+        boolean exists = filter.emailExists("ana@example.com", lookup);
+
+        // Then
+        assertThat(exists).isFalse();
+        verify(lookup).test("ana@example.com");
+        assertThat(checks("skipped")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip the lookup only when the built filter reports a miss")
+    void shouldSkipLookupOnMissWhenReady() {
+        // Given
+        streamParticipants("ana@example.com", "DOC-1");
+        filter.rebuild();
+
+        // When
+        boolean exists = filter.emailExists("bob@example.com", lookup);
+
+        // Then
+        assertThat(exists).isFalse();
+        verifyNoInteractions(lookup);
+        assertThat(checks("skipped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should confirm a possible match with the lookup, ignoring case and spacing")
+    void shouldConfirmPossibleMatchWithLookup() {
+        // Given
+        streamParticipants("ana@example.com", "DOC-1");
+        filter.rebuild();
+        when(lookup.test(" ANA@example.com ")).thenReturn(true);
+
+        // When
+        boolean exists = filter.emailExists(" ANA@example.com ", lookup);
+
+        // Then
+        assertThat(exists).isTrue();
+        verify(lookup).test(" ANA@example.com ");
+    }
+
+    @Test
+    @DisplayName("Should see participants added after the build")
+    void shouldSeeAddedParticipants() {
+        // Given
+        streamParticipants("ana@example.com", "DOC-1");
+        filter.rebuild();
+        filter.add(Participant.builder().email("bob@example.com").documentNumber("DOC-2").build());
+        when(lookup.test(anyString())).thenReturn(true);
+
+        // When & Then
+        assertThat(filter.documentNumberExists("DOC-2", lookup)).isTrue();
+        verify(lookup).test("DOC-2");
+    }
+
+    @Test
+    @DisplayName("Should keep running lookups when the build fails")
+    void shouldStayNotReadyWhenBuildFails() {
+        // Given
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        filter.rebuild();
+        when(lookup.test("bob@example.com")).thenReturn(false);
+
+        // When
+        filter.emailExists("bob@example.com", lookup);
+
+        // Then
+        verify(lookup).test("bob@example.com");
+    }
+
+    private void streamParticipants(String email, String documentNumber) {
+        doAnswer(invocation -> {
+            ResultSet row = mock(ResultSet.class);
+            when(row.getString(1)).thenReturn(email);
+            when(row.getString(2)).thenReturn(documentNumber);
+            invocation.<RowCallbackHandler>getArgument(1).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private double checks(String outcome) {
+        return meterRegistry.find("eventcore.participant_filter.checks").tag("outcome", outcome).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
@@ -0,0 +1,201 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.repositories.ParticipantSearchIndex.Hits;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NgramParticipantSearchIndex Unit Tests")
+class NgramParticipantSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private NgramParticipantSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new NgramParticipantSearchIndex(jdbcTemplate);
+        ReflectionTestUtils.setField(index, "maxRankedCandidates", 5000);
+        ReflectionTestUtils.setField(index, "minSimilarity", 0.5);
+    }
+
+    @Test
+    @DisplayName("Should return nothing until the index is built, so callers query the database")
+    void shouldBeUnavailableBeforeBuild() {
+        // When & Then
+        assertThat(index.search("ana", 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match word prefixes of names")
+    void shouldMatchPrefixes() {
+        // Given
+        build(participant(1L, "Berta", "Lopez"), participant(2L, "Andres", "Perez"), participant(3L, "Andrea", "Lopera"));
+
+        // When & Then
+        assertThat(ids("and")).containsExactly(2L, 3L);
+        assertThat(ids("lop")).containsExactly(1L, 3L);
+        assertThat(ids("berta lop")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should ignore accents and case on both sides")
+    void shouldIgnoreDiacritics() {
+        // Given
+        build(participant(1L, "Jos\u00e9", "Mu\u00f1oz"), participant(2L, "Luis", "Perez"));
+
+        // When & Then
+        assertThat(ids("jose munoz")).containsExactly(1L);
+        assertThat(ids("M\u00da\u00d1OZ")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should fall back to partial trigram overlap for a misspelled query")
+    void shouldTolerateTypos() {
+        // Given
+        build(participant(1L, "Marta", "Gonzalez"), participant(2L, "Luis", "Perez"));
+
+        // When
+        Hits hits = index.search("gonzales", 0, 10).orElseThrow();
+
+        // Then
+        assertThat(hits.getParticipantIds()).containsExactly(1L);
+        assertThat(hits.getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should rank an exact word above a word prefix")
+    void shouldRankExactWordFirst() {
+        // Given
+        build(participant(1L, "Anabel", "Ruiz"), participant(2L, "Ana", "Ruiz"));
+
+        // When & Then
+        assertThat(ids("ana")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should score every candidate and page through all of them")
+    void shouldRankAllCandidatesAcrossPages() {
+        // Given: more candidates than the common-trigram cap, with the best match last in ID order
+        ReflectionTestUtils.setField(index, "maxRankedCandidates", 5);
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 19; id++) {
+            rows.add(participant(id, "Mariana", "Lopez"));
+        }
+        rows.add(participant(20L, "Maria", "Lopez"));
+        build(rows.toArray(Object[][]::new));
+
+        // When
+        Hits first = index.search("maria", 0, 5).orElseThrow();
+        Hits last = index.search("maria", 15, 5).orElseThrow();
+
+        // Then
+        assertThat(first.getParticipantIds()).containsExactly(20L, 1L, 2L, 3L, 4L);
+        assertThat(first.getTotal()).isEqualTo(20L);
+        assertThat(last.getParticipantIds()).containsExactly(15L, 16L, 17L, 18L, 19L);
+        assertThat(last.getTotal()).isEqualTo(20L);
+        assertThat(index.search("maria", 20, 5).orElseThrow().getParticipantIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep writes made while a rebuild streams an older snapshot")
+    void shouldReplayWritesDuringRebuild() {
+        // Given
+        Object[] ana = participant(1L, "Ana", "Lopez");
+        Object[] luis = participant(2L, "Luis", "Perez");
+        doAnswer(rows(ana, luis))
+                .doAnswer(invocation -> {
+                    // Carla is created and Luis erased after the snapshot was taken
+                    index.index(Participant.builder().id(3L).firstName("Carla").lastName("Diaz")
+                            .email("p3@mail.test").documentNumber("D3").build());
+                    index.remove(2L);
+                    return rows(ana, luis).answer(invocation);
+                })
+                .when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        index.rebuild();
+
+        // When
+        index.rebuild();
+
+        // Then
+        assertThat(ids("carla")).containsExactly(3L);
+        assertThat(ids("luis")).isEmpty();
+        assertThat(ids("ana")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Should apply a batch of participants at once")
+    void shouldIndexBatch() {
+        // Given
+        build(participant(1L, "Ana", "Lopez"));
+
+        // When
+        index.indexAll(List.of(
+                Participant.builder().id(2L).firstName("Carla").lastName("Diaz").email("p2@mail.test").documentNumber("D2").build(),
+                Participant.builder().id(1L).firstName("Ana").lastName("Torres").email("p1@mail.test").documentNumber("D1").build()));
+
+        // Then
+        assertThat(ids("carla")).containsExactly(2L);
+        assertThat(ids("torres")).containsExactly(1L);
+        assertThat(ids("lopez")).isEmpty();
+    }
+
+    private List<Long> ids(String query) {
+        Optional<Hits> hits = index.search(query, 0, 10);
+        assertThat(hits).isPresent();
+        return hits.get().getParticipantIds();
+    }
+
+    private void build(Object[]... rows) {
+        doAnswer(rows(rows)).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        index.rebuild();
+    }
+
+    /**
+     * Stream rows of (id, first name, last name, email, document number) to the row handler
+     */
+    private static Answer<Void> rows(Object[]... rows) {
+        return invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                handler.processRow(resultSet(row));
+            }
+            return null;
+        };
+    }
+
+    private static ResultSet resultSet(Object[] row) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getLong(1)).thenReturn((Long) row[0]);
+        when(resultSet.getString(2)).thenReturn((String) row[1]);
+        when(resultSet.getString(3)).thenReturn((String) row[2]);
+        when(resultSet.getString(4)).thenReturn((String) row[3]);
+        when(resultSet.getString(5)).thenReturn((String) row[4]);
+        return resultSet;
+    }
+
+    private static Object[] participant(Long id, String firstName, String lastName) {
+        return new Object[]{id, firstName, lastName, "p" + id + "@mail.test", "D" + id};
+    }
+}
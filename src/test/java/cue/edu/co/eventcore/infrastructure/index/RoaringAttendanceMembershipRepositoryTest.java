@@ -0,0 +1,221 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoaringAttendanceMembershipRepository Unit Tests")
+class RoaringAttendanceMembershipRepositoryTest {
+
+    private static final Long EVENT_ID = 1L;
+    private static final Long OTHER_EVENT_ID = 2L;
+
+    @Mock
+    private AttendanceJpaRepository attendanceJpaRepository;
+
+    private RoaringAttendanceMembershipRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new RoaringAttendanceMembershipRepository(attendanceJpaRepository);
+        ReflectionTestUtils.setField(repository, "rebuildAfter", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should find participants attending every event, counting checked-in ones")
+    void shouldFindAttendingAll() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID)).thenReturn(List.of(
+                response(EVENT_ID, 10L, AttendanceStatus.REGISTERED),
+                response(EVENT_ID, 11L, AttendanceStatus.CHECKED_IN),
+                response(EVENT_ID, 12L, AttendanceStatus.REGISTERED),
+                response(EVENT_ID, 13L, AttendanceStatus.CANCELLED)));
+        when(attendanceJpaRepository.findResponsesByEventId(OTHER_EVENT_ID)).thenReturn(List.of(
+                response(OTHER_EVENT_ID, 10L, AttendanceStatus.CHECKED_IN),
+                response(OTHER_EVENT_ID, 11L, AttendanceStatus.REGISTERED),
+                response(OTHER_EVENT_ID, 12L, AttendanceStatus.WAITLISTED),
+                response(OTHER_EVENT_ID, 13L, AttendanceStatus.REGISTERED)));
+
+        // When
+        List<Long> attending = repository.findAttendingAll(List.of(EVENT_ID, OTHER_EVENT_ID));
+
+        // Then
+        assertThat(attending).containsExactly(10L, 11L);
+        assertThat(repository.findAttendingAll(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find registered participants who have not checked in")
+    void shouldFindNotCheckedIn() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID)).thenReturn(List.of(
+                response(EVENT_ID, 12L, AttendanceStatus.REGISTERED),
+                response(EVENT_ID, 10L, AttendanceStatus.REGISTERED),
+                response(EVENT_ID, 11L, AttendanceStatus.CHECKED_IN),
+                response(EVENT_ID, 13L, AttendanceStatus.NO_SHOW)));
+
+        // When
+        List<Long> notCheckedIn = repository.findNotCheckedIn(EVENT_ID);
+
+        // Then
+        assertThat(notCheckedIn).containsExactly(10L, 12L);
+        assertThat(repository.contains(EVENT_ID, 13L)).isTrue();
+        assertThat(repository.contains(EVENT_ID, 14L)).isFalse();
+        verify(attendanceJpaRepository, times(1)).findResponsesByEventId(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should apply a recorded attendance only once its transaction commits")
+    void shouldRecordAfterCommit() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID)).thenReturn(List.of());
+        assertThat(repository.contains(EVENT_ID, 10L)).isFalse();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        repository.record(attendance(10L, AttendanceStatus.REGISTERED));
+
+        // Then
+        assertThat(repository.contains(EVENT_ID, 10L)).isFalse();
+        commit();
+        assertThat(repository.contains(EVENT_ID, 10L)).isTrue();
+        assertThat(repository.findNotCheckedIn(EVENT_ID)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should leave no phantom member behind when the transaction rolls back")
+    void shouldIgnoreRolledBackRecord() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID)).thenReturn(List.of());
+        assertThat(repository.contains(EVENT_ID, 10L)).isFalse();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        repository.record(attendance(10L, AttendanceStatus.REGISTERED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        assertThat(repository.contains(EVENT_ID, 10L)).isFalse();
+        assertThat(repository.findNotCheckedIn(EVENT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not build bitmaps for an event that was never read")
+    void shouldNotBuildOnRecord() {
+        // When
+        repository.record(attendance(10L, AttendanceStatus.REGISTERED));
+
+        // Then
+        verifyNoInteractions(attendanceJpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the database once the bitmaps are older than the rebuild interval")
+    void shouldRebuildAfterInterval() {
+        // Given: another node registered participant 11 after the first build
+        ReflectionTestUtils.setField(repository, "rebuildAfter", Duration.ZERO);
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID))
+                .thenReturn(List.of(response(EVENT_ID, 10L, AttendanceStatus.REGISTERED)))
+                .thenReturn(List.of(
+                        response(EVENT_ID, 10L, AttendanceStatus.REGISTERED),
+                        response(EVENT_ID, 11L, AttendanceStatus.REGISTERED)));
+        assertThat(repository.contains(EVENT_ID, 11L)).isFalse();
+
+        // When
+        boolean contains = repository.contains(EVENT_ID, 11L);
+
+        // Then
+        assertThat(contains).isTrue();
+        verify(attendanceJpaRepository, times(2)).findResponsesByEventId(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should move a participant between status bitmaps on each transition")
+    void shouldMoveParticipantBetweenStatuses() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID))
+                .thenReturn(List.of(response(EVENT_ID, 10L, AttendanceStatus.REGISTERED)));
+        when(attendanceJpaRepository.findResponsesByEventId(OTHER_EVENT_ID))
+                .thenReturn(List.of(response(OTHER_EVENT_ID, 10L, AttendanceStatus.REGISTERED)));
+        assertThat(repository.findNotCheckedIn(EVENT_ID)).containsExactly(10L);
+
+        // When & Then: checking in keeps the participant attending but no longer pending
+        repository.record(attendance(10L, AttendanceStatus.CHECKED_IN));
+        assertThat(repository.findNotCheckedIn(EVENT_ID)).isEmpty();
+        assertThat(repository.findAttendingAll(List.of(EVENT_ID, OTHER_EVENT_ID))).containsExactly(10L);
+
+        // When & Then: cancelling drops them from attending, yet they stay a member of the event
+        repository.record(attendance(10L, AttendanceStatus.CANCELLED));
+        assertThat(repository.findAttendingAll(List.of(EVENT_ID, OTHER_EVENT_ID))).isEmpty();
+        assertThat(repository.contains(EVENT_ID, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should rebuild an evicted event on its next read")
+    void shouldRebuildAfterEvict() {
+        // Given
+        when(attendanceJpaRepository.findResponsesByEventId(EVENT_ID)).thenReturn(List.of());
+        repository.contains(EVENT_ID, 10L);
+
+        // When
+        repository.evict(EVENT_ID);
+        repository.contains(EVENT_ID, 10L);
+
+        // Then
+        verify(attendanceJpaRepository, times(2)).findResponsesByEventId(EVENT_ID);
+    }
+
+    /**
+     * Run the afterCommit callbacks registered so far, as the transaction manager would
+     */
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations =
+                new ArrayList<>(TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static Attendance attendance(Long participantId, AttendanceStatus status) {
+        return Attendance.builder()
+                .id(100L + participantId)
+                .eventId(EVENT_ID)
+                .participantId(participantId)
+                .status(status)
+                .build();
+    }
+
+    private static AttendanceResponseDto response(Long eventId, Long participantId, AttendanceStatus status) {
+        return AttendanceResponseDto.builder()
+                .id(eventId * 100 + participantId)
+                .eventId(eventId)
+                .participantId(participantId)
+                .status(status)
+                .build();
+    }
+}
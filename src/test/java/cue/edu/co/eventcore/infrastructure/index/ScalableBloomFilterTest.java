@@ -0,0 +1,76 @@
+package cue.edu.co.eventcore.infrastructure.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ScalableBloomFilter Unit Tests")
+class ScalableBloomFilterTest {
+
+    private static final double TARGET_FPP = 0.01;
+    private static final int PROBES = 200_000;
+
+    @Test
+    @DisplayName("Should report every added key as present across layer growth")
+    void shouldHaveNoFalseNegativesAcrossLayers() {
+        // Given: fifty times the initial capacity, so several layers are appended
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, TARGET_FPP);
+        long initialBytes = filter.sizeInBytes();
+
+        // When
+        for (int i = 0; i < 50_000; i++) {
+            filter.add(member(i));
+        }
+
+        // Then
+        assertThat(filter.sizeInBytes()).isGreaterThan(initialBytes * 32);
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(filter.mightContain(member(i))).as(member(i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the measured false-positive rate near the target after outgrowing the initial capacity")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, TARGET_FPP);
+        for (int i = 0; i < 200_000; i++) {
+            filter.add(member(i));
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("absent-" + i + "@example.org")) {
+                falsePositives++;
+            }
+        }
+        double measured = (double) falsePositives / PROBES;
+
+        // Then
+        assertThat(measured).isLessThan(TARGET_FPP * 1.2);
+        assertThat(measured).isCloseTo(filter.expectedFpp(), within(0.003));
+        assertThat(filter.expectedFpp()).isLessThanOrEqualTo(TARGET_FPP);
+    }
+
+    @Test
+    @DisplayName("Should not count a key added twice")
+    void shouldNotCountDuplicates() {
+        // Given
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, TARGET_FPP);
+
+        // When
+        filter.add("ana@example.com");
+        filter.add("ana@example.com");
+
+        // Then
+        assertThat(filter.size()).isEqualTo(1);
+        assertThat(filter.mightContain("ana@example.com")).isTrue();
+    }
+
+    private static String member(int i) {
+        return "participant-" + i + "@example.com";
+    }
+}
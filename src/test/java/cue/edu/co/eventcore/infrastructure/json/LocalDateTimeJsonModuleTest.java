@@ -0,0 +1,165 @@
+package cue.edu.co.eventcore.infrastructure.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalDateTimeJsonModule Unit Tests")
+class LocalDateTimeJsonModuleTest {
+
+    private final ObjectMapper reference = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper tuned = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .addModule(new LocalDateTimeJsonModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final ObjectMapper timestamps = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build();
+
+    @Test
+    @DisplayName("Should write and read the same text as JavaTimeModule")
+    void shouldMatchJavaTimeModule() throws Exception {
+        // Given: fixed edge cases plus random instants across four-digit years
+        List<LocalDateTime> values = new ArrayList<>(List.of(
+                LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 12, 31, 23, 59, 59, 1),
+                LocalDateTime.of(1, 1, 1, 1, 1, 1, 999_999_999)));
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            values.add(LocalDateTime.ofEpochSecond(random.nextLong(-60_000_000_000L, 250_000_000_000L),
+                    random.nextBoolean() ? 0 : random.nextInt(1_000_000_000), ZoneOffset.UTC));
+        }
+
+        for (LocalDateTime value : values) {
+            // When
+            String expected = reference.writeValueAsString(new Holder(value));
+            String actual = tuned.writeValueAsString(new Holder(value));
+
+            // Then
+            assertThat(actual).isEqualTo(expected);
+            assertThat(tuned.readValue(actual, Holder.class).value).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should trim trailing zeros from the fraction")
+    void shouldTrimFractionTrailingZeros() throws Exception {
+        // Given
+        LocalDateTime value = LocalDateTime.of(2024, 5, 6, 7, 8, 9, 120_000_000);
+
+        // When
+        String json = tuned.writeValueAsString(new Holder(value));
+
+        // Then
+        assertThat(json).isEqualTo("{\"value\":\"2024-05-06T07:08:09.12\"}");
+        assertThat(tuned.writeValueAsString(new Holder(value.withNano(0))))
+                .isEqualTo("{\"value\":\"2024-05-06T07:08:09\"}");
+    }
+
+    @Test
+    @DisplayName("Should read minute precision and partial fractions")
+    void shouldReadShortForms() throws Exception {
+        for (String text : List.of("2024-01-01T10:00", "2024-01-01T10:00:05", "2024-01-01T10:00:05.5",
+                "2024-01-01T10:00:05.123456789")) {
+            // When
+            LocalDateTime value = tuned.readValue(json(text), Holder.class).value;
+
+            // Then
+            assertThat(value).isEqualTo(LocalDateTime.parse(text));
+        }
+    }
+
+    @Test
+    @DisplayName("Should read legacy timestamp arrays")
+    void shouldReadLegacyTimestampArrays() throws Exception {
+        // Given: the array form older cache entries were written in
+        LocalDateTime value = LocalDateTime.of(2024, 3, 4, 5, 6, 7, 890_000_000);
+        String legacy = timestamps.writeValueAsString(new Holder(value));
+
+        // When
+        LocalDateTime read = tuned.readValue(legacy, Holder.class).value;
+
+        // Then
+        assertThat(legacy).contains("[");
+        assertThat(read).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("Should delegate years outside 0-9999 to JavaTimeModule")
+    void shouldDelegateYearsOutsideFourDigits() throws Exception {
+        for (LocalDateTime value : List.of(LocalDateTime.of(12345, 1, 1, 0, 0), LocalDateTime.of(-5, 1, 1, 0, 0))) {
+            // When
+            String actual = tuned.writeValueAsString(new Holder(value));
+
+            // Then
+            assertThat(actual).isEqualTo(reference.writeValueAsString(new Holder(value)));
+            assertThat(tuned.readValue(actual, Holder.class).value).isEqualTo(value);
+        }
+    }
+
+    @Test
+    @DisplayName("Should honour @JsonFormat patterns")
+    void shouldHonourJsonFormatPatterns() throws Exception {
+        // Given
+        Formatted formatted = new Formatted();
+        formatted.value = LocalDateTime.of(2024, 1, 2, 3, 4);
+
+        // When
+        String json = tuned.writeValueAsString(formatted);
+
+        // Then
+        assertThat(json).isEqualTo("{\"value\":\"02/01/2024 03:04\"}");
+        assertThat(tuned.readValue(json, Formatted.class).value).isEqualTo(formatted.value);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid dates")
+    void shouldRejectInvalidDates() {
+        for (String text : List.of("2024-02-30T10:00:00", "2024-01-01 10:00:00", "abc", "2024-01-01T25:00:00")) {
+            assertThatThrownBy(() -> tuned.readValue(json(text), Holder.class))
+                    .isInstanceOf(JsonProcessingException.class);
+        }
+    }
+
+    private static String json(String text) {
+        return "{\"value\":\"" + text + "\"}";
+    }
+
+    static class Holder {
+
+        public LocalDateTime value;
+
+        Holder() {
+        }
+
+        Holder(LocalDateTime value) {
+            this.value = value;
+        }
+    }
+
+    static class Formatted {
+
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
+        public LocalDateTime value;
+    }
+}
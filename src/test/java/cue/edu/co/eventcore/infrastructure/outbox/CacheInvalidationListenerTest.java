@@ -0,0 +1,92 @@
+package cue.edu.co.eventcore.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheInvalidationListener Unit Tests")
+class CacheInvalidationListenerTest {
+
+    @Mock
+    private CacheService cacheService;
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new CacheInvalidationListener(cacheService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should drop every cached view of an updated event")
+    void shouldInvalidateUpdatedEvent() {
+        // When
+        listener.onOutboxMessage(message("EVENT_UPDATED", "Event", 7L, "{\"eventId\":7}"));
+
+        // Then
+        verify(cacheService).delete(List.of("event:7", "events:upcoming", "event:stats:7", "event:availability:7"));
+    }
+
+    @Test
+    @DisplayName("Should only drop the upcoming list when an event is created")
+    void shouldInvalidateUpcomingOnCreate() {
+        // When
+        listener.onOutboxMessage(message("EVENT_CREATED", "Event", 7L, "{\"eventId\":7}"));
+
+        // Then
+        verify(cacheService).delete(List.of("events:upcoming"));
+    }
+
+    @Test
+    @DisplayName("Should key attendance changes on the event in the payload")
+    void shouldInvalidateEventOfAttendance() {
+        // When
+        listener.onOutboxMessage(message("ATTENDANCE_CANCELLED", "Attendance", 40L,
+                "{\"attendanceId\":40,\"eventId\":7,\"participantId\":3,\"status\":\"CANCELLED\"}"));
+        listener.onOutboxMessage(message("ATTENDANCE_CHECKED_IN", "Attendance", 41L,
+                "{\"attendanceId\":41,\"eventId\":8,\"participantId\":3,\"status\":\"CHECKED_IN\"}"));
+
+        // Then
+        verify(cacheService).delete(List.of("event:7", "event:stats:7", "event:availability:7"));
+        verify(cacheService).delete(List.of("event:stats:8"));
+    }
+
+    @Test
+    @DisplayName("Should leave the cache alone for participant events")
+    void shouldIgnoreParticipantEvents() {
+        // When
+        listener.onOutboxMessage(message("PARTICIPANT_CREATED", "Participant", 3L, "{\"participantId\":3}"));
+
+        // Then
+        verifyNoInteractions(cacheService);
+    }
+
+    @Test
+    @DisplayName("Should let a Redis failure reach the relay so the message is retried")
+    void shouldPropagateRedisFailure() {
+        // Given
+        doThrow(new RedisConnectionFailureException("down")).when(cacheService).delete(anyList());
+
+        // When & Then
+        assertThatThrownBy(() -> listener.onOutboxMessage(message("EVENT_DELETED", "Event", 7L, "{\"id\":7}")))
+                .isInstanceOf(RedisConnectionFailureException.class);
+    }
+
+    private static OutboxMessage message(String type, String aggregateType, Long aggregateId, String payload) {
+        return new OutboxMessage(1L, type, aggregateType, aggregateId, payload, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,232 @@
+package cue.edu.co.eventcore.infrastructure.outbox;
+
+import cue.edu.co.eventcore.config.PostgresContainerTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay PostgreSQL Tests")
+class OutboxRelayTest extends PostgresContainerTest {
+
+    private static final int BATCH_SIZE = 5;
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final Queue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+    private volatile Listener listener = message -> { };
+
+    private DataSourceTransactionManager transactionManager;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        flyway(null).migrate();
+        transactionManager = new DataSourceTransactionManager(jdbcTemplate.getDataSource());
+        relay = relay();
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should let two workers claim disjoint batches and deliver every event once")
+    void shouldClaimDisjointBatches() {
+        // Given: each worker holds its claim until the other has claimed too
+        insertEvents(2 * BATCH_SIZE);
+        CyclicBarrier bothClaimed = new CyclicBarrier(2);
+        Set<String> waited = ConcurrentHashMap.newKeySet();
+        listener = message -> {
+            if (waited.add(Thread.currentThread().getName())) {
+                bothClaimed.await(10, TimeUnit.SECONDS);
+            }
+        };
+
+        // When
+        relay.relay();
+
+        // Then
+        assertThat(deliveries).extracting(Delivery::id).doesNotHaveDuplicates().hasSize(2 * BATCH_SIZE);
+        Map<String, List<Long>> byWorker = deliveries.stream().collect(
+                Collectors.groupingBy(Delivery::worker, Collectors.mapping(Delivery::id, Collectors.toList())));
+        assertThat(byWorker).hasSize(2);
+        assertThat(byWorker.values()).allSatisfy(ids -> assertThat(ids).hasSize(BATCH_SIZE));
+        assertThat(outboxCount()).isZero();
+        verify(redisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Should skip rows locked by another claim instead of waiting for them")
+    void shouldSkipLockedRows() throws InterruptedException {
+        // Given: another node's claim holds the first rows
+        insertEvents(2 * BATCH_SIZE);
+        List<Long> ids = ids();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread otherNode = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("SELECT id FROM outbox_events ORDER BY id LIMIT " + BATCH_SIZE + " FOR UPDATE");
+            locked.countDown();
+            awaitQuietly(release);
+        }));
+        otherNode.start();
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        relay.relay();
+        release.countDown();
+        otherNode.join();
+
+        // Then
+        assertThat(deliveries).extracting(Delivery::id).containsExactlyElementsOf(ids.subList(BATCH_SIZE, 2 * BATCH_SIZE));
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox_events ORDER BY id", Long.class))
+                .containsExactlyElementsOf(ids.subList(0, BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("Should re-claim a batch whose lease expired without streaming it again")
+    void shouldReclaimExpiredLease() {
+        // Given: a node streamed and leased two rows, then died before delivering them
+        insertEvents(2);
+        List<Long> ids = ids();
+        jdbcTemplate.update("UPDATE outbox_events SET streamed = TRUE, available_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)), ids.get(0));
+        jdbcTemplate.update("UPDATE outbox_events SET streamed = TRUE, available_at = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().plusMinutes(1)), ids.get(1));
+
+        // When
+        relay.relay();
+
+        // Then: the lapsed lease is re-claimed and delivered, the live one is left alone
+        assertThat(deliveries).extracting(Delivery::id).containsExactly(ids.get(0));
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM outbox_events", Long.class)).containsExactly(ids.get(1));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should retry a failing listener with growing backoff and discard the event after the last attempt")
+    void shouldRetryWithBackoffThenDiscard() {
+        // Given
+        insertEvents(1);
+        listener = message -> {
+            throw new IllegalStateException("listener down");
+        };
+
+        // When & Then: first failure waits one backoff step
+        relay.relay();
+        assertThat(attempts()).isEqualTo(1);
+        assertThat(availableAt()).isBetween(LocalDateTime.now().plusMinutes(59), LocalDateTime.now().plusMinutes(61));
+
+        // When & Then: the second failure waits twice as long
+        expireBackoff();
+        relay.relay();
+        assertThat(attempts()).isEqualTo(2);
+        assertThat(availableAt()).isBetween(LocalDateTime.now().plusMinutes(119), LocalDateTime.now().plusMinutes(121));
+
+        // When & Then: the last attempt discards the row
+        expireBackoff();
+        relay.relay();
+        assertThat(outboxCount()).isZero();
+        assertThat(deliveries).hasSize(MAX_ATTEMPTS);
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    private OutboxRelay relay() {
+        OutboxRelay relay = new OutboxRelay(new NamedParameterJdbcTemplate(jdbcTemplate), transactionManager,
+                redisTemplate, event -> {
+                    OutboxMessage message = (OutboxMessage) event;
+                    deliveries.add(new Delivery(message.id(), Thread.currentThread().getName()));
+                    try {
+                        listener.on(message);
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "workers", 2);
+        ReflectionTestUtils.setField(relay, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(relay, "streamKey", "eventcore:domain-events");
+        ReflectionTestUtils.setField(relay, "streamMaxLength", 1000L);
+        ReflectionTestUtils.setField(relay, "lease", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(relay, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(relay, "retryBackoff", Duration.ofHours(1));
+        ReflectionTestUtils.setField(relay, "maxRetryBackoff", Duration.ofHours(10));
+        relay.init();
+        return relay;
+    }
+
+    private void insertEvents(int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO outbox_events (event_type, aggregate_type, aggregate_id, payload, occurred_at) "
+                    + "VALUES ('EVENT_UPDATED', 'Event', ?, '{}', now())", (long) i + 1);
+        }
+    }
+
+    private List<Long> ids() {
+        return jdbcTemplate.queryForList("SELECT id FROM outbox_events ORDER BY id", Long.class);
+    }
+
+    private Integer outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private Integer attempts() {
+        return jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class);
+    }
+
+    private LocalDateTime availableAt() {
+        return jdbcTemplate.queryForObject("SELECT available_at FROM outbox_events", Timestamp.class).toLocalDateTime();
+    }
+
+    private void expireBackoff() {
+        jdbcTemplate.update("UPDATE outbox_events SET available_at = ?", Timestamp.valueOf(LocalDateTime.now().minusSeconds(1)));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Listener {
+        void on(OutboxMessage message) throws Exception;
+    }
+
+    private record Delivery(Long id, String worker) {
+    }
+}
@@ -0,0 +1,148 @@
+package cue.edu.co.eventcore.infrastructure.persistence.partitioning;
+
+import cue.edu.co.eventcore.config.PostgresContainerTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Attendance Partitioning PostgreSQL Tests")
+class AttendancePartitioningTest extends PostgresContainerTest {
+
+    @Test
+    @DisplayName("Should move existing attendances into event range partitions and back-fill their keys")
+    void shouldPartitionExistingAttendancesAndBackFillKeys() {
+        // Given: rows written before the table was partitioned
+        flyway("3").migrate();
+        insertEvent(1L, LocalDateTime.now().plusDays(1));
+        insertEvent(1500L, LocalDateTime.now().plusDays(1));
+        insertParticipant(1L);
+        insertAttendance(10L, 1L, 1L);
+        insertAttendance(11L, 1500L, 1L);
+
+        // When
+        flyway(null).migrate();
+
+        // Then
+        assertThat(partitionOf(10L)).isEqualTo("attendances_p0");
+        assertThat(partitionOf(11L)).isEqualTo("attendances_p1000");
+        assertThat(jdbcTemplate.queryForList("SELECT event_id FROM attendance_keys WHERE participant_id = 1 ORDER BY id",
+                Long.class)).containsExactly(1L, 1500L);
+        assertThat(jdbcTemplate.queryForList("SELECT indexname FROM pg_indexes WHERE tablename = 'attendances'",
+                String.class))
+                .contains("idx_event_participant", "idx_attendances_event_status")
+                .doesNotContain("idx_attendances_id", "idx_participant_id");
+    }
+
+    @Test
+    @DisplayName("Should keep attendance ids unique across partitions")
+    void shouldKeepAttendanceIdsUniqueAcrossPartitions() {
+        // Given
+        flyway(null).migrate();
+        jdbcTemplate.update("INSERT INTO attendance_keys (id, event_id, participant_id) VALUES (10, 1, 1)");
+
+        // When & Then: the same id in another event's partition is refused
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO attendance_keys (id, event_id, participant_id) VALUES (10, 1500, 2)"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Should prune lookups that carry the event id to the partitions holding the rows")
+    void shouldPruneLookupsWithEventId() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String byId = explain("SELECT * FROM attendances WHERE event_id = 1500 AND id = 11");
+        String byParticipant = explain("SELECT * FROM attendances WHERE event_id IN (1, 1500) AND participant_id = 1");
+
+        // Then
+        assertThat(byId).contains("attendances_p1000").doesNotContain("attendances_p0", "attendances_p2000");
+        assertThat(byParticipant).contains("attendances_p0", "attendances_p1000").doesNotContain("attendances_p2000");
+    }
+
+    @Test
+    @DisplayName("Should create partitions ahead of the newest event")
+    void shouldCreatePartitionsAhead() {
+        // Given: the migration created [0, 3000) for an empty events table
+        flyway(null).migrate();
+        insertEvent(5000L, LocalDateTime.now().plusDays(1));
+
+        // When
+        int changed = maintenance(false).maintain();
+
+        // Then
+        assertThat(changed).isEqualTo(5);
+        assertThat(partitions()).contains("attendances_p3000", "attendances_p7000").doesNotContain("attendances_p8000");
+    }
+
+    @Test
+    @DisplayName("Should detach partitions of long-ended events and drop their keys")
+    void shouldDetachExpiredPartitions() {
+        // Given
+        flyway(null).migrate();
+        insertEvent(1L, LocalDateTime.now().minusYears(3));
+        insertEvent(5000L, LocalDateTime.now().plusDays(1));
+        insertParticipant(1L);
+        insertAttendance(10L, 1L, 1L);
+        jdbcTemplate.update("INSERT INTO attendance_keys (id, event_id, participant_id) VALUES (10, 1, 1)");
+
+        // When
+        maintenance(true).maintain();
+
+        // Then: the rows stay in the detached table for archiving
+        assertThat(partitions()).doesNotContain("attendances_p0").contains("attendances_p5000");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendances_p0", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance_keys", Integer.class)).isZero();
+    }
+
+    private AttendancePartitionMaintenance maintenance(boolean detachEnabled) {
+        AttendancePartitionMaintenance maintenance = new AttendancePartitionMaintenance(jdbcTemplate);
+        ReflectionTestUtils.setField(maintenance, "eventsPerPartition", 1000L);
+        ReflectionTestUtils.setField(maintenance, "partitionsAhead", 2);
+        ReflectionTestUtils.setField(maintenance, "detachEnabled", detachEnabled);
+        ReflectionTestUtils.setField(maintenance, "retention", Duration.ofDays(730));
+        ReflectionTestUtils.setField(maintenance, "detachLockTimeout", Duration.ofSeconds(2));
+        return maintenance;
+    }
+
+    private List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'attendances'::regclass", String.class);
+    }
+
+    private String partitionOf(Long attendanceId) {
+        return jdbcTemplate.queryForObject("SELECT tableoid::regclass::text FROM attendances WHERE id = ?",
+                String.class, attendanceId);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)) + "\n";
+    }
+
+    private void insertEvent(Long id, LocalDateTime endDate) {
+        jdbcTemplate.update("INSERT INTO events (id, name, start_date, end_date, capacity, current_attendees, status, "
+                        + "created_at) VALUES (?, ?, ?, ?, 100, 0, 'ACTIVE', now())",
+                id, "Event " + id, Timestamp.valueOf(endDate.minusHours(2)), Timestamp.valueOf(endDate));
+    }
+
+    private void insertParticipant(Long id) {
+        jdbcTemplate.update("INSERT INTO participants (id, first_name, last_name, email, document_number, status, "
+                        + "created_at) VALUES (?, 'Ana', 'Gomez', ?, ?, 'ACTIVE', now())",
+                id, "ana" + id + "@example.com", "DOC-" + id);
+    }
+
+    private void insertAttendance(Long id, Long eventId, Long participantId) {
+        jdbcTemplate.update("INSERT INTO attendances (id, event_id, participant_id, status, registration_date, "
+                + "created_at) VALUES (?, ?, ?, 'REGISTERED', now(), now())", id, eventId, participantId);
+    }
+}
@@ -0,0 +1,56 @@
+package cue.edu.co.eventcore.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitProperties Binding Tests")
+class RateLimitPropertiesTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class, ValidationAutoConfiguration.class))
+            .withUserConfiguration(RateLimitProperties.class);
+
+    @Test
+    @DisplayName("Should bind valid route rules")
+    void shouldBindValidRules() {
+        contextRunner
+                .withPropertyValues(
+                        "eventcore.rate-limit.routes.attendance-register.capacity=10",
+                        "eventcore.rate-limit.routes.attendance-register.refill-per-second=0.5")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    RateLimitProperties.Rule rule = context.getBean(RateLimitProperties.class)
+                            .getRoutes().get("attendance-register");
+                    assertThat(rule.getCapacity()).isEqualTo(10);
+                    assertThat(rule.getRefillPerSecond()).isEqualTo(0.5);
+                });
+    }
+
+    @Test
+    @DisplayName("Should reject a zero refill rate at startup")
+    void shouldRejectZeroRefillRate() {
+        contextRunner
+                .withPropertyValues(
+                        "eventcore.rate-limit.routes.attendance-register.capacity=10",
+                        "eventcore.rate-limit.routes.attendance-register.refill-per-second=0")
+                .run(context -> assertThat(context).hasFailed()
+                        .getFailure().rootCause().hasMessageContaining("refillPerSecond"));
+    }
+
+    @Test
+    @DisplayName("Should reject a zero capacity at startup")
+    void shouldRejectZeroCapacity() {
+        contextRunner
+                .withPropertyValues(
+                        "eventcore.rate-limit.routes.attendance-register.capacity=0",
+                        "eventcore.rate-limit.routes.attendance-register.refill-per-second=1")
+                .run(context -> assertThat(context).hasFailed());
+    }
+}
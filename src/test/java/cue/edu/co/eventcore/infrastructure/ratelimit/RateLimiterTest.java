@@ -0,0 +1,92 @@
+package cue.edu.co.eventcore.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimiter Unit Tests")
+class RateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRedisTimeout(Duration.ofMillis(20));
+        properties.setRedisBackoff(Duration.ofMinutes(1));
+        // One token that takes over fifteen minutes to refill, so every charge is observable
+        properties.setRoutes(Map.of("register", new RateLimitProperties.Rule(1, 0.001)));
+        rateLimiter = new RateLimiter(redisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        rateLimiter.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject with the retry delay decided by Redis")
+    void shouldRejectWhenRedisBucketIsEmpty() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(List.of(0L, 1500L));
+
+        // When & Then
+        assertThatThrownBy(() -> rateLimiter.acquire("register", "client:ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the local bucket when Redis fails")
+    void shouldFallBackToLocalBucketOnFailure() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // When & Then: the local bucket allows its single token, then rejects
+        assertThatCode(() -> rateLimiter.acquire("register", "client:ip:10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> rateLimiter.acquire("register", "client:ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    @DisplayName("Should charge a timed-out request once when the Redis script completes late")
+    void shouldNotChargeTwiceWhenRedisCompletesLate() throws InterruptedException {
+        // Given: the script takes its token in Redis, but only after the time budget ran out
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return List.of(1L, 0L);
+        });
+
+        // When
+        rateLimiter.acquire("register", "client:ip:10.0.0.1");
+        Thread.sleep(500);
+
+        // Then: Redis is bypassed now, and the local bucket got its token back when Redis charged the request
+        assertThatCode(() -> rateLimiter.acquire("register", "client:ip:10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> rateLimiter.acquire("register", "client:ip:10.0.0.1"))
+                .isInstanceOf(RateLimitExceededException.class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(), any());
+    }
+}
@@ -0,0 +1,279 @@
+package cue.edu.co.eventcore.infrastructure.registrationqueue;
+
+import cue.edu.co.eventcore.application.dtos.attendance.RegistrationTicketDto;
+import cue.edu.co.eventcore.config.RedisContainerTest;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
+import cue.edu.co.eventcore.domain.services.AttendanceService;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.RedisLeaderLock;
+import cue.edu.co.eventcore.infrastructure.roster.RosterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RegistrationQueueService Redis Tests")
+class RegistrationQueueServiceTest extends RedisContainerTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Mock
+    private AttendanceService attendanceService;
+
+    @Mock
+    private AttendanceRepository attendanceRepository;
+
+    @Mock
+    private AttendanceMembershipRepository attendanceMembershipRepository;
+
+    @Mock
+    private RosterService rosterService;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RegistrationQueueService registrationQueueService;
+
+    @BeforeEach
+    void setUp() {
+        registrationQueueService = new RegistrationQueueService(redisTemplate, new RedisLeaderLock(redisTemplate),
+                attendanceService, attendanceRepository, attendanceMembershipRepository, rosterService, cacheService,
+                transactionManager);
+        ReflectionTestUtils.setField(registrationQueueService, "batchSize", 100);
+        ReflectionTestUtils.setField(registrationQueueService, "maxBatchesPerPass", 10);
+        ReflectionTestUtils.setField(registrationQueueService, "maxDeliveries", 2);
+        ReflectionTestUtils.setField(registrationQueueService, "lockTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(registrationQueueService, "ticketTtl", Duration.ofDays(1));
+        registrationQueueService.enable(EVENT_ID);
+    }
+
+    @Test
+    @DisplayName("Should hand out one ticket per participant while a request is pending")
+    void shouldDeduplicateEnqueuedRequests() {
+        // When
+        RegistrationTicketDto first = registrationQueueService.enqueue(EVENT_ID, 10L);
+        RegistrationTicketDto retry = registrationQueueService.enqueue(EVENT_ID, 10L);
+
+        // Then
+        assertThat(retry.getTicketId()).isEqualTo(first.getTicketId());
+        assertThat(first.getState()).isEqualTo(RegistrationTicketDto.State.PENDING);
+        assertThat(redisTemplate.opsForStream().size("registrations:1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse to queue a participant who is already registered")
+    void shouldRejectKnownMember() {
+        // Given
+        when(attendanceMembershipRepository.contains(EVENT_ID, 10L)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> registrationQueueService.enqueue(EVENT_ID, 10L))
+                .isInstanceOf(DuplicateResourceException.class);
+        assertThat(redisTemplate.hasKey("registrations:1:tickets")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should register queued requests in arrival order")
+    void shouldDrainInArrivalOrder() {
+        // Given
+        for (long participantId = 10; participantId <= 14; participantId++) {
+            registrationQueueService.enqueue(EVENT_ID, participantId);
+        }
+        when(attendanceService.registerAttendance(eq(EVENT_ID), anyLong()))
+                .thenAnswer(invocation -> registered(invocation.getArgument(1)));
+
+        // When
+        int processed = registrationQueueService.drainAll();
+
+        // Then
+        assertThat(processed).isEqualTo(5);
+        InOrder order = inOrder(attendanceService);
+        for (long participantId = 10; participantId <= 14; participantId++) {
+            order.verify(attendanceService).registerAttendance(EVENT_ID, participantId);
+        }
+        assertThat(redisTemplate.opsForStream().size("registrations:1")).isZero();
+        assertThat(redisTemplate.opsForHash().size("registrations:1:tickets")).isZero();
+        verify(transactionManager, times(1)).commit(any());
+        verify(cacheService, times(1)).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("Should register a batch one by one after a rejected request rolls it back")
+    void shouldFallBackToSingleRegistrationsOnRejection() {
+        // Given
+        String first = registrationQueueService.enqueue(EVENT_ID, 10L).getTicketId();
+        String rejected = registrationQueueService.enqueue(EVENT_ID, 11L).getTicketId();
+        String third = registrationQueueService.enqueue(EVENT_ID, 12L).getTicketId();
+        when(attendanceService.registerAttendance(eq(EVENT_ID), anyLong()))
+                .thenAnswer(invocation -> registered(invocation.getArgument(1)));
+        when(attendanceService.registerAttendance(EVENT_ID, 11L))
+                .thenThrow(new BusinessRuleException("Participant is not active"));
+
+        // When
+        int processed = registrationQueueService.drainAll();
+
+        // Then
+        assertThat(processed).isEqualTo(3);
+        assertThat(registrationQueueService.getTicket(first).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        assertThat(registrationQueueService.getTicket(rejected).getState()).isEqualTo(RegistrationTicketDto.State.REJECTED);
+        assertThat(registrationQueueService.getTicket(third).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        verify(transactionManager, times(1)).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(attendanceService, times(2)).registerAttendance(EVENT_ID, 10L);
+        verify(attendanceService, times(1)).registerAttendance(EVENT_ID, 12L);
+    }
+
+    @Test
+    @DisplayName("Should keep a redelivered member out of the batch transaction")
+    void shouldProcessKnownMemberOutsideBatch() {
+        // Given: participant 10 registered before the previous leader could acknowledge the entry
+        String redelivered = registrationQueueService.enqueue(EVENT_ID, 10L).getTicketId();
+        String fresh = registrationQueueService.enqueue(EVENT_ID, 11L).getTicketId();
+        when(attendanceMembershipRepository.contains(EVENT_ID, 10L)).thenReturn(true);
+        when(attendanceService.registerAttendance(EVENT_ID, 10L))
+                .thenThrow(new DuplicateResourceException("Attendance for this event and participant already exists"));
+        when(attendanceRepository.findByEventIdAndParticipantId(EVENT_ID, 10L)).thenReturn(Optional.of(registered(10L)));
+        when(attendanceService.registerAttendance(EVENT_ID, 11L)).thenReturn(registered(11L));
+
+        // When
+        registrationQueueService.drainAll();
+
+        // Then
+        assertThat(registrationQueueService.getTicket(redelivered).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        assertThat(registrationQueueService.getTicket(fresh).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Should redeliver an entry whose processing failed before the ones behind it")
+    void shouldRedeliverFailedEntry() {
+        // Given
+        String first = registrationQueueService.enqueue(EVENT_ID, 10L).getTicketId();
+        String second = registrationQueueService.enqueue(EVENT_ID, 11L).getTicketId();
+        when(attendanceService.registerAttendance(EVENT_ID, 10L))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(registered(10L));
+        when(attendanceService.registerAttendance(EVENT_ID, 11L)).thenReturn(registered(11L));
+
+        // When
+        int failedPass = registrationQueueService.drainAll();
+        RegistrationTicketDto.State stateAfterFailure = registrationQueueService.getTicket(first).getState();
+        int retryPass = registrationQueueService.drainAll();
+
+        // Then
+        assertThat(failedPass).isZero();
+        assertThat(stateAfterFailure).isEqualTo(RegistrationTicketDto.State.PENDING);
+        assertThat(retryPass).isEqualTo(2);
+        assertThat(registrationQueueService.getTicket(first).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        assertThat(registrationQueueService.getTicket(second).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        InOrder order = inOrder(attendanceService);
+        order.verify(attendanceService, times(2)).registerAttendance(EVENT_ID, 10L);
+        order.verify(attendanceService).registerAttendance(EVENT_ID, 11L);
+    }
+
+    @Test
+    @DisplayName("Should dead-letter an entry that keeps failing so the queue moves on")
+    void shouldDeadLetterPoisonEntry() {
+        // Given
+        String poison = registrationQueueService.enqueue(EVENT_ID, 10L).getTicketId();
+        String next = registrationQueueService.enqueue(EVENT_ID, 11L).getTicketId();
+        when(attendanceService.registerAttendance(EVENT_ID, 10L)).thenThrow(new IllegalStateException("corrupt row"));
+        when(attendanceService.registerAttendance(EVENT_ID, 11L)).thenReturn(registered(11L));
+
+        // When: two failed deliveries, then the third exceeds max-deliveries
+        registrationQueueService.drainAll();
+        registrationQueueService.drainAll();
+        registrationQueueService.drainAll();
+
+        // Then
+        RegistrationTicketDto rejected = registrationQueueService.getTicket(poison);
+        assertThat(rejected.getState()).isEqualTo(RegistrationTicketDto.State.REJECTED);
+        assertThat(rejected.getProcessedAt()).isNotNull();
+        assertThat(registrationQueueService.getTicket(next).getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        assertThat(redisTemplate.opsForStream().size("registration-queue:dead-letter")).isEqualTo(1);
+        assertThat(redisTemplate.opsForStream().size("registrations:1")).isZero();
+        verify(attendanceService, times(2)).registerAttendance(EVENT_ID, 10L);
+        verify(attendanceService, times(1)).registerAttendance(EVENT_ID, 11L);
+    }
+
+    @Test
+    @DisplayName("Should accept an entry the unique index reports as already registered")
+    void shouldAcceptCommittedRegistrationOnIntegrityViolation() {
+        // Given: a new leader whose bitmap does not have the row the previous leader committed
+        String ticketId = registrationQueueService.enqueue(EVENT_ID, 10L).getTicketId();
+        when(attendanceService.registerAttendance(EVENT_ID, 10L))
+                .thenThrow(new DataIntegrityViolationException("uk_attendances_event_participant"));
+        when(attendanceRepository.findByEventIdAndParticipantId(EVENT_ID, 10L)).thenReturn(Optional.of(registered(10L)));
+
+        // When
+        registrationQueueService.drainAll();
+
+        // Then
+        RegistrationTicketDto ticket = registrationQueueService.getTicket(ticketId);
+        assertThat(ticket.getState()).isEqualTo(RegistrationTicketDto.State.REGISTERED);
+        assertThat(ticket.getAttendanceId()).isEqualTo(100L + 10L);
+    }
+
+    @Test
+    @DisplayName("Should retire the stream of a disabled event once it is drained")
+    void shouldRetireDrainedStreamOfDisabledEvent() {
+        // Given
+        registrationQueueService.enqueue(EVENT_ID, 10L);
+        registrationQueueService.disable(EVENT_ID);
+        when(attendanceService.registerAttendance(EVENT_ID, 10L)).thenReturn(registered(10L));
+
+        // When
+        int processed = registrationQueueService.drainAll();
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        assertThat(redisTemplate.hasKey("registrations:1")).isFalse();
+        assertThat(redisTemplate.opsForSet().isMember("registration-queue:streams", "1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep the stream of an enabled event even when it is empty")
+    void shouldKeepStreamOfEnabledEvent() {
+        // When
+        registrationQueueService.drainAll();
+
+        // Then
+        assertThat(redisTemplate.opsForSet().isMember("registration-queue:streams", "1")).isTrue();
+        assertThat(registrationQueueService.isEnabled(EVENT_ID)).isTrue();
+    }
+
+    private static Attendance registered(Long participantId) {
+        return Attendance.builder()
+                .id(100L + participantId)
+                .eventId(EVENT_ID)
+                .participantId(participantId)
+                .status(AttendanceStatus.REGISTERED)
+                .build();
+    }
+}
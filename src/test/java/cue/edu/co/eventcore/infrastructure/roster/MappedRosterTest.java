@@ -0,0 +1,136 @@
+package cue.edu.co.eventcore.infrastructure.roster;
+
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MappedRoster Unit Tests")
+class MappedRosterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should store and read back entries")
+    void shouldStoreAndReadBackEntries() throws IOException {
+        // Given
+        try (MappedRoster roster = MappedRoster.create(directory.resolve("roster.dat"), 7L, 4)) {
+            // When
+            roster.put(entry(1L, AttendanceStatus.REGISTERED));
+            roster.put(new MappedRoster.Entry(2L, 20L, 1_000L, 2_000L, AttendanceStatus.CHECKED_IN));
+
+            // Then
+            assertThat(roster.size()).isEqualTo(2);
+            assertThat(roster.get(1L).getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
+            assertThat(roster.get(1L).getCheckInMillis()).isNull();
+            assertThat(roster.get(2L).getParticipantId()).isEqualTo(20L);
+            assertThat(roster.get(2L).getCheckInMillis()).isEqualTo(2_000L);
+            assertThat(roster.get(3L)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore entries and pending check-ins after reopening")
+    void shouldRestoreEntriesAndPendingCheckIns() throws IOException {
+        // Given: a roster with one pending check-in, closed as if the process stopped
+        Path file = directory.resolve("roster.dat");
+        try (MappedRoster roster = MappedRoster.create(file, 7L, 4)) {
+            roster.put(entry(1L, AttendanceStatus.REGISTERED));
+            roster.put(entry(2L, AttendanceStatus.REGISTERED));
+            roster.put(entry(3L, AttendanceStatus.CANCELLED));
+            roster.checkIn(1L, 5_000L);
+        }
+
+        // When
+        try (MappedRoster restored = MappedRoster.open(file)) {
+            // Then
+            assertThat(restored.getEventId()).isEqualTo(7L);
+            assertThat(restored.size()).isEqualTo(3);
+            assertThat(restored.dirtyEntries())
+                    .extracting(MappedRoster.Entry::getAttendanceId)
+                    .containsExactly(1L);
+            assertThat(restored.get(1L).getStatus()).isEqualTo(AttendanceStatus.CHECKED_IN);
+            assertThat(restored.get(1L).getCheckInMillis()).isEqualTo(5_000L);
+            assertThat(restored.get(3L).getStatus()).isEqualTo(AttendanceStatus.CANCELLED);
+        }
+    }
+
+    @Test
+    @DisplayName("Should only check in registered or no-show attendances")
+    void shouldOnlyCheckInAllowedStatuses() throws IOException {
+        try (MappedRoster roster = MappedRoster.create(directory.resolve("roster.dat"), 7L, 4)) {
+            // Given
+            roster.put(entry(1L, AttendanceStatus.CANCELLED));
+            roster.put(entry(2L, AttendanceStatus.NO_SHOW));
+
+            // When
+            MappedRoster.Entry cancelled = roster.checkIn(1L, 5_000L);
+            MappedRoster.Entry noShow = roster.checkIn(2L, 5_000L);
+
+            // Then
+            assertThat(cancelled.getStatus()).isEqualTo(AttendanceStatus.CANCELLED);
+            assertThat(roster.get(1L).getStatus()).isEqualTo(AttendanceStatus.CANCELLED);
+            assertThat(noShow.getStatus()).isEqualTo(AttendanceStatus.NO_SHOW);
+            assertThat(roster.get(2L).getStatus()).isEqualTo(AttendanceStatus.CHECKED_IN);
+            assertThat(roster.checkIn(9L, 5_000L)).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should clear the pending flag when flushed or overwritten")
+    void shouldClearPendingFlag() throws IOException {
+        try (MappedRoster roster = MappedRoster.create(directory.resolve("roster.dat"), 7L, 4)) {
+            // Given
+            roster.put(entry(1L, AttendanceStatus.REGISTERED));
+            roster.put(entry(2L, AttendanceStatus.REGISTERED));
+            roster.checkIn(1L, 5_000L);
+            roster.checkIn(2L, 5_000L);
+
+            // When
+            roster.markFlushed(1L);
+            roster.put(entry(2L, AttendanceStatus.CANCELLED));
+
+            // Then
+            assertThat(roster.dirtyEntries()).isEmpty();
+            assertThat(roster.size()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse new entries beyond half the table")
+    void shouldRefuseEntriesWhenFull() throws IOException {
+        try (MappedRoster roster = MappedRoster.create(directory.resolve("roster.dat"), 7L, 1)) {
+            // Given: the minimum table of 32 slots takes 16 entries
+            for (long id = 1; id <= 16; id++) {
+                assertThat(roster.put(entry(id, AttendanceStatus.REGISTERED))).isTrue();
+            }
+
+            // When & Then
+            assertThat(roster.put(entry(17L, AttendanceStatus.REGISTERED))).isFalse();
+            assertThat(roster.put(entry(16L, AttendanceStatus.CANCELLED))).isTrue();
+            assertThat(roster.size()).isEqualTo(16);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not rosters")
+    void shouldRejectForeignFiles() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("other.dat"), new byte[64]);
+
+        // When & Then
+        assertThatThrownBy(() -> MappedRoster.open(file)).isInstanceOf(IOException.class);
+    }
+
+    private static MappedRoster.Entry entry(long attendanceId, AttendanceStatus status) {
+        return new MappedRoster.Entry(attendanceId, attendanceId * 10, 1_000L, null, status);
+    }
+}
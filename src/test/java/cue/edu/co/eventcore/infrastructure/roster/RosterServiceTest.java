@@ -0,0 +1,159 @@
+package cue.edu.co.eventcore.infrastructure.roster;
+
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceResponseDto;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.events.DomainEventType;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import cue.edu.co.eventcore.domain.repositories.AttendanceMembershipRepository;
+import cue.edu.co.eventcore.domain.repositories.EventRepository;
+import cue.edu.co.eventcore.domain.repositories.EventViewRepository;
+import cue.edu.co.eventcore.domain.repositories.OutboxRepository;
+import cue.edu.co.eventcore.domain.repositories.ResourceVersionRepository;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.AttendanceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RosterService Unit Tests")
+class RosterServiceTest {
+
+    @Mock
+    private AttendanceJpaRepository attendanceJpaRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ResourceVersionRepository resourceVersionRepository;
+
+    @Mock
+    private AttendanceMembershipRepository attendanceMembershipRepository;
+
+    @Mock
+    private EventViewRepository eventViewRepository;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RosterService rosterService;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rosterService, "directory", directory.toString());
+        ReflectionTestUtils.setField(rosterService, "flushBatchSize", 500);
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(Event.builder().id(1L).capacity(10).build()));
+        when(attendanceJpaRepository.findResponsesByEventId(1L)).thenReturn(List.of(
+                registered(1L, 10L),
+                registered(2L, 20L)));
+        rosterService.load(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        rosterService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should flush matched check-ins and adopt the database state for rejected ones")
+    void shouldFlushMatchedAndReconcileRejectedCheckIns() {
+        // Given: attendance 2 was cancelled on another node after the roster loaded
+        rosterService.checkIn(1L);
+        rosterService.checkIn(2L);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<MappedRoster.Entry> entries = invocation.getArgument(1);
+                    return new int[][]{entries.stream()
+                            .mapToInt(entry -> entry.getAttendanceId() == 1L ? 1 : 0)
+                            .toArray()};
+                });
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(1L), eq(2L)))
+                .thenReturn(List.of(new MappedRoster.Entry(2L, 20L, null, null, AttendanceStatus.CANCELLED)));
+
+        // When
+        int flushed = rosterService.flushAll();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(rosterService.getStatus(1L).getPendingCheckIns()).isZero();
+        verify(outboxRepository, times(1)).append(argThat(event ->
+                event.getType() == DomainEventType.ATTENDANCE_CHECKED_IN && event.getAggregateId().equals(1L)));
+        verify(attendanceMembershipRepository, times(1)).record(argThat(attendance -> attendance.getId().equals(1L)));
+        verify(resourceVersionRepository).increment(ResourceVersionRepository.participantAttendances(10L));
+        verify(resourceVersionRepository, never()).increment(ResourceVersionRepository.participantAttendances(20L));
+        verify(transactionManager).commit(any());
+        assertThatThrownBy(() -> rosterService.checkIn(2L))
+                .isInstanceOf(BusinessRuleException.class)
+                .hasMessageContaining("cancelled");
+    }
+
+    @Test
+    @DisplayName("Should keep check-ins pending when the flush fails")
+    void shouldKeepCheckInsPendingWhenFlushFails() {
+        // Given: the database is down for the first flush and back for the one on shutdown
+        rosterService.checkIn(1L);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(new int[][]{{1}});
+
+        // When & Then
+        assertThatThrownBy(() -> rosterService.flushAll()).isInstanceOf(IllegalStateException.class);
+        assertThat(rosterService.getStatus(1L).getPendingCheckIns()).isEqualTo(1);
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(outboxRepository);
+    }
+
+    private static AttendanceResponseDto registered(Long id, Long participantId) {
+        return AttendanceResponseDto.builder()
+                .id(id)
+                .eventId(1L)
+                .participantId(participantId)
+                .status(AttendanceStatus.REGISTERED)
+                .registrationDate(LocalDateTime.now().minusDays(1))
+                .build();
+    }
+}
@@ -0,0 +1,188 @@
+package cue.edu.co.eventcore.infrastructure.waitingroom;
+
+import cue.edu.co.eventcore.application.dtos.waitingroom.WaitingRoomStatusDto;
+import cue.edu.co.eventcore.config.RedisContainerTest;
+import cue.edu.co.eventcore.domain.exceptions.BusinessRuleException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("WaitingRoomService Redis Tests")
+class WaitingRoomServiceTest extends RedisContainerTest {
+
+    private static final Long EVENT_ID = 1L;
+
+    private WaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        waitingRoomService = new WaitingRoomService(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should admit the head of the queue up to the accrued budget")
+    void shouldAdmitHeadOfQueueUpToBudget() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 2, 60);
+        for (long participantId = 10; participantId <= 12; participantId++) {
+            waitingRoomService.join(EVENT_ID, participantId);
+        }
+        accrueBudget();
+
+        // When
+        long admitted = waitingRoomService.admitAll();
+        long admittedAgain = waitingRoomService.admitAll();
+
+        // Then: the budget is capped at one second of admissions and spent by the first pass
+        assertThat(admitted).isEqualTo(2);
+        assertThat(admittedAgain).isZero();
+        assertThat(waitingRoomService.getStatus(EVENT_ID, 10L).getState()).isEqualTo(WaitingRoomStatusDto.State.ADMITTED);
+        assertThat(waitingRoomService.getStatus(EVENT_ID, 11L).getState()).isEqualTo(WaitingRoomStatusDto.State.ADMITTED);
+        WaitingRoomStatusDto queued = waitingRoomService.getStatus(EVENT_ID, 12L);
+        assertThat(queued.getState()).isEqualTo(WaitingRoomStatusDto.State.QUEUED);
+        assertThat(queued.getPosition()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should admit nothing on the first pass, before any time has elapsed")
+    void shouldAdmitNothingOnFirstPass() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 100, 60);
+        waitingRoomService.join(EVENT_ID, 10L);
+
+        // When
+        long admitted = waitingRoomService.admitAll();
+
+        // Then
+        assertThat(admitted).isZero();
+        assertThat(waitingRoomService.getStatus(EVENT_ID, 10L).getState()).isEqualTo(WaitingRoomStatusDto.State.QUEUED);
+    }
+
+    @Test
+    @DisplayName("Should share one admission budget between nodes running the script")
+    void shouldShareBudgetBetweenNodes() {
+        // Given
+        WaitingRoomService otherNode = new WaitingRoomService(redisTemplate);
+        waitingRoomService.enable(EVENT_ID, 2, 60);
+        for (long participantId = 10; participantId <= 14; participantId++) {
+            waitingRoomService.join(EVENT_ID, participantId);
+        }
+        accrueBudget();
+
+        // When
+        long admitted = waitingRoomService.admitAll() + otherNode.admitAll();
+
+        // Then
+        assertThat(admitted).isEqualTo(2);
+        assertThat(redisTemplate.opsForZSet().size("waitingroom:1:queue")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the original position when a participant joins again")
+    void shouldKeepPositionOnRepeatedJoin() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 1, 60);
+        waitingRoomService.join(EVENT_ID, 10L);
+        waitingRoomService.join(EVENT_ID, 11L);
+
+        // When
+        WaitingRoomStatusDto rejoined = waitingRoomService.join(EVENT_ID, 10L);
+
+        // Then
+        assertThat(rejoined.getPosition()).isEqualTo(1L);
+        assertThat(waitingRoomService.getStatus(EVENT_ID, 11L).getPosition()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should refuse to queue for an event without a waiting room")
+    void shouldRejectJoinWhenDisabled() {
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomService.join(EVENT_ID, 10L)).isInstanceOf(BusinessRuleException.class);
+    }
+
+    @Test
+    @DisplayName("Should let registrations through when the event has no waiting room")
+    void shouldNotRequireAdmissionWhenDisabled() {
+        // When & Then
+        assertThatCode(() -> waitingRoomService.requireAdmission(EVENT_ID, 10L)).doesNotThrowAnyException();
+        assertThat(waitingRoomService.isEnabled(EVENT_ID)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require a valid admission once the waiting room is enabled")
+    void shouldRequireAdmissionWhenEnabled() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 1, 60);
+        waitingRoomService.join(EVENT_ID, 10L);
+
+        // When & Then: queued but not yet admitted
+        assertThatThrownBy(() -> waitingRoomService.requireAdmission(EVENT_ID, 10L))
+                .isInstanceOf(WaitingRoomAdmissionException.class);
+
+        accrueBudget();
+        waitingRoomService.admitAll();
+        assertThatCode(() -> waitingRoomService.requireAdmission(EVENT_ID, 10L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject an admission whose window has passed and purge it on the next pass")
+    void shouldRejectExpiredAdmission() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 1, 60);
+        redisTemplate.opsForZSet().add("waitingroom:1:admitted", "10", redisTime() - 1000);
+
+        // When & Then
+        assertThatThrownBy(() -> waitingRoomService.requireAdmission(EVENT_ID, 10L))
+                .isInstanceOf(WaitingRoomAdmissionException.class);
+        waitingRoomService.admitAll();
+        assertThat(redisTemplate.opsForZSet().score("waitingroom:1:admitted", "10")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should honour an admission until the Redis clock passes its expiry")
+    void shouldJudgeExpiryByRedisClock() {
+        // Given: an admission valid for one more minute of Redis time
+        waitingRoomService.enable(EVENT_ID, 1, 60);
+        redisTemplate.opsForZSet().add("waitingroom:1:admitted", "10", redisTime() + 60_000);
+
+        // When
+        WaitingRoomStatusDto status = waitingRoomService.getStatus(EVENT_ID, 10L);
+
+        // Then
+        assertThat(status.getState()).isEqualTo(WaitingRoomStatusDto.State.ADMITTED);
+        assertThatCode(() -> waitingRoomService.requireAdmission(EVENT_ID, 10L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should stop requiring admission and drop the queue when disabled")
+    void shouldDropStateWhenDisabled() {
+        // Given
+        waitingRoomService.enable(EVENT_ID, 1, 60);
+        waitingRoomService.join(EVENT_ID, 10L);
+
+        // When
+        waitingRoomService.disable(EVENT_ID);
+
+        // Then
+        assertThatCode(() -> waitingRoomService.requireAdmission(EVENT_ID, 11L)).doesNotThrowAnyException();
+        assertThat(redisTemplate.keys("waitingroom:1:*")).isEmpty();
+        assertThat(waitingRoomService.admitAll()).isZero();
+    }
+
+    /**
+     * Move the last admission tick five seconds back on the Redis clock, so a full second of budget has accrued
+     */
+    private void accrueBudget() {
+        redisTemplate.opsForHash().put("waitingroom:1:config", "last_tick", String.valueOf(redisTime() - 5000));
+    }
+
+    private static long redisTime() {
+        Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        return now != null ? now : 0L;
+    }
+}
@@ -0,0 +1,215 @@
+package cue.edu.co.eventcore.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cue.edu.co.eventcore.config.TestConfig;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.Participant;
+import cue.edu.co.eventcore.domain.services.EventService;
+import cue.edu.co.eventcore.domain.services.ParticipantService;
+import cue.edu.co.eventcore.infrastructure.cache.CacheService;
+import cue.edu.co.eventcore.infrastructure.cache.ContentEncoding;
+import cue.edu.co.eventcore.infrastructure.cache.ResponseCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Batch lookups through GET /events?ids= and GET /participants?ids= against the database,
+ * with the response byte cache mocked so hits, misses and back-fills can be observed
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@Transactional
+@DisplayName("Batch Lookup Integration Tests")
+class BatchLookupIntegrationTest {
+
+    private static final long UNKNOWN_ID = 999_999L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ParticipantService participantService;
+
+    @MockitoBean
+    private ResponseCacheService responseCacheService;
+
+    @Test
+    @DisplayName("Should return events in request order, collapsing duplicates and skipping unknown ids")
+    void shouldReturnEventsInRequestOrder() throws Exception {
+        // Given
+        Long a = eventService.createEvent(createTestEvent("Event A")).getId();
+        Long b = eventService.createEvent(createTestEvent("Event B")).getId();
+        Long c = eventService.createEvent(createTestEvent("Event C")).getId();
+
+        // When
+        JsonNode body = getBatch("/events", c, a, UNKNOWN_ID, c, b);
+
+        // Then
+        assertThat(ids(body)).containsExactly(c, a, b);
+        verify(responseCacheService).getIdentityBodies(List.of(
+                CacheService.eventKey(c), CacheService.eventKey(a), CacheService.eventKey(UNKNOWN_ID), CacheService.eventKey(b)));
+        assertThat(backFilledKeys()).containsExactlyInAnyOrder(
+                CacheService.eventKey(a), CacheService.eventKey(b), CacheService.eventKey(c));
+    }
+
+    @Test
+    @DisplayName("Should splice cached events as stored and back-fill only the misses")
+    void shouldSpliceCachedEventsAndBackFillMisses() throws Exception {
+        // Given
+        Long a = eventService.createEvent(createTestEvent("Event A")).getId();
+        Long b = eventService.createEvent(createTestEvent("Event B")).getId();
+        when(responseCacheService.getIdentityBodies(anyList()))
+                .thenReturn(Map.of(CacheService.eventKey(a), cachedBody(a)));
+
+        // When
+        JsonNode body = getBatch("/events", a, b);
+
+        // Then
+        assertThat(ids(body)).containsExactly(a, b);
+        assertThat(body.get(0).get("name").asText()).isEqualTo("Cached");
+        assertThat(body.get(1).get("name").asText()).isEqualTo("Event B");
+        ResponseCacheService.Entry entry = singleBackFill();
+        assertThat(entry.key()).isEqualTo(CacheService.eventKey(b));
+        assertThat(entry.etag()).isNotBlank();
+        assertThat(objectMapper.readTree(entry.variants().get(ContentEncoding.IDENTITY)).get("id").asLong()).isEqualTo(b);
+    }
+
+    @Test
+    @DisplayName("Should return participants in request order, collapsing duplicates and skipping unknown ids")
+    void shouldReturnParticipantsInRequestOrder() throws Exception {
+        // Given
+        Long a = participantService.createParticipant(createTestParticipant("a")).getId();
+        Long b = participantService.createParticipant(createTestParticipant("b")).getId();
+        Long c = participantService.createParticipant(createTestParticipant("c")).getId();
+
+        // When
+        JsonNode body = getBatch("/participants", c, a, UNKNOWN_ID, c, b);
+
+        // Then
+        assertThat(ids(body)).containsExactly(c, a, b);
+        verify(responseCacheService).getIdentityBodies(List.of(CacheService.participantKey(c),
+                CacheService.participantKey(a), CacheService.participantKey(UNKNOWN_ID), CacheService.participantKey(b)));
+        assertThat(backFilledKeys()).containsExactlyInAnyOrder(
+                CacheService.participantKey(a), CacheService.participantKey(b), CacheService.participantKey(c));
+    }
+
+    @Test
+    @DisplayName("Should splice cached participants as stored and back-fill only the misses")
+    void shouldSpliceCachedParticipantsAndBackFillMisses() throws Exception {
+        // Given
+        Long a = participantService.createParticipant(createTestParticipant("a")).getId();
+        Long b = participantService.createParticipant(createTestParticipant("b")).getId();
+        when(responseCacheService.getIdentityBodies(anyList()))
+                .thenReturn(Map.of(CacheService.participantKey(a), cachedBody(a)));
+
+        // When
+        JsonNode body = getBatch("/participants", a, b);
+
+        // Then
+        assertThat(ids(body)).containsExactly(a, b);
+        assertThat(body.get(0).get("name").asText()).isEqualTo("Cached");
+        assertThat(body.get(1).get("email").asText()).isEqualTo("b@example.com");
+        ResponseCacheService.Entry entry = singleBackFill();
+        assertThat(entry.key()).isEqualTo(CacheService.participantKey(b));
+        assertThat(entry.etag()).isNotBlank();
+        assertThat(objectMapper.readTree(entry.variants().get(ContentEncoding.IDENTITY)).get("id").asLong()).isEqualTo(b);
+    }
+
+    private JsonNode getBatch(String path, Long... ids) throws Exception {
+        List<String> values = new ArrayList<>();
+        for (Long id : ids) {
+            values.add(String.valueOf(id));
+        }
+        byte[] body = mockMvc.perform(get(path).param("ids", String.join(",", values)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+        return objectMapper.readTree(body);
+    }
+
+    private static List<Long> ids(JsonNode array) {
+        List<Long> ids = new ArrayList<>();
+        array.forEach(element -> ids.add(element.get("id").asLong()));
+        return ids;
+    }
+
+    private List<String> backFilledKeys() {
+        return backFilled().stream().map(ResponseCacheService.Entry::key).toList();
+    }
+
+    private ResponseCacheService.Entry singleBackFill() {
+        List<ResponseCacheService.Entry> entries = backFilled();
+        assertThat(entries).hasSize(1);
+        return entries.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ResponseCacheService.Entry> backFilled() {
+        ArgumentCaptor<Collection<ResponseCacheService.Entry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(responseCacheService).putAll(captor.capture(), any(Duration.class));
+        return new ArrayList<>(captor.getValue());
+    }
+
+    /**
+     * A stored body that differs from what the database would serialize, so splicing is observable
+     */
+    private static byte[] cachedBody(Long id) {
+        return ("{\"id\":" + id + ",\"name\":\"Cached\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Event createTestEvent(String name) {
+        return Event.builder()
+                .name(name)
+                .description("Test Description")
+                .location("Test Location")
+                .startDate(LocalDateTime.now().plusDays(1))
+                .endDate(LocalDateTime.now().plusDays(2))
+                .capacity(100)
+                .build();
+    }
+
+    private Participant createTestParticipant(String handle) {
+        return Participant.builder()
+                .firstName("Test")
+                .lastName(handle.toUpperCase())
+                .email(handle + "@example.com")
+                .phone("1234567890")
+                .documentNumber("DOC-" + handle)
+                .build();
+    }
+}
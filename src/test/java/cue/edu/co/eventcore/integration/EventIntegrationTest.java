@@ -1,10 +1,21 @@
 package cue.edu.co.eventcore.integration;
 
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucket;
+import cue.edu.co.eventcore.application.dtos.event.CalendarBucketDto;
+import cue.edu.co.eventcore.application.dtos.event.CalendarPageDto;
+import cue.edu.co.eventcore.application.dtos.event.EventResponseDto;
+import cue.edu.co.eventcore.application.dtos.event.EventViewDto;
+import cue.edu.co.eventcore.application.queries.EventQueryService;
+import cue.edu.co.eventcore.application.queries.EventViewQueryService;
 import cue.edu.co.eventcore.config.TestConfig;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
 import cue.edu.co.eventcore.domain.entities.Event;
 import cue.edu.co.eventcore.domain.entities.EventStatus;
+import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
 import cue.edu.co.eventcore.domain.repositories.EventRepository;
 import cue.edu.co.eventcore.domain.services.EventService;
+import cue.edu.co.eventcore.infrastructure.lifecycle.EventLifecycleService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +42,18 @@ class EventIntegrationTest {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private EventQueryService eventQueryService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EventLifecycleService eventLifecycleService;
+
+    @Autowired
+    private EventViewQueryService eventViewQueryService;
+
     @Test
     @DisplayName("Should create and retrieve event")
     void shouldCreateAndRetrieveEvent() {
@@ -97,6 +120,127 @@ class EventIntegrationTest {
         assertThat(updatedEvent.getCapacity()).isEqualTo(200);
     }
 
+    @Test
+    @DisplayName("Should project event directly into response DTO")
+    void shouldProjectEventIntoResponseDto() {
+        // Given
+        Event createdEvent = eventService.createEvent(createTestEvent("Projected Event", 1, 2));
+
+        // When
+        EventResponseDto responseDto = eventQueryService.getEventById(createdEvent.getId());
+
+        // Then
+        assertThat(responseDto.getName()).isEqualTo("Projected Event");
+        assertThat(responseDto.getCurrentAttendees()).isZero();
+        assertThat(responseDto.getAvailableSpots()).isEqualTo(100);
+        assertThat(responseDto.getStatus()).isEqualTo(EventStatus.ACTIVE);
+        assertThat(eventQueryService.getUpcomingEvents())
+                .extracting(EventResponseDto::getId)
+                .contains(createdEvent.getId());
+    }
+
+    @Test
+    @DisplayName("Should page calendar events and bucket them by day and week")
+    void shouldPageAndSummarizeCalendar() {
+        // Given: a fixed Monday-to-Monday window so weeks are deterministic
+        LocalDateTime monday = LocalDateTime.of(2031, 3, 3, 0, 0);
+        Event first = eventService.createEvent(createCalendarEvent("Monday Event", monday.plusHours(9)));
+        Event second = eventService.createEvent(createCalendarEvent("Monday Late Event", monday.plusHours(18)));
+        Event third = eventService.createEvent(createCalendarEvent("Next Week Event", monday.plusDays(8)));
+        LocalDateTime to = monday.plusDays(14);
+
+        // When
+        CalendarPageDto firstPage = eventQueryService.getCalendarPage(monday, to, null, 2, null);
+        CalendarPageDto secondPage = eventQueryService.getCalendarPage(monday, to, null, 2, firstPage.getNextCursor());
+        List<CalendarBucketDto> days = eventQueryService.getCalendarSummary(monday, to, null, CalendarBucket.DAY);
+        List<CalendarBucketDto> weeks = eventQueryService.getCalendarSummary(monday, to, null, CalendarBucket.WEEK);
+
+        // Then
+        assertThat(firstPage.getEvents()).extracting(EventResponseDto::getId)
+                .containsExactly(first.getId(), second.getId());
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(secondPage.getEvents()).extracting(EventResponseDto::getId).containsExactly(third.getId());
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat(days).containsExactly(
+                new CalendarBucketDto(monday.toLocalDate(), 2L),
+                new CalendarBucketDto(monday.toLocalDate().plusDays(8), 1L));
+        assertThat(weeks).containsExactly(
+                new CalendarBucketDto(monday.toLocalDate(), 2L),
+                new CalendarBucketDto(monday.toLocalDate().plusDays(7), 1L));
+    }
+
+    @Test
+    @DisplayName("Should complete ended events, mark no-shows and cancel the waitlist")
+    void shouldCompleteEndedEventsAndCloseAttendances() {
+        // Given: an event that ended yesterday, with one check-in, one absent registration and one waitlisted entry
+        Event ended = eventRepository.save(Event.builder()
+                .name("Ended Event")
+                .startDate(LocalDateTime.now().minusDays(2))
+                .endDate(LocalDateTime.now().minusDays(1))
+                .capacity(100)
+                .currentAttendees(2)
+                .status(EventStatus.ACTIVE)
+                .build());
+        Event upcoming = eventService.createEvent(createTestEvent("Upcoming Event", 1, 2));
+        attendanceRepository.save(createAttendance(ended.getId(), 1L, AttendanceStatus.CHECKED_IN));
+        attendanceRepository.save(createAttendance(ended.getId(), 2L, AttendanceStatus.REGISTERED));
+        attendanceRepository.save(createAttendance(ended.getId(), 3L, AttendanceStatus.WAITLISTED));
+
+        // When
+        List<Long> completed = eventLifecycleService.completeEndedEvents(() -> true);
+        int closed = eventLifecycleService.closeAttendances(() -> true);
+
+        // Then
+        assertThat(completed).contains(ended.getId()).doesNotContain(upcoming.getId());
+        assertThat(closed).isEqualTo(2);
+        assertThat(eventQueryService.getEventById(ended.getId()).getStatus()).isEqualTo(EventStatus.COMPLETED);
+        assertThat(eventQueryService.getEventById(upcoming.getId()).getStatus()).isEqualTo(EventStatus.ACTIVE);
+        assertThat(attendanceRepository.countByEventIdAndStatus(ended.getId(), AttendanceStatus.NO_SHOW)).isEqualTo(1);
+        assertThat(attendanceRepository.countByEventIdAndStatus(ended.getId(), AttendanceStatus.CHECKED_IN)).isEqualTo(1);
+        assertThat(attendanceRepository.countByEventIdAndStatus(ended.getId(), AttendanceStatus.WAITLISTED)).isZero();
+        assertThat(attendanceRepository.countByEventIdAndStatus(ended.getId(), AttendanceStatus.CANCELLED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the event page view from the database")
+    void shouldRebuildEventView() {
+        // Given
+        Event event = eventService.createEvent(createTestEvent("Viewed Event", 1, 2));
+        attendanceRepository.save(createAttendance(event.getId(), 1L, AttendanceStatus.REGISTERED));
+        attendanceRepository.save(createAttendance(event.getId(), 2L, AttendanceStatus.REGISTERED));
+        attendanceRepository.save(createAttendance(event.getId(), 3L, AttendanceStatus.WAITLISTED));
+
+        // When
+        EventViewDto view = eventViewQueryService.getEventView(event.getId());
+
+        // Then
+        assertThat(view.getName()).isEqualTo("Viewed Event");
+        assertThat(view.getTotalRegistered()).isEqualTo(2);
+        assertThat(view.getTotalWaitlisted()).isEqualTo(1);
+        assertThat(view.getTotalCheckedIn()).isZero();
+        assertThat(view.getAvailableSpots()).isEqualTo(100);
+    }
+
+    private Attendance createAttendance(Long eventId, Long participantId, AttendanceStatus status) {
+        return Attendance.builder()
+                .eventId(eventId)
+                .participantId(participantId)
+                .status(status)
+                .registrationDate(LocalDateTime.now().minusDays(3))
+                .build();
+    }
+
+    private Event createCalendarEvent(String name, LocalDateTime startDate) {
+        return Event.builder()
+                .name(name)
+                .description("Test Description")
+                .location("Test Location")
+                .startDate(startDate)
+                .endDate(startDate.plusHours(2))
+                .capacity(100)
+                .build();
+    }
+
     private Event createTestEvent(String name, int startDaysFromNow, int endDaysFromNow) {
         return Event.builder()
                 .name(name)
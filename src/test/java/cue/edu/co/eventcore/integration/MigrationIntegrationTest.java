@@ -0,0 +1,166 @@
+package cue.edu.co.eventcore.integration;
+
+import cue.edu.co.eventcore.config.PostgresContainerTest;
+import cue.edu.co.eventcore.infrastructure.persistence.models.AttendanceJpaEntity;
+import cue.edu.co.eventcore.infrastructure.persistence.models.AttendanceKeyJpaEntity;
+import cue.edu.co.eventcore.infrastructure.persistence.models.EventJpaEntity;
+import cue.edu.co.eventcore.infrastructure.persistence.models.ParticipantJpaEntity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * Applies the Flyway migrations to PostgreSQL and checks the schema they produce
+ * The H2 test schema is built from the entity declarations, so the index checks keep the two in step
+ */
+@DisplayName("Migration Integration Tests")
+class MigrationIntegrationTest extends PostgresContainerTest {
+
+    @Test
+    @DisplayName("Should apply every migration and validate their checksums")
+    void shouldApplyAndValidateMigrations() {
+        // When
+        Flyway flyway = flyway(null);
+        flyway.migrate();
+
+        // Then
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied())
+                .isNotEmpty()
+                .extracting(MigrationInfo::getState)
+                .containsOnly(MigrationState.SUCCESS);
+        assertThatCode(flyway::validate).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should create every index the entities declare, with the same columns")
+    void shouldCreateEntityIndexes() {
+        // Given
+        flyway(null).migrate();
+
+        for (Class<?> entity : List.of(AttendanceJpaEntity.class, AttendanceKeyJpaEntity.class,
+                EventJpaEntity.class, ParticipantJpaEntity.class)) {
+            Table table = entity.getAnnotation(Table.class);
+            for (Index index : table.indexes()) {
+                // When
+                String definition = jdbcTemplate.queryForObject(
+                        "SELECT indexdef FROM pg_indexes WHERE tablename = ? AND indexname = ?",
+                        String.class, table.name(), index.name());
+
+                // Then
+                assertThat(definition).as(index.name()).contains("(" + index.columnList() + ")");
+                assertThat(definition.startsWith("CREATE UNIQUE INDEX")).as(index.name()).isEqualTo(index.unique());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should count attendances by event and status through the covering index")
+    void shouldCountAttendancesByEventAndStatusWithIndex() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String plan = explain("SELECT COUNT(*) FROM attendances WHERE event_id = 1 AND status = 'REGISTERED'");
+
+        // Then
+        assertThat(plan).contains(partitionIndex("idx_attendances_event_status", "attendances_p0"))
+                .doesNotContain("seq scan");
+    }
+
+    @Test
+    @DisplayName("Should find the waitlist head through the covering index")
+    void shouldFindWaitlistHeadWithIndex() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String plan = explain("SELECT id FROM attendances WHERE event_id = 1 AND status = 'WAITLISTED' "
+                + "ORDER BY registration_date, id LIMIT 1");
+
+        // Then
+        assertThat(plan).contains(partitionIndex("idx_attendances_event_status", "attendances_p0"))
+                .doesNotContain("seq scan", "sort");
+    }
+
+    @Test
+    @DisplayName("Should list upcoming active events through a start date index")
+    void shouldListUpcomingEventsWithIndex() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String plan = explain("SELECT id FROM events WHERE status = 'ACTIVE' "
+                + "AND start_date > TIMESTAMP '2030-01-01 00:00:00' ORDER BY start_date");
+
+        // Then
+        assertThat(plan).containsAnyOf("idx_events_active_upcoming", "idx_events_status_start_date")
+                .doesNotContain("seq scan");
+    }
+
+    @Test
+    @DisplayName("Should find the events of a participant through the attendance keys")
+    void shouldFindParticipantEventsWithIndex() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String plan = explain("SELECT event_id FROM attendance_keys WHERE participant_id = 1");
+
+        // Then
+        assertThat(plan).contains("idx_attendance_keys_participant").doesNotContain("seq scan");
+    }
+
+    @Test
+    @DisplayName("Should look up participants by email through a unique index")
+    void shouldFindParticipantByEmailWithIndex() {
+        // Given
+        flyway(null).migrate();
+
+        // When
+        String plan = explain("SELECT id FROM participants WHERE email = 'ana@example.com'");
+
+        // Then
+        assertThat(plan).contains("index").doesNotContain("seq scan");
+    }
+
+    /**
+     * Name of the partition's copy of an index created on the partitioned parent
+     */
+    private String partitionIndex(String parentIndex, String partition) {
+        return jdbcTemplate.queryForObject("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = ?::regclass AND c.relname LIKE ?", String.class, parentIndex, partition + "\\_%");
+    }
+
+    /**
+     * Plan of a query on empty tables, with sequential scans priced out so the test shows whether an index applies
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            List<String> lines = new ArrayList<>();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try (ResultSet plan = statement.executeQuery("EXPLAIN " + sql)) {
+                    while (plan.next()) {
+                        lines.add(plan.getString(1));
+                    }
+                }
+            }
+            return String.join("\n", lines).toLowerCase(Locale.ROOT);
+        });
+    }
+}
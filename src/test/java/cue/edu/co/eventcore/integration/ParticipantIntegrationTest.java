@@ -1,11 +1,26 @@
 package cue.edu.co.eventcore.integration;
 
+import cue.edu.co.eventcore.application.dtos.attendance.AttendanceHistoryDto;
+import cue.edu.co.eventcore.application.dtos.common.PageResponseDto;
+import cue.edu.co.eventcore.application.dtos.participant.ParticipantImportResultDto;
+import cue.edu.co.eventcore.application.queries.AttendanceQueryService;
 import cue.edu.co.eventcore.config.TestConfig;
+import cue.edu.co.eventcore.domain.entities.Attendance;
+import cue.edu.co.eventcore.domain.entities.AttendanceStatus;
+import cue.edu.co.eventcore.domain.entities.Event;
+import cue.edu.co.eventcore.domain.entities.EventStatus;
 import cue.edu.co.eventcore.domain.entities.Participant;
 import cue.edu.co.eventcore.domain.entities.ParticipantStatus;
+import cue.edu.co.eventcore.domain.repositories.AttendanceRepository;
+import cue.edu.co.eventcore.domain.repositories.EventRepository;
 import cue.edu.co.eventcore.domain.repositories.ParticipantRepository;
 import cue.edu.co.eventcore.domain.services.ParticipantService;
 import cue.edu.co.eventcore.domain.exceptions.DuplicateResourceException;
+import cue.edu.co.eventcore.infrastructure.erasure.ParticipantErasureService;
+import cue.edu.co.eventcore.infrastructure.importing.ImportFormat;
+import cue.edu.co.eventcore.infrastructure.importing.ParticipantImportService;
+import cue.edu.co.eventcore.infrastructure.persistence.jpa.OutboxEventJpaRepository;
+import cue.edu.co.eventcore.infrastructure.persistence.models.OutboxEventJpaEntity;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +29,9 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,6 +50,24 @@ class ParticipantIntegrationTest {
     @Autowired
     private ParticipantRepository participantRepository;
 
+    @Autowired
+    private ParticipantImportService participantImportService;
+
+    @Autowired
+    private ParticipantErasureService participantErasureService;
+
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private AttendanceQueryService attendanceQueryService;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
     @Test
     @DisplayName("Should create and retrieve participant")
     void shouldCreateAndRetrieveParticipant() {
@@ -99,6 +135,111 @@ class ParticipantIntegrationTest {
         assertThat(participants).hasSizeGreaterThanOrEqualTo(2);
     }
 
+    @Test
+    @DisplayName("Should import participants and report invalid and duplicate rows")
+    void shouldImportParticipantsAndReportRejectedRows() {
+        // Given
+        participantService.createParticipant(createTestParticipant("existing@example.com", "99999999"));
+        String csv = """
+                first_name,last_name,email,phone,document_number
+                Ana,Lopez,ana@example.com,3001234567,10000001
+                Luis,Perez,luis@example.com,,10000002
+                Other,Person,existing@example.com,,10000003
+                X,Invalid,not-an-email,,1
+                """;
+
+        // When
+        ParticipantImportResultDto result = participantImportService.importParticipants(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), ImportFormat.CSV);
+
+        // Then
+        assertThat(result.getReceived()).isEqualTo(4);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getDuplicates()).isEqualTo(1);
+        assertThat(result.getInvalid()).isEqualTo(1);
+        assertThat(participantRepository.existsByEmail("luis@example.com")).isTrue();
+        Long luisId = participantRepository.findByEmail("luis@example.com").orElseThrow().getId();
+        assertThat(outboxEventJpaRepository.findAll())
+                .filteredOn(event -> event.getEventType().equals("PARTICIPANT_CREATED"))
+                .extracting(OutboxEventJpaEntity::getAggregateId)
+                .hasSize(3)
+                .contains(luisId);
+    }
+
+    @Test
+    @DisplayName("Should anonymize participants with attendance history and delete the rest")
+    void shouldEraseParticipantChunk() {
+        // Given
+        Participant attended = participantService.createParticipant(createTestParticipant("attended@example.com", "E1"));
+        Participant unused = participantService.createParticipant(createTestParticipant("unused@example.com", "E2"));
+        attendanceRepository.save(Attendance.builder()
+                .eventId(1L)
+                .participantId(attended.getId())
+                .status(AttendanceStatus.CHECKED_IN)
+                .registrationDate(LocalDateTime.now())
+                .build());
+
+        // When
+        ParticipantErasureService.ChunkResult result =
+                participantErasureService.eraseChunk(List.of(attended.getId(), unused.getId()));
+
+        // Then
+        assertThat(result.anonymized()).isEqualTo(1);
+        assertThat(result.deleted()).isEqualTo(1);
+        assertThat(participantRepository.existsById(unused.getId())).isFalse();
+        assertThat(participantRepository.existsById(attended.getId())).isTrue();
+        assertThat(participantRepository.existsByEmail("attended@example.com")).isFalse();
+        assertThat(participantRepository.existsByEmail("erased-" + attended.getId() + "@invalid.local")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should page the attendance history of a participant with event summaries")
+    void shouldPageParticipantHistoryWithEventSummaries() {
+        // Given: one past and one upcoming attendance
+        Participant participant = participantService.createParticipant(createTestParticipant("history@example.com", "H1"));
+        Event past = eventRepository.save(createEvent("Past Event", LocalDateTime.now().minusDays(10)));
+        Event upcoming = eventRepository.save(createEvent("Upcoming Event", LocalDateTime.now().plusDays(10)));
+        attendanceRepository.save(createAttendance(past.getId(), participant.getId(), AttendanceStatus.CHECKED_IN));
+        attendanceRepository.save(createAttendance(upcoming.getId(), participant.getId(), AttendanceStatus.REGISTERED));
+
+        // When
+        PageResponseDto<AttendanceHistoryDto> firstPage =
+                attendanceQueryService.getParticipantHistory(participant.getId(), null, 0, 1);
+        PageResponseDto<AttendanceHistoryDto> checkedIn =
+                attendanceQueryService.getParticipantHistory(participant.getId(), AttendanceStatus.CHECKED_IN, 0, 10);
+
+        // Then: newest events first, each row carrying its event summary
+        assertThat(firstPage.getTotalElements()).isEqualTo(2);
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(firstPage.getContent()).singleElement().satisfies(entry -> {
+            assertThat(entry.getStatus()).isEqualTo(AttendanceStatus.REGISTERED);
+            assertThat(entry.getEvent().getName()).isEqualTo("Upcoming Event");
+            assertThat(entry.getEvent().getLocation()).isEqualTo("Test Location");
+        });
+        assertThat(checkedIn.getContent()).extracting(entry -> entry.getEvent().getId()).containsExactly(past.getId());
+    }
+
+    private Event createEvent(String name, LocalDateTime startDate) {
+        return Event.builder()
+                .name(name)
+                .location("Test Location")
+                .startDate(startDate)
+                .endDate(startDate.plusHours(2))
+                .capacity(100)
+                .currentAttendees(0)
+                .status(EventStatus.ACTIVE)
+                .build();
+    }
+
+    private Attendance createAttendance(Long eventId, Long participantId, AttendanceStatus status) {
+        return Attendance.builder()
+                .eventId(eventId)
+                .participantId(participantId)
+                .status(status)
+                .registrationDate(LocalDateTime.now())
+                .build();
+    }
+
     private Participant createTestParticipant(String email, String documentNumber) {
         return Participant.builder()
                 .firstName("Test")